@@ -24,6 +24,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
@@ -68,6 +69,7 @@ public class RepositoryFinderBenchmarks {
 
 		EntityManager entityManager;
 		PersonRepository repositoryProxy;
+		Integer personId;
 
 		@Setup(Level.Iteration)
 		public void doSetup() {
@@ -95,6 +97,9 @@ public class RepositoryFinderBenchmarks {
 				}
 			}
 
+			this.personId = entityManager
+					.createQuery("SELECT p.id FROM org.springframework.data.jpa.benchmark.model.Person p", Integer.class)
+					.setMaxResults(1).getSingleResult();
 			this.repositoryProxy = createRepository();
 		}
 
@@ -136,6 +141,16 @@ public class RepositoryFinderBenchmarks {
 		return parameters.createRepository();
 	}
 
+	@Benchmark
+	public Person baselineEntityManagerFind(BenchmarkParameters parameters) {
+		return parameters.entityManager.find(Person.class, parameters.personId);
+	}
+
+	@Benchmark
+	public Optional<Person> findById(BenchmarkParameters parameters) {
+		return parameters.repositoryProxy.findById(parameters.personId);
+	}
+
 	@Benchmark
 	public List<Person> baselineEntityManagerCriteriaQuery(BenchmarkParameters parameters) {
 
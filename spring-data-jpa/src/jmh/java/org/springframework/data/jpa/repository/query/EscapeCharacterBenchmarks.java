@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.repository.query.ParameterBinding.BindingIdentifier;
+import org.springframework.data.jpa.repository.query.ParameterBinding.LikeParameterBinding;
+import org.springframework.data.jpa.repository.query.ParameterBinding.ParameterOrigin;
+import org.springframework.data.repository.query.parser.Part.Type;
+
+/**
+ * Benchmarks for escaping and wrapping {@code LIKE} parameter values.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class EscapeCharacterBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		@Param({ "Matthews", "100%_match" }) String value;
+
+		EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
+		LikeParameterBinding binding = new LikeParameterBinding(BindingIdentifier.of(1), ParameterOrigin.ofParameter(1),
+				Type.CONTAINING);
+	}
+
+	@Benchmark
+	public Object escape(BenchmarkParameters parameters) {
+		return parameters.escapeCharacter.escape(parameters.value);
+	}
+
+	@Benchmark
+	public Object escapeAndWrap(BenchmarkParameters parameters) {
+		return parameters.escapeCharacter.escapeAndWrap(parameters.value, true, true);
+	}
+
+	@Benchmark
+	public Object prepareLikeBinding(BenchmarkParameters parameters) {
+		return parameters.binding.prepare(parameters.value);
+	}
+}
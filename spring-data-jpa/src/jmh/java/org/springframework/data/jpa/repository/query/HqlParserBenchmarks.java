@@ -65,4 +65,9 @@ public class HqlParserBenchmarks {
 		return parameters.enhancer.applySorting(parameters.sort);
 	}
 
+	@Benchmark
+	public Object createCountQuery(BenchmarkParameters parameters) {
+		return parameters.enhancer.createCountQueryFor();
+	}
+
 }
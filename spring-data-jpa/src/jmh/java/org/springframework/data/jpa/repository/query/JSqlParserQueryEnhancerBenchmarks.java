@@ -44,8 +44,8 @@ public class JSqlParserQueryEnhancerBenchmarks {
 	public static class BenchmarkParameters {
 
 		JSqlParserQueryEnhancer enhancer;
+		JSqlParserQueryEnhancer reportingEnhancer;
 		Sort sort = Sort.by("foo");
-		private byte[] serialized;
 
 		@Setup(Level.Iteration)
 		public void doSetup() throws IOException {
@@ -57,6 +57,21 @@ public class JSqlParserQueryEnhancerBenchmarks {
 					union select SOME_COLUMN from SOME_OTHER_OTHER_TABLE""";
 
 			enhancer = new JSqlParserQueryEnhancer(DeclaredQuery.of(s, true));
+
+			StringBuilder reporting = new StringBuilder("select r.REPORTING_DATE, r.REGION");
+
+			for (int i = 0; i < 100; i++) {
+				reporting.append(", sum(r.AMOUNT_").append(i).append(") as TOTAL_").append(i);
+			}
+
+			reporting.append("""
+					 from REPORT r
+					 join REGION g on r.REGION = g.ID
+					 where r.REPORTING_DATE between :FROM and :TO and g.NAME like :REGION
+					 group by r.REPORTING_DATE, r.REGION
+					 order by r.REPORTING_DATE""");
+
+			reportingEnhancer = new JSqlParserQueryEnhancer(DeclaredQuery.of(reporting.toString(), true));
 		}
 	}
 
@@ -65,4 +80,19 @@ public class JSqlParserQueryEnhancerBenchmarks {
 		return p.enhancer.applySorting(p.sort);
 	}
 
+	@Benchmark
+	public Object applySortToLargeQuery(BenchmarkParameters p) {
+		return p.reportingEnhancer.applySorting(p.sort);
+	}
+
+	@Benchmark
+	public Object createCountQueryForLargeQuery(BenchmarkParameters p) {
+		return p.reportingEnhancer.createCountQueryFor();
+	}
+
+	@Benchmark
+	public Object parseAndApplySortToLargeQuery(BenchmarkParameters p) {
+		return new JSqlParserQueryEnhancer(p.reportingEnhancer.getQuery()).applySorting(p.sort);
+	}
+
 }
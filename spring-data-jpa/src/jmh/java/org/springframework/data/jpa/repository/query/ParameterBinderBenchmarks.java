@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.Parameter;
+import jakarta.persistence.Query;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.repository.query.ParameterBinding.BindingIdentifier;
+import org.springframework.data.jpa.repository.query.QueryParameterSetterFactory.ParameterImpl;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+
+/**
+ * Benchmarks for binding method arguments to a {@link Query} through a {@link ParameterBinder}, using a {@link Query}
+ * stub that does not perform any work itself.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class ParameterBinderBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		ParameterBinder binder;
+		ParameterBinder expressionBinder;
+		QueryParameterSetter.QueryMetadata metadata;
+		JpaParametersParameterAccessor accessor;
+		Query query;
+
+		@Setup(Level.Iteration)
+		public void doSetup() throws NoSuchMethodException {
+
+			Method method = BindingRepository.class.getMethod("findBy", String.class, String.class, Integer.class);
+			JpaParameters parameters = new JpaParameters(ParametersSource.of(method));
+			ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+			DeclaredQuery declaredQuery = DeclaredQuery.of(
+					"select p from Person p where p.firstname = :firstname and p.lastname like %:lastname% and p.age > :age",
+					false);
+			DeclaredQuery expressionQuery = new ExpressionBasedStringQuery(
+					"select p from Person p where p.firstname = :#{#firstname} and p.lastname = :lastname and p.age > :age",
+					new DefaultJpaEntityMetadata<>(Object.class), delegate, false);
+
+			binder = ParameterBinderFactory.createQueryAwareBinder(parameters, declaredQuery, delegate,
+					delegate.createValueContextProvider(parameters));
+			expressionBinder = ParameterBinderFactory.createQueryAwareBinder(parameters, expressionQuery, delegate,
+					delegate.createValueContextProvider(parameters));
+
+			query = createQuery(new ParameterImpl<>(BindingIdentifier.of("firstname", 1), String.class),
+					new ParameterImpl<>(BindingIdentifier.of("lastname", 2), String.class),
+					new ParameterImpl<>(BindingIdentifier.of("age", 3), Integer.class));
+			metadata = new QueryParameterSetter.QueryMetadataCache().getMetadata("query", query);
+			accessor = new JpaParametersParameterAccessor(parameters, new Object[] { "Jane", "Doe", 42 });
+		}
+
+		private static Query createQuery(Parameter<?>... parameters) {
+
+			Set<Parameter<?>> parameterSet = Set.of(parameters);
+
+			return (Query) Proxy.newProxyInstance(ParameterBinderBenchmarks.class.getClassLoader(),
+					new Class<?>[] { Query.class }, (proxy, method, args) -> switch (method.getName()) {
+						case "getParameters" -> parameterSet;
+						case "unwrap", "setParameter" -> proxy;
+						case "hashCode" -> System.identityHashCode(proxy);
+						case "equals" -> proxy == args[0];
+						default -> null;
+					});
+		}
+	}
+
+	@Benchmark
+	public Object bind(BenchmarkParameters parameters) {
+		return parameters.binder.bind(parameters.query, parameters.metadata, parameters.accessor);
+	}
+
+	@Benchmark
+	public Object bindAndPrepare(BenchmarkParameters parameters) {
+		return parameters.binder.bindAndPrepare(parameters.query, parameters.metadata, parameters.accessor);
+	}
+
+	@Benchmark
+	public Object bindWithExpression(BenchmarkParameters parameters) {
+		return parameters.expressionBinder.bind(parameters.query, parameters.metadata, parameters.accessor);
+	}
+
+	interface BindingRepository {
+
+		Object findBy(@Param("firstname") String firstname, @Param("lastname") String lastname,
+				@Param("age") Integer age);
+	}
+}
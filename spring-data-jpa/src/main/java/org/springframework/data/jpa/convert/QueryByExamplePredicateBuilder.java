@@ -199,21 +199,21 @@ public class QueryByExamplePredicateBuilder {
 					case CONTAINING:
 						predicates.add(cb.like( //
 								expression, //
-								"%" + escapeCharacter.escape(attributeValue.toString()) + "%", //
+								escapeCharacter.escapeAndWrap(attributeValue.toString(), true, true), //
 								escapeCharacter.getEscapeCharacter() //
 						));
 						break;
 					case STARTING:
 						predicates.add(cb.like(//
 								expression, //
-								escapeCharacter.escape(attributeValue.toString()) + "%", //
+								escapeCharacter.escapeAndWrap(attributeValue.toString(), false, true), //
 								escapeCharacter.getEscapeCharacter()) //
 						);
 						break;
 					case ENDING:
 						predicates.add(cb.like( //
 								expression, //
-								"%" + escapeCharacter.escape(attributeValue.toString()), //
+								escapeCharacter.escapeAndWrap(attributeValue.toString(), true, false), //
 								escapeCharacter.getEscapeCharacter()) //
 						);
 						break;
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.provider;
+
+import java.util.regex.Pattern;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import org.springframework.data.jpa.repository.FullTextSearch;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Hibernate {@link FunctionContributor} registering the {@link FullTextSearch#DEFAULT_FUNCTION full-text search
+ * function} used by derived queries for {@link FullTextSearch} parameters. The function renders
+ * {@code to_tsvector('<config>', …) @@ plainto_tsquery('<config>', …)} on PostgreSQL and {@code MATCH … AGAINST …} in
+ * natural language mode on MySQL and MariaDB. Other databases fall back to a {@code LIKE} containment check that
+ * escapes {@code %} and {@code _} so that the search text is matched literally.
+ * <p>
+ * The PostgreSQL text search configuration defaults to {@value #DEFAULT_TEXT_SEARCH_CONFIG} and can be changed
+ * through the {@value #TEXT_SEARCH_CONFIG_PROPERTY} persistence unit property. Full-text searches only use an index
+ * if it is defined on the very same expression, i.e. a GIN index for PostgreSQL:
+ *
+ * <pre class="code">
+ * CREATE INDEX article_title_fts ON article USING GIN (to_tsvector('english', title));
+ * </pre>
+ *
+ * and a {@code FULLTEXT} index on the column for MySQL and MariaDB, which is required by {@code MATCH … AGAINST}.
+ * <p>
+ * The contributor is registered with every Hibernate {@link org.hibernate.SessionFactory} through
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}. It does not replace a function of the same
+ * name registered by the dialect or by a contributor applied earlier; contributors with an {@link #ordinal() ordinal}
+ * of {@code 1000} or above are applied later and replace it.
+ *
+ * @since 3.5
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+	/**
+	 * Persistence unit property to configure the PostgreSQL text search configuration, e.g. {@code german}.
+	 */
+	public static final String TEXT_SEARCH_CONFIG_PROPERTY = "spring.data.jpa.full-text-search.text-search-config";
+
+	/**
+	 * The PostgreSQL text search configuration used unless configured otherwise.
+	 */
+	public static final String DEFAULT_TEXT_SEARCH_CONFIG = "english";
+
+	private static final Pattern TEXT_SEARCH_CONFIG = Pattern
+			.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+
+		SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+
+		if (registry.findFunctionDescriptor(FullTextSearch.DEFAULT_FUNCTION) != null) {
+			return;
+		}
+
+		ConfigurationService configuration = functionContributions.getServiceRegistry()
+				.getService(ConfigurationService.class);
+
+		registry.registerPattern(FullTextSearch.DEFAULT_FUNCTION,
+				getPattern(functionContributions.getDialect(), getTextSearchConfig(configuration)),
+				functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+	}
+
+	/**
+	 * Applies the contributor within the range Hibernate reserves for libraries.
+	 */
+	@Override
+	public int ordinal() {
+		return 500;
+	}
+
+	private static String getTextSearchConfig(@Nullable ConfigurationService configuration) {
+
+		Object value = configuration == null ? null : configuration.getSettings().get(TEXT_SEARCH_CONFIG_PROPERTY);
+
+		return value == null || !StringUtils.hasText(value.toString()) ? DEFAULT_TEXT_SEARCH_CONFIG
+				: value.toString().trim();
+	}
+
+	/**
+	 * Returns the SQL pattern for the full-text search function of the given {@link Dialect}. {@code ?1} refers to the
+	 * property, {@code ?2} to the search text.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @param textSearchConfig the PostgreSQL text search configuration, must be a plain or schema-qualified name.
+	 * @return the SQL pattern.
+	 */
+	static String getPattern(Dialect dialect, String textSearchConfig) {
+
+		if (dialect instanceof PostgreSQLDialect) {
+
+			Assert.isTrue(TEXT_SEARCH_CONFIG.matcher(textSearchConfig).matches(),
+					() -> String.format("Invalid text search configuration '%s'; Set property %s to a configuration name",
+							textSearchConfig, TEXT_SEARCH_CONFIG_PROPERTY));
+
+			return String.format("(to_tsvector('%1$s', ?1) @@ plainto_tsquery('%1$s', ?2))", textSearchConfig);
+		}
+
+		if (dialect instanceof MySQLDialect) {
+			return "(match (?1) against (?2 in natural language mode) > 0)";
+		}
+
+		return "(?1 like concat(concat('%', replace(replace(replace(?2, '!', '!!'), '%', '!%'), '_', '!_')), '%') escape '!')";
+	}
+}
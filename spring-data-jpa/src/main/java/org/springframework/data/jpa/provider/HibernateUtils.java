@@ -15,9 +15,19 @@
  */
 package org.springframework.data.jpa.provider;
 
+import jakarta.persistence.EntityManager;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.Query;
 import org.hibernate.query.spi.SqmQuery;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Utility functions to work with Hibernate. Mostly using reflection to make sure common functionality can be executed
@@ -33,6 +43,10 @@ import org.springframework.lang.Nullable;
  */
 public abstract class HibernateUtils {
 
+	// StatelessSession.upsert(…) is available as of Hibernate 6.3
+	private static final @Nullable Method UPSERT = ReflectionUtils.findMethod(StatelessSession.class, "upsert",
+			Object.class);
+
 	private HibernateUtils() {}
 
 	/**
@@ -68,4 +82,107 @@ public abstract class HibernateUtils {
 			throw new IllegalArgumentException("Don't know how to extract the query string from " + query);
 		}
 	}
+
+	/**
+	 * Writes the given detached entity through a {@link StatelessSession} sharing the JDBC connection (and thus the
+	 * transaction) of the given {@link EntityManager}, issuing an {@code UPDATE} or upsert without loading the current
+	 * state of the entity first. Pending changes of the persistence context are flushed before. Entities with an instance
+	 * already loaded into the persistence context are not written as that instance would become stale.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param id the identifier of the entity, must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param upsert whether to upsert instead of update the entity.
+	 * @return {@literal true} if the entity was written, {@literal false} if the entity needs to be merged instead.
+	 * @since 3.5
+	 */
+	public static boolean writeDetached(EntityManager em, Class<?> type, Object id, Object entity, boolean upsert) {
+
+		if (upsert && UPSERT == null) {
+			return false;
+		}
+
+		if (em.contains(entity) || isLoaded(em, type, id)) {
+			return false;
+		}
+
+		em.flush();
+
+		doInStatelessSession(em, session -> {
+
+			if (upsert) {
+				upsert(session, entity);
+			} else {
+				session.update(entity);
+			}
+
+			return null;
+		});
+
+		return true;
+	}
+
+	/**
+	 * Runs the given callback with a {@link StatelessSession} sharing the JDBC connection, and thus the transaction, of
+	 * the {@link Session} backing the given {@link EntityManager}. The {@link StatelessSession} is closed once the
+	 * callback returns and must not be used afterwards.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 * @since 3.5
+	 */
+	@Nullable
+	public static <T> T doInStatelessSession(EntityManager em, Function<StatelessSession, T> callback) {
+
+		Session session = em.unwrap(Session.class);
+
+		return session.doReturningWork(connection -> {
+
+			try (StatelessSession statelessSession = session.getSessionFactory().withStatelessOptions()
+					.connection(connection).openStatelessSession()) {
+				return callback.apply(statelessSession);
+			}
+		});
+	}
+
+	/**
+	 * @return whether {@link StatelessSession} supports upserts, i.e. whether Hibernate 6.3 or newer is used.
+	 * @since 3.5
+	 */
+	public static boolean supportsUpsert() {
+		return UPSERT != null;
+	}
+
+	/**
+	 * Upserts the given entity through the given {@link StatelessSession}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @throws UnsupportedOperationException if the Hibernate version in use does not support upserts.
+	 * @since 3.5
+	 */
+	public static void upsert(StatelessSession session, Object entity) {
+
+		if (UPSERT == null) {
+			throw new UnsupportedOperationException("Upserts require Hibernate 6.3 or newer");
+		}
+
+		ReflectionUtils.invokeMethod(UPSERT, session, entity);
+	}
+
+	/**
+	 * Returns whether an instance with the given identifier is part of the persistence context of the given
+	 * {@link EntityManager}. In contrast to {@link EntityManager#getReference(Class, Object)}, the lookup does not create
+	 * a proxy.
+	 */
+	private static boolean isLoaded(EntityManager em, Class<?> type, Object id) {
+
+		SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+		EntityPersister persister = session.getFactory().getRuntimeMetamodels().getMappingMetamodel()
+				.getEntityDescriptor(type);
+
+		return session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister)) != null;
+	}
 }
@@ -109,6 +109,11 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 			return "org.hibernate.comment";
 		}
 
+		@Override
+		public boolean writeDetached(EntityManager em, Class<?> type, Object id, Object entity, boolean upsert) {
+			return HibernateUtils.writeDetached(em, type, id, entity, upsert);
+		}
+
 	},
 
 	/**
@@ -342,6 +347,23 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 				: value;
 	}
 
+	/**
+	 * Writes the state of the given detached entity to the database without loading its current state first. Providers
+	 * that do not support such writes, or cannot apply them safely, return {@literal false} without writing anything so
+	 * that callers can fall back to {@link EntityManager#merge(Object)}.
+	 *
+	 * @param em the {@link EntityManager} whose transaction to participate in, must not be {@literal null}.
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param id the identifier of the entity, must not be {@literal null}.
+	 * @param entity the entity to write, must not be {@literal null}.
+	 * @param upsert whether to insert the entity if its row does not exist.
+	 * @return {@literal true} if the entity was written, {@literal false} otherwise.
+	 * @since 3.5
+	 */
+	public boolean writeDetached(EntityManager em, Class<?> type, Object id, Object entity, boolean upsert) {
+		return false;
+	}
+
 	public boolean isPresent() {
 		return this.present;
 	}
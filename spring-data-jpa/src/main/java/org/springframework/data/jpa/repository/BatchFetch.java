@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to initialize lazy associations of the entities returned by a {@link java.util.Collection},
+ * {@link org.springframework.data.domain.Slice}, {@link org.springframework.data.domain.Page} or
+ * {@link org.springframework.data.domain.Window} query method in batches. After running the query, a single
+ * {@code join fetch} query per association path loads the associations of all returned entities by their identifiers
+ * into the persistence context instead of issuing one query per entity on first access.
+ * <p>
+ * Batch fetching applies to entities of the repository domain type that are attached to the persistence context and
+ * have a single identifier attribute. It is ignored on streaming, modifying, stored procedure and single-result query
+ * methods.
+ *
+ * @since 3.5
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface BatchFetch {
+
+	/**
+	 * Association paths to initialize, e.g. {@code customer} or {@code customer.address}. Each path segment must refer to
+	 * an association.
+	 *
+	 * @return the association paths.
+	 */
+	String[] value();
+
+	/**
+	 * Maximum number of identifiers per fetch query. Results exceeding the batch size are fetched using multiple queries.
+	 *
+	 * @return {@literal 500} by default.
+	 */
+	int batchSize() default 500;
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to enable a repository-level read-through cache in front of {@code findById(…)}, {@code findAllById(…)}
+ * and {@code existsById(…)}. The cache is bounded and holds detached snapshots of entities by their identifier. Entries
+ * are evicted by {@code save(…)}, {@code delete…(…)} and {@link Modifying modifying} query methods of repositories
+ * managing the same entity type, both immediately and after completion of the surrounding transaction. With Hibernate,
+ * entries are also evicted when updates or deletes of the entity are flushed, e.g. changes to managed instances applied
+ * through dirty checking.
+ * <p>
+ * Lookups served from the cache return a fresh copy that is not attached to any persistence context, so changes to it
+ * are not persisted unless the copy is saved. The cache is therefore intended for reference data and requires entities
+ * without associations or collections. The cache is only consulted outside of transactions and while no
+ * {@link jakarta.persistence.EntityManager} is bound to the current thread, so lookups within a transaction return the
+ * instance managed by its persistence context. Lookups using a {@link Lock lock mode}, an {@link EntityGraph} or
+ * {@link QueryHints query hints} always bypass the cache.
+ * <p>
+ * Repositories managing the same entity type share a single cache and must therefore declare the same configuration.
+ *
+ * @since 3.5
+ * @see org.springframework.data.jpa.repository.support.RepositoryEntityCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Inherited
+@Documented
+public @interface EntityCache {
+
+	/**
+	 * Maximum number of entities to retain. Least recently used entries are evicted once the limit is exceeded.
+	 *
+	 * @return {@literal 1000} by default.
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * Time to live of a cache entry, measured from the time it was put into the cache. Zero or negative values retain
+	 * entries until they are evicted.
+	 *
+	 * @return {@literal 0} by default.
+	 */
+	long timeToLive() default 0;
+
+	/**
+	 * The {@link TimeUnit} of {@link #timeToLive()}.
+	 *
+	 * @return {@link TimeUnit#SECONDS} by default.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to match a {@link String} parameter of a derived query method using full-text search instead of a
+ * {@code LIKE '%…%'} predicate. Applies to {@code Containing} and {@code NotContaining} criteria, e.g.
+ *
+ * <pre class="code">
+ * List&lt;Product&gt; findByDescriptionContaining(&#64;FullTextSearch String text);
+ * </pre>
+ *
+ * The property and parameter are passed to the boolean database {@link #function() function} which allows the
+ * database to use a full-text index. With Hibernate, the {@link #DEFAULT_FUNCTION default function} is registered by
+ * {@link org.springframework.data.jpa.provider.FullTextSearchFunctionContributor}, which also describes the indexes
+ * needed to run the search efficiently, e.g. a GIN index on {@code to_tsvector('english', …)} for PostgreSQL. Other
+ * persistence providers require a database function of that name.
+ *
+ * @since 3.5
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@Documented
+public @interface FullTextSearch {
+
+	/**
+	 * Name of the function registered by {@link org.springframework.data.jpa.provider.FullTextSearchFunctionContributor}.
+	 */
+	String DEFAULT_FUNCTION = "fulltext_match";
+
+	/**
+	 * Name of the boolean function to call with the property and the parameter value.
+	 */
+	String function() default DEFAULT_FUNCTION;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Interface exposing bulk operations that bypass the persistence context. Entities are written as-is: they are
+ * neither attached to nor looked up in the persistence context and lifecycle callbacks and cascades do not apply.
+ * Streamed entities are detached, so their lazy associations cannot be initialized.
+ * <p>
+ * Repositories extending this interface are backed by Hibernate's {@code StatelessSession} participating in the
+ * transaction of the current {@link jakarta.persistence.EntityManager}. Writes are sent in JDBC batches. Using this
+ * interface with another persistence provider fails on repository creation.
+ *
+ * @param <T> the domain type.
+ * @since 3.5
+ */
+public interface JpaBulkOperations<T> {
+
+	/**
+	 * Inserts the given entities.
+	 *
+	 * @param entities must not be {@literal null} nor contain {@literal null} elements.
+	 */
+	void insertAll(Iterable<? extends T> entities);
+
+	/**
+	 * Updates the given entities without loading their current state first.
+	 *
+	 * @param entities must not be {@literal null} nor contain {@literal null} elements.
+	 */
+	void updateAll(Iterable<? extends T> entities);
+
+	/**
+	 * Inserts or updates the given entities using a provider-native upsert. Requires Hibernate 6.3 or newer.
+	 *
+	 * @param entities must not be {@literal null} nor contain {@literal null} elements.
+	 */
+	void upsertAll(Iterable<? extends T> entities);
+
+	/**
+	 * Streams all entities. The returned {@link Stream} holds on to database resources and must be closed after use,
+	 * e.g. through a try-with-resources block. Within a transaction, pending changes of the current
+	 * {@link jakarta.persistence.EntityManager} are flushed before reading. Streamed entities are detached instances that
+	 * are distinct from the ones managed by the {@link jakarta.persistence.EntityManager}, which remain untouched.
+	 *
+	 * @return all entities, never {@literal null}.
+	 */
+	Stream<T> streamAll();
+}
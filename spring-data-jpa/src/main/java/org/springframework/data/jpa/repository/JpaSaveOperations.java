@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+/**
+ * Interface to allow saving individual entities using a particular {@link SaveMode}. Repository interfaces extend this
+ * interface in addition to {@link JpaRepository} to opt into per-call save modes.
+ *
+ * @param <T> the type of the entity to handle.
+ * @since 3.5
+ * @see SaveStrategy
+ */
+public interface JpaSaveOperations<T> {
+
+	/**
+	 * Saves a given entity using the given {@link SaveMode} if the entity is not new. New entities are persisted unless
+	 * {@link SaveMode#UPSERT} is requested.
+	 *
+	 * @param entity entity to be saved. Must not be {@literal null}.
+	 * @param mode the {@link SaveMode} to apply. Must not be {@literal null}.
+	 * @return the saved entity. Entities written through {@link SaveMode#UPDATE} or {@link SaveMode#UPSERT} are returned
+	 *         as-is and are not attached to the persistence context.
+	 */
+	<S extends T> S save(S entity, SaveMode mode);
+}
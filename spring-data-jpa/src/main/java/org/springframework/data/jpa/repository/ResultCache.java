@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to cache the converted result of a read-only query method. Results are cached per combination of bound
+ * method arguments, including {@link org.springframework.data.domain.Pageable}, {@link org.springframework.data.domain.Sort},
+ * {@link org.springframework.data.domain.ScrollPosition} and dynamic projection types, so that {@code Page},
+ * {@code Slice} and {@code Window} results are cached as a whole.
+ * <p>
+ * All cached results of a method are invalidated once a repository managing the same domain type runs a modifying
+ * operation ({@code save…} or {@code delete…}). {@link Modifying Modifying} and derived delete query methods as well as
+ * bulk writes invalidate all cached results of the persistence unit. With Hibernate, results are also invalidated
+ * when inserts, updates or deletes of entities of the domain type are flushed, e.g. changes applied through dirty
+ * checking or the {@link jakarta.persistence.EntityManager}. Changes applied through native SQL outside of repositories
+ * are not detected. Invalidation happens immediately and after completion of the surrounding transaction.
+ * <p>
+ * Results are cached outside of transactions and within read-only transactions only; the cache is bypassed within
+ * other transactions so that uncommitted state never becomes visible to other callers. Arrays, collections and maps
+ * passed as arguments are copied into the cache key. Query methods declaring entity parameters are rejected at
+ * bootstrap.
+ * <p>
+ * Entities are cached as detached snapshots and every invocation returns fresh copies, so results never share
+ * instances with other callers or persistence contexts. Results containing entities that declare associations or
+ * collections, entity proxies or projections backed by entities are not cached. Queries using value expressions (e.g.
+ * {@code :#{…}} or {@code :${…}}) cannot be cached as their outcome does not solely depend on the method arguments and
+ * are rejected at bootstrap.
+ * <p>
+ * The annotation is ignored on streaming, modifying, stored procedure and {@link Lock locking} query methods.
+ *
+ * @since 3.5
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface ResultCache {
+
+	/**
+	 * Maximum number of results to retain. Least recently used entries are evicted once the limit is exceeded.
+	 *
+	 * @return {@literal 256} by default.
+	 */
+	int maxSize() default 256;
+
+	/**
+	 * Time to live of a cached result, measured from the time it was put into the cache. Zero or negative values retain
+	 * results until they are evicted or invalidated.
+	 *
+	 * @return {@literal 0} by default.
+	 */
+	long timeToLive() default 0;
+
+	/**
+	 * The {@link TimeUnit} of {@link #timeToLive()}.
+	 *
+	 * @return {@link TimeUnit#SECONDS} by default.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Strategies to write entities that are not {@link org.springframework.data.repository.core.EntityInformation#isNew(Object)
+ * new} through {@code save(…)}.
+ * <p>
+ * {@link #UPDATE} and {@link #UPSERT} write entities through Hibernate's {@code StatelessSession}, bypassing the
+ * persistence context. Consequently, operations are not cascaded to associated entities, collections owned by the
+ * entity are not written and JPA lifecycle callbacks and entity listeners are not guaranteed to be invoked. Optimistic
+ * locking through {@link jakarta.persistence.Version} still applies to updates.
+ *
+ * @since 3.5
+ * @see SaveStrategy
+ * @see JpaSaveOperations#save(Object, SaveMode)
+ */
+public enum SaveMode {
+
+	/**
+	 * Merge the entity into the persistence context using {@link EntityManager#merge(Object)}, which loads the current
+	 * state of the entity unless it is already part of the persistence context. This is the default.
+	 */
+	MERGE,
+
+	/**
+	 * Update the row of the entity directly without loading its current state first. The caller asserts that the row
+	 * exists. The given entity is written as-is and remains detached.
+	 * <p>
+	 * Requires Hibernate. Other persistence providers, entities already present in the persistence context and entities
+	 * without identifier fall back to {@link #MERGE}.
+	 */
+	UPDATE,
+
+	/**
+	 * Insert or update the row of the entity using a provider-native upsert without loading its current state first. The
+	 * given entity is written as-is and remains detached.
+	 * <p>
+	 * Requires Hibernate 6.3 or newer. Other persistence providers, entities already present in the persistence context
+	 * and entities without identifier fall back to {@link #MERGE}.
+	 */
+	UPSERT
+}
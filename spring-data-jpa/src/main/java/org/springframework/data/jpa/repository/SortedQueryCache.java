@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to configure the number of sorted query strings cached for a {@link Query string-based} query method
+ * accepting a {@link org.springframework.data.domain.Sort} or {@link org.springframework.data.domain.Pageable}
+ * argument. Each distinct {@code Sort} requires rewriting the declared query; rewritten queries are retained in a
+ * least-recently-used cache per method. The capacity overrides the default configured through
+ * {@link org.springframework.data.jpa.repository.query.SortedQueryCaches}.
+ *
+ * @since 3.5
+ * @see org.springframework.data.jpa.repository.query.SortedQueryCaches
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface SortedQueryCache {
+
+	/**
+	 * Maximum number of sorted query strings to retain. {@literal 0} disables caching so that queries are rewritten on
+	 * each invocation.
+	 *
+	 * @return the maximum number of cached query strings.
+	 */
+	int capacity();
+}
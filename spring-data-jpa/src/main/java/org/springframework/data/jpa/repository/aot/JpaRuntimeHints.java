@@ -110,6 +110,12 @@ class JpaRuntimeHints implements RuntimeHintsRegistrar {
 			 */
 			hints.reflection().registerType(TypeReference.of("org.hibernate.query.sqm.tree.select.SqmQueryPart[]"),
 					MemberCategory.UNSAFE_ALLOCATED);
+
+			// full-text search function for @FullTextSearch parameters registered via ServiceLoader
+			hints.resources().registerPattern("META-INF/services/org.hibernate.boot.model.FunctionContributor");
+			hints.reflection().registerType(
+					TypeReference.of("org.springframework.data.jpa.provider.FullTextSearchFunctionContributor"),
+					MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
 		}
 	}
 }
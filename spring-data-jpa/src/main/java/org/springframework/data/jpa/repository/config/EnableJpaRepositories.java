@@ -181,4 +181,17 @@ public @interface EnableJpaRepositories {
 	 * @return a single character used for escaping.
 	 */
 	char escapeCharacter() default '\\';
+
+	/**
+	 * Configures whether eagerly initialized repositories shall be initialized in the background. Repository bean
+	 * definitions are marked for {@link org.springframework.beans.factory.support.AbstractBeanDefinition#setBackgroundInit
+	 * background initialization} which takes effect if the application context provides a {@code bootstrapExecutor}
+	 * bean. Repositories are initialized on the main bootstrap thread otherwise. Repositories initialized lazily, e.g.
+	 * through {@link BootstrapMode#LAZY} or {@link BootstrapMode#DEFERRED}, are not affected.
+	 *
+	 * @return whether to initialize repositories in the background, defaults to {@literal false}.
+	 * @since 3.5
+	 * @see org.springframework.context.ConfigurableApplicationContext#BOOTSTRAP_EXECUTOR_BEAN_NAME
+	 */
+	boolean backgroundInit() default false;
 }
@@ -83,6 +83,7 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 	private static final String ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE = "enableDefaultTransactions";
 	private static final String JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME = "org.springframework.data.jpa.util.JpaMetamodelCacheCleanup";
 	private static final String ESCAPE_CHARACTER_PROPERTY = "escapeCharacter";
+	private static final String BACKGROUND_INIT_ATTRIBUTE = "backgroundInit";
 
 	private final Map<Object, String> entityManagerRefs = new LinkedHashMap<>();
 
@@ -146,6 +147,7 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 
 		builder.addPropertyValue(ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE,
 				attributes.getBoolean(ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE));
+		builder.getRawBeanDefinition().setBackgroundInit(attributes.getBoolean(BACKGROUND_INIT_ATTRIBUTE));
 	}
 
 	@Override
@@ -156,6 +158,12 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 		if (enableDefaultTransactions.isPresent() && StringUtils.hasText(enableDefaultTransactions.get())) {
 			builder.addPropertyValue(ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE, enableDefaultTransactions.get());
 		}
+
+		Optional<String> backgroundInit = config.getAttribute(BACKGROUND_INIT_ATTRIBUTE);
+
+		if (backgroundInit.isPresent() && StringUtils.hasText(backgroundInit.get())) {
+			builder.getRawBeanDefinition().setBackgroundInit(Boolean.parseBoolean(backgroundInit.get()));
+		}
 	}
 
 	@Override
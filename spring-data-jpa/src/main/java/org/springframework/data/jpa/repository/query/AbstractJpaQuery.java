@@ -38,8 +38,10 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.BatchFetch;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.CollectionExecution;
+import org.springframework.data.jpa.repository.query.JpaQueryExecution.DeleteExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.ModifyingExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.PagedExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.ProcedureExecution;
@@ -80,6 +82,10 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	private final JpaMetamodel metamodel;
 	private final PersistenceProvider provider;
 	private final Lazy<JpaQueryExecution> execution;
+	private @Nullable QueryResultCache resultCache;
+	private final @Nullable AssociationBatchFetcher batchFetcher;
+	private @Nullable SlowQueryLog slowQueryLog;
+	private InParameterPadding inParameterPadding = InParameterPadding.NONE;
 
 	final Lazy<ParameterBinder> parameterBinder = Lazy.of(this::createBinder);
 
@@ -116,6 +122,10 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 				return new SingleEntityExecution();
 			}
 		});
+
+		BatchFetch batchFetch = method.getBatchFetch();
+		this.batchFetcher = batchFetch == null ? null
+				: new AssociationBatchFetcher(em.getMetamodel(), method.getEntityInformation().getJavaType(), batchFetch);
 	}
 
 	@Override
@@ -144,7 +154,28 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	@Nullable
 	@Override
 	public Object execute(Object[] parameters) {
-		return doExecute(getExecution(), parameters);
+
+		if (!JpaQueryEvents.isContextRequired()) {
+			return execute(getExecution(), parameters);
+		}
+
+		String previous = JpaQueryEvents.enter(method);
+
+		try {
+			return execute(getExecution(), parameters);
+		} finally {
+			JpaQueryEvents.exit(previous);
+		}
+	}
+
+	@Nullable
+	private Object execute(JpaQueryExecution execution, Object[] parameters) {
+
+		if (resultCache != null && !(execution instanceof DeleteExecution)) {
+			return resultCache.get(parameters, () -> doExecute(execution, parameters));
+		}
+
+		return doExecute(execution, parameters);
 	}
 
 	/**
@@ -163,6 +194,77 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 				new TupleConverter(withDynamicProjection.getReturnedType(), method.isNativeQuery()));
 	}
 
+	/**
+	 * Configures the {@link SlowQueryLog} to measure executions of this query.
+	 *
+	 * @param slowQueryLog can be {@literal null}.
+	 */
+	void setSlowQueryLog(@Nullable SlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} to serve results of this query from.
+	 *
+	 * @param resultCache can be {@literal null}.
+	 * @see QueryResultCaches#decorate(org.springframework.data.repository.query.QueryLookupStrategy,
+	 *      jakarta.persistence.metamodel.Metamodel)
+	 */
+	void setResultCache(@Nullable QueryResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
+	/**
+	 * Configures the {@link InParameterPadding} to apply to collection parameters. Must be configured before the query is
+	 * executed for the first time as parameter binders are created lazily and cached afterwards.
+	 *
+	 * @param inParameterPadding must not be {@literal null}.
+	 */
+	void setInParameterPadding(InParameterPadding inParameterPadding) {
+
+		Assert.notNull(inParameterPadding, "InParameterPadding must not be null");
+
+		this.inParameterPadding = inParameterPadding;
+	}
+
+	/**
+	 * @return the {@link InParameterPadding} to apply to collection parameters.
+	 */
+	InParameterPadding getInParameterPadding() {
+		return inParameterPadding;
+	}
+
+	/**
+	 * Derives the count query of this query ahead of its first execution, if the query derives count queries at all.
+	 *
+	 * @see DerivedCountQueries#warmUp(org.springframework.data.repository.query.QueryLookupStrategy)
+	 */
+	void deriveCountQuery() {}
+
+	/**
+	 * Starts measuring an execution of this query if a {@link SlowQueryLog} is configured and samples the execution.
+	 *
+	 * @return the measurement or {@literal null} if the execution is not measured.
+	 */
+	@Nullable
+	SlowQueryLog.Measurement startMeasurement() {
+		return slowQueryLog != null ? slowQueryLog.start(JpaQueryEvents.getMethodName(method), method.getQueryExtractor())
+				: null;
+	}
+
+	/**
+	 * Initializes the associations configured through {@link BatchFetch} for the entities contained in the given query
+	 * result.
+	 *
+	 * @param result the query result, can be {@literal null}.
+	 */
+	void fetchAssociations(@Nullable Object result) {
+
+		if (batchFetcher != null) {
+			batchFetcher.fetch(em, result);
+		}
+	}
+
 	private JpaParametersParameterAccessor obtainParameterAccessor(Object[] values) {
 
 		if (method.isNativeQuery() && PersistenceProvider.HIBERNATE.equals(provider)) {
@@ -247,7 +349,15 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	}
 
 	protected Query createQuery(JpaParametersParameterAccessor parameters) {
-		return applyLockMode(applyEntityGraphConfiguration(applyHints(doCreateQuery(parameters), method), method), method);
+
+		Query query = applyLockMode(applyEntityGraphConfiguration(applyHints(doCreateQuery(parameters), method), method),
+				method);
+
+		if (slowQueryLog != null) {
+			SlowQueryLog.capture(query);
+		}
+
+		return query;
 	}
 
 	/**
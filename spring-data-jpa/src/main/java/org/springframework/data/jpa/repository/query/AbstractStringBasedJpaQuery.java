@@ -16,6 +16,7 @@
 package org.springframework.data.jpa.repository.query;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Query;
 
 import java.util.Objects;
@@ -30,7 +31,6 @@ import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -56,6 +56,8 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	private final QuerySortRewriter querySortRewriter;
 	private final Lazy<ParameterBinder> countParameterBinder;
 	private final ValueEvaluationContextProvider valueExpressionContextProvider;
+	private volatile @Nullable String namedQueryName;
+	private volatile @Nullable String namedCountQueryName;
 
 	/**
 	 * Creates a new {@link AbstractStringBasedJpaQuery} from the given {@link JpaQueryMethod}, {@link EntityManager} and
@@ -105,7 +107,8 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 			this.querySortRewriter = SimpleQuerySortRewriter.INSTANCE;
 		} else {
 			if (parameters.hasPageableParameter() || parameters.hasSortParameter()) {
-				this.querySortRewriter = new CachingQuerySortRewriter();
+				this.querySortRewriter = new CachingQuerySortRewriter(
+						SortedQueryCaches.createCache(method, SortedQueryCaches.DEFAULT_CAPACITY, this::applySorting));
 			} else {
 				this.querySortRewriter = new UnsortedCachingQuerySortRewriter();
 			}
@@ -113,12 +116,40 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 		Assert.isTrue(method.isNativeQuery() || !query.usesJdbcStyleParameters(),
 				"JDBC style parameters (?) are not supported for JPA queries");
+
+		if (method.getResultCache() != null
+				&& (usesExpressions(query) || (StringUtils.hasText(countQueryString) && usesExpressions(countQuery.get())))) {
+			throw new IllegalStateException(String.format(
+					"@ResultCache is not supported for queries using value expressions as results are cached by method arguments only; Offending method: %s",
+					method));
+		}
+	}
+
+	private static boolean usesExpressions(DeclaredQuery query) {
+
+		for (ParameterBinding binding : query.getParameterBindings()) {
+			if (binding.getOrigin().isExpression()) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	@Override
 	public Query doCreateQuery(JpaParametersParameterAccessor accessor) {
 
 		Sort sort = accessor.getSort();
+		String namedQueryName = this.namedQueryName;
+
+		if (namedQueryName != null && sort.isUnsorted()) {
+
+			Query query = getEntityManager().createNamedQuery(namedQueryName);
+			QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(namedQueryName, query);
+
+			return parameterBinder.get().bindAndPrepare(query, metadata, accessor);
+		}
+
 		ResultProcessor processor = getQueryMethod().getResultProcessor().withDynamicProjection(accessor);
 		ReturnedType returnedType = processor.getReturnedType();
 		String sortedQueryString = getSortedQueryString(sort, returnedType);
@@ -131,8 +162,89 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 		return parameterBinder.get().bindAndPrepare(query, metadata, accessor);
 	}
 
+	/**
+	 * Replaces the cache of sorted query strings with one created and registered by the given {@link SortedQueryCaches}
+	 * for the given repository interface. Must be configured before the query is executed.
+	 *
+	 * @param sortedQueryCaches must not be {@literal null}.
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	void setSortedQueryCaches(SortedQueryCaches sortedQueryCaches, Class<?> repositoryInterface) {
+
+		Assert.notNull(sortedQueryCaches, "SortedQueryCaches must not be null");
+
+		if (querySortRewriter instanceof CachingQuerySortRewriter rewriter) {
+			rewriter.setQueryCache(sortedQueryCaches.register(repositoryInterface, getQueryMethod(), this::applySorting));
+		}
+	}
+
+	/**
+	 * Registers the unsorted query and the count query of paging query methods as named queries to be used for
+	 * executions that do not apply a dynamic sort. Queries are registered under names qualified by the given repository
+	 * interface as query methods may be inherited by multiple repository interfaces. Queries using a dynamic projection
+	 * or a custom {@link QueryRewriter} are not registered.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @see NamedQueryRegistration
+	 */
+	void registerNamedQueries(Class<?> repositoryInterface) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+		JpaQueryMethod method = getQueryMethod();
+
+		if (queryRewriter != QueryRewriter.IdentityQueryRewriter.INSTANCE || method.getParameters().hasDynamicProjection()) {
+			return;
+		}
+
+		EntityManagerFactory emf = getEntityManager().getEntityManagerFactory();
+		EntityManager em = emf.createEntityManager();
+
+		try {
+
+			ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+			String queryName = NamedQueryRegistration.getQueryName(repositoryInterface, method, "");
+			Query query = createJpaQuery(em, getSortedQueryString(Sort.unsorted(), returnedType), Sort.unsorted(), null,
+					returnedType);
+
+			if (NamedQueryRegistration.register(emf, queryName, query)) {
+				this.namedQueryName = queryName;
+			}
+
+			if (method.isPageQuery()) {
+
+				String countQueryName = NamedQueryRegistration.getQueryName(repositoryInterface, method, ".count");
+
+				if (NamedQueryRegistration.register(emf, countQueryName,
+						createCountQuery(em, countQuery.get().getQueryString()))) {
+					this.namedCountQueryName = countQueryName;
+				}
+			}
+		} finally {
+			em.close();
+		}
+	}
+
+	@Override
+	void deriveCountQuery() {
+		countQuery.get();
+	}
+
 	String getSortedQueryString(Sort sort, ReturnedType returnedType) {
-		return querySortRewriter.getSorted(query, sort, returnedType);
+
+		JpaQueryEvents.SortRewriteEvent event = JpaQueryEvents.sortRewrite();
+
+		if (!event.isEnabled()) {
+			return querySortRewriter.getSorted(query, sort, returnedType);
+		}
+
+		boolean cacheHit = querySortRewriter.isCached(query, sort, returnedType);
+
+		event.begin();
+		String sortedQueryString = querySortRewriter.getSorted(query, sort, returnedType);
+		event.complete(getQueryMethod(), sort, cacheHit);
+
+		return sortedQueryString;
 	}
 
 	@Override
@@ -142,26 +254,32 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 	protected ParameterBinder createBinder(DeclaredQuery query) {
 		return ParameterBinderFactory.createQueryAwareBinder(getQueryMethod().getParameters(), query,
-				valueExpressionDelegate, valueExpressionContextProvider);
+				valueExpressionDelegate, valueExpressionContextProvider, getInParameterPadding());
 	}
 
 	@Override
 	protected Query doCreateCountQuery(JpaParametersParameterAccessor accessor) {
 
-		String queryString = countQuery.get().getQueryString();
-		EntityManager em = getEntityManager();
+		String namedCountQueryName = this.namedCountQueryName;
+		String cacheKey = namedCountQueryName != null ? namedCountQueryName : countQuery.get().getQueryString();
 
-		Query query = getQueryMethod().isNativeQuery() //
-				? em.createNativeQuery(queryString) //
-				: em.createQuery(queryString, Long.class);
+		Query query = namedCountQueryName != null //
+				? getEntityManager().createNamedQuery(namedCountQueryName) //
+				: createCountQuery(getEntityManager(), cacheKey);
 
-		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(queryString, query);
+		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(cacheKey, query);
 
 		countParameterBinder.get().bind(metadata.withQuery(query), accessor, QueryParameterSetter.ErrorHandling.LENIENT);
 
 		return query;
 	}
 
+	private Query createCountQuery(EntityManager em, String queryString) {
+		return getQueryMethod().isNativeQuery() //
+				? em.createNativeQuery(queryString) //
+				: em.createQuery(queryString, Long.class);
+	}
+
 	/**
 	 * @return the query
 	 */
@@ -182,8 +300,17 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	 */
 	protected Query createJpaQuery(String queryString, Sort sort, @Nullable Pageable pageable,
 			ReturnedType returnedType) {
+		return createJpaQuery(getEntityManager(), queryString, sort, pageable, returnedType);
+	}
 
-		EntityManager em = getEntityManager();
+	/**
+	 * Creates an appropriate JPA query from the given {@link EntityManager} according to the current
+	 * {@link AbstractJpaQuery} type.
+	 *
+	 * @since 3.5
+	 */
+	protected Query createJpaQuery(EntityManager em, String queryString, Sort sort, @Nullable Pageable pageable,
+			ReturnedType returnedType) {
 
 		if (this.query.hasConstructorExpression() || this.query.isDefaultProjection()) {
 			return em.createQuery(potentiallyRewriteQuery(queryString, sort, pageable));
@@ -222,7 +349,17 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	 * Query Sort Rewriter interface.
 	 */
 	interface QuerySortRewriter {
+
 		String getSorted(DeclaredQuery query, Sort sort, ReturnedType returnedType);
+
+		/**
+		 * Returns whether the sorted query for the given arguments is served from a cache.
+		 *
+		 * @since 3.5
+		 */
+		default boolean isCached(DeclaredQuery query, Sort sort, ReturnedType returnedType) {
+			return false;
+		}
 	}
 
 	/**
@@ -256,18 +393,31 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 			return cachedQueryString;
 		}
+
+		@Override
+		public boolean isCached(DeclaredQuery query, Sort sort, ReturnedType returnedType) {
+			return cachedQueryString != null;
+		}
 	}
 
 	/**
-	 * Caching variant of {@link QuerySortRewriter}.
+	 * Caching variant of {@link QuerySortRewriter}. Sorted query strings are retained in a least-recently-used cache whose
+	 * capacity is configured through {@link SortedQueryCaches}.
 	 */
 	class CachingQuerySortRewriter implements QuerySortRewriter {
 
-		private final ConcurrentLruCache<CachableQuery, String> queryCache = new ConcurrentLruCache<>(16,
-				AbstractStringBasedJpaQuery.this::applySorting);
+		private volatile SortedQueryCaches.StatisticsRecordingCache<CachableQuery, String> queryCache;
 
 		private volatile String cachedQueryString;
 
+		CachingQuerySortRewriter(SortedQueryCaches.StatisticsRecordingCache<CachableQuery, String> queryCache) {
+			this.queryCache = queryCache;
+		}
+
+		void setQueryCache(SortedQueryCaches.StatisticsRecordingCache<CachableQuery, String> queryCache) {
+			this.queryCache = queryCache;
+		}
+
 		@Override
 		public String getSorted(DeclaredQuery query, Sort sort, ReturnedType returnedType) {
 
@@ -275,7 +425,7 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 				String cachedQueryString = this.cachedQueryString;
 				if (cachedQueryString == null) {
-					this.cachedQueryString = cachedQueryString = queryCache.get(new CachableQuery(query, sort, returnedType));
+					this.cachedQueryString = cachedQueryString = applySorting(new CachableQuery(query, sort, returnedType));
 				}
 
 				return cachedQueryString;
@@ -283,6 +433,16 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 			return queryCache.get(new CachableQuery(query, sort, returnedType));
 		}
+
+		@Override
+		public boolean isCached(DeclaredQuery query, Sort sort, ReturnedType returnedType) {
+
+			if (sort.isUnsorted()) {
+				return cachedQueryString != null;
+			}
+
+			return queryCache.contains(new CachableQuery(query, sort, returnedType));
+		}
 	}
 
 	/**
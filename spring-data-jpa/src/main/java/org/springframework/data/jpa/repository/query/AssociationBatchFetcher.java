@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.BatchFetch;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Initializes lazy associations of query results in batches as configured through {@link BatchFetch}. For each
+ * association path, a {@code join fetch} query selecting the result entities by their identifiers loads the
+ * associations into the persistence context so that accessing them does not trigger further queries.
+ *
+ * @since 3.5
+ * @see BatchFetch
+ */
+class AssociationBatchFetcher {
+
+	private final Class<?> domainType;
+	private final List<FetchPath> paths;
+	private final int batchSize;
+
+	/**
+	 * Creates a new {@link AssociationBatchFetcher} for the given domain type, validating the configured association
+	 * paths against the {@link Metamodel}.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @throws IllegalArgumentException if the domain type is not an entity with a single identifier attribute or a path
+	 *           does not refer to associations.
+	 */
+	AssociationBatchFetcher(Metamodel metamodel, Class<?> domainType, BatchFetch configuration) {
+
+		Assert.isTrue(configuration.batchSize() > 0, "Batch size must be greater than zero");
+
+		EntityType<?> entityType = metamodel.entity(domainType);
+
+		Assert.isTrue(entityType.hasSingleIdAttribute(),
+				() -> "Batch fetching requires %s to have a single identifier attribute".formatted(domainType.getName()));
+
+		String idAttribute = entityType.getId(entityType.getIdType().getJavaType()).getName();
+		List<FetchPath> paths = new ArrayList<>(configuration.value().length);
+
+		for (String path : configuration.value()) {
+			paths.add(FetchPath.of(metamodel, entityType, idAttribute, path));
+		}
+
+		this.domainType = domainType;
+		this.paths = paths;
+		this.batchSize = configuration.batchSize();
+	}
+
+	/**
+	 * Initializes the configured associations of the entities contained in the given query result.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param result the query result, can be {@literal null}.
+	 */
+	void fetch(EntityManager em, @Nullable Object result) {
+
+		if (!(result instanceof Iterable<?> elements)) {
+			return;
+		}
+
+		PersistenceUnitUtil util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+		for (FetchPath path : paths) {
+
+			List<Object> ids = new ArrayList<>();
+
+			for (Object element : elements) {
+
+				if (domainType.isInstance(element) && !path.isLoaded(util, element) && em.contains(element)) {
+					ids.add(util.getIdentifier(element));
+				}
+			}
+
+			for (int i = 0; i < ids.size(); i += batchSize) {
+
+				em.createQuery(path.query()) //
+						.setParameter("ids", ids.subList(i, Math.min(i + batchSize, ids.size()))) //
+						.getResultList();
+			}
+		}
+	}
+
+	/**
+	 * An association path along with the query to fetch it.
+	 *
+	 * @param attribute the name of the first association.
+	 * @param nested whether the path spans multiple associations.
+	 * @param query the fetch query.
+	 */
+	private record FetchPath(String attribute, boolean nested, String query) {
+
+		static FetchPath of(Metamodel metamodel, EntityType<?> entityType, String idAttribute, String path) {
+
+			String[] segments = StringUtils.delimitedListToStringArray(path, ".");
+			StringBuilder query = new StringBuilder("select e from ").append(entityType.getName()).append(" e");
+
+			ManagedType<?> type = entityType;
+			String alias = "e";
+
+			for (int i = 0; i < segments.length; i++) {
+
+				Attribute<?, ?> attribute = type.getAttribute(segments[i]);
+
+				Assert.isTrue(attribute.isAssociation() || attribute.isCollection(),
+						() -> "Cannot batch-fetch '%s' of %s as '%s' is not an association".formatted(path,
+								entityType.getJavaType().getName(), attribute.getName()));
+
+				String nextAlias = "a" + i;
+				query.append(" left join fetch ").append(alias).append('.').append(segments[i]).append(' ')
+						.append(nextAlias);
+				alias = nextAlias;
+
+				if (i < segments.length - 1) {
+					type = metamodel.managedType(getTargetType(attribute).getJavaType());
+				}
+			}
+
+			query.append(" where e.").append(idAttribute).append(" in :ids");
+
+			return new FetchPath(segments[0], segments.length > 1, query.toString());
+		}
+
+		boolean isLoaded(PersistenceUnitUtil util, Object entity) {
+			return !nested && util.isLoaded(entity, attribute);
+		}
+
+		private static Type<?> getTargetType(Attribute<?, ?> attribute) {
+			return attribute instanceof PluralAttribute<?, ?, ?> plural ? plural.getElementType()
+					: ((SingularAttribute<?, ?>) attribute).getType();
+		}
+	}
+}
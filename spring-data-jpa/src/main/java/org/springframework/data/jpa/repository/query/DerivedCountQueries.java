@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.data.jpa.repository.query.SortedQueryCaches.StatisticsRecordingCache;
+import org.springframework.data.jpa.util.CacheStatistics;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache of count queries derived from declared queries, shared across all query methods. Repositories declaring the
+ * same query, e.g. through inherited or shared {@code @Query} definitions, derive their count query only once. Entries
+ * are keyed by the declared query string, its parameter bindings, the count projection and the query dialect.
+ * <p>
+ * The cache retains {@value #DEFAULT_CAPACITY} count queries by default. The capacity can be configured through the
+ * {@link #CAPACITY_PROPERTY} {@link SpringProperties property}, {@literal 0} disables caching. Like the
+ * {@link SortedQueryCaches sorted query caches}, the cache evicts the least recently used entries.
+ *
+ * @since 3.5
+ */
+public final class DerivedCountQueries {
+
+	/**
+	 * Name of the {@link SpringProperties property} configuring the capacity of the cache.
+	 */
+	public static final String CAPACITY_PROPERTY = "spring.data.jpa.query.count.cache-size";
+
+	static final int DEFAULT_CAPACITY = 256;
+
+	private static final @Nullable StatisticsRecordingCache<CacheKey, DeclaredQuery> CACHE = createCache(
+			SpringProperties.getProperty(CAPACITY_PROPERTY));
+
+	private DerivedCountQueries() {}
+
+	/**
+	 * Returns the count query derived from the given query, deriving and caching it if necessary.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param countProjection can be {@literal null}.
+	 * @param derivation function to derive the count query, must not be {@literal null}.
+	 * @return the derived count query.
+	 */
+	static DeclaredQuery derive(DeclaredQuery query, @Nullable String countProjection,
+			Supplier<DeclaredQuery> derivation) {
+
+		if (CACHE == null) {
+			return derivation.get();
+		}
+
+		return CACHE.get(new CacheKey(query.getQueryString(), List.copyOf(query.getParameterBindings()), countProjection,
+				QueryEnhancerFactory.getDialect(query.isNativeQuery()), derivation));
+	}
+
+	/**
+	 * Returns a snapshot of the cache statistics.
+	 *
+	 * @return the {@link CacheStatistics}, empty if caching is disabled.
+	 */
+	public static CacheStatistics getStatistics() {
+		return CACHE != null ? CACHE.getStatistics() : new CacheStatistics(0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * @return the capacity of the cache, {@literal 0} if caching is disabled.
+	 */
+	public static int getCapacity() {
+		return CACHE != null ? CACHE.capacity() : 0;
+	}
+
+	/**
+	 * Removes all cached count queries.
+	 */
+	public static void clear() {
+
+		if (CACHE != null) {
+			CACHE.clear();
+		}
+	}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to derive the count queries of resolved paging query methods ahead
+	 * of their first execution.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @return the decorated strategy.
+	 */
+	public static QueryLookupStrategy warmUp(QueryLookupStrategy strategy) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractJpaQuery jpaQuery && jpaQuery.getQueryMethod().isPageQuery()) {
+				jpaQuery.deriveCountQuery();
+			}
+
+			return query;
+		};
+	}
+
+	@Nullable
+	static StatisticsRecordingCache<CacheKey, DeclaredQuery> createCache(@Nullable String capacity) {
+
+		int maxSize = parseCapacity(capacity);
+
+		return maxSize > 0 ? new StatisticsRecordingCache<>(maxSize, CacheKey::derive) : null;
+	}
+
+	static int parseCapacity(@Nullable String capacity) {
+
+		if (!StringUtils.hasText(capacity)) {
+			return DEFAULT_CAPACITY;
+		}
+
+		int result;
+
+		try {
+			result = Integer.parseInt(capacity.trim());
+		} catch (NumberFormatException ex) {
+			throw invalidCapacity(capacity, ex);
+		}
+
+		if (result < 0) {
+			throw invalidCapacity(capacity, null);
+		}
+
+		return result;
+	}
+
+	private static IllegalStateException invalidCapacity(String capacity, @Nullable Throwable cause) {
+		return new IllegalStateException(
+				String.format("Invalid value '%s' for property %s; Expected a non-negative number of count queries to cache",
+						capacity, CAPACITY_PROPERTY),
+				cause);
+	}
+
+	/**
+	 * Cache key carrying the derivation of the count query to be invoked on cache misses. The derivation does not take
+	 * part in {@link #equals(Object)} and {@link #hashCode()}.
+	 */
+	static final class CacheKey {
+
+		private final String query;
+		private final List<ParameterBinding> bindings;
+		private final @Nullable String countProjection;
+		private final String dialect;
+		private final Supplier<DeclaredQuery> derivation;
+
+		CacheKey(String query, List<ParameterBinding> bindings, @Nullable String countProjection, String dialect,
+				Supplier<DeclaredQuery> derivation) {
+
+			this.query = query;
+			this.bindings = bindings;
+			this.countProjection = countProjection;
+			this.dialect = dialect;
+			this.derivation = derivation;
+		}
+
+		DeclaredQuery derive() {
+			return derivation.get();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return query.equals(that.query) && bindings.equals(that.bindings)
+					&& Objects.equals(countProjection, that.countProjection) && dialect.equals(that.dialect);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(query, bindings, countProjection, dialect);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable, pre-resolved tree of attribute paths that can be {@link #materialize(EntityManager, Class) materialized}
+ * into an {@link EntityGraph} without parsing or resolving property paths again. Definitions do not depend on a
+ * particular {@link EntityManager} and can therefore be cached per domain type and set of attribute paths while the
+ * mutable {@link EntityGraph} is created for each query execution.
+ *
+ * @since 3.5
+ */
+public final class EntityGraphDefinition {
+
+	private final Node root;
+
+	private EntityGraphDefinition(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Creates a new {@link EntityGraphDefinition} from dot-separated attribute paths.
+	 *
+	 * @param attributePaths must not be {@literal null}.
+	 * @return the definition.
+	 */
+	public static EntityGraphDefinition fromAttributePaths(Collection<String> attributePaths) {
+
+		Assert.notNull(attributePaths, "Attribute paths must not be null");
+
+		Node root = new Node();
+
+		for (String path : attributePaths) {
+			root.add(List.of(StringUtils.delimitedListToStringArray(path, ".")));
+		}
+
+		return new EntityGraphDefinition(root);
+	}
+
+	/**
+	 * Creates a new {@link EntityGraphDefinition} from already resolved attribute path segments.
+	 *
+	 * @param segmentPaths must not be {@literal null}.
+	 * @return the definition.
+	 */
+	public static EntityGraphDefinition fromSegments(Collection<? extends List<String>> segmentPaths) {
+
+		Assert.notNull(segmentPaths, "Segment paths must not be null");
+
+		Node root = new Node();
+
+		for (List<String> segments : segmentPaths) {
+			root.add(segments);
+		}
+
+		return new EntityGraphDefinition(root);
+	}
+
+	/**
+	 * Creates a new {@link EntityGraph} for the given type reflecting this definition.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return a new {@link EntityGraph}.
+	 */
+	public <T> EntityGraph<T> materialize(EntityManager entityManager, Class<T> domainType) {
+
+		EntityGraph<T> graph = entityManager.createEntityGraph(domainType);
+
+		for (Map.Entry<String, Node> entry : root.children.entrySet()) {
+
+			Node node = entry.getValue();
+
+			if (node.children.isEmpty()) {
+				graph.addAttributeNodes(entry.getKey());
+			} else {
+				node.applyTo(graph.addSubgraph(entry.getKey()));
+			}
+		}
+
+		return graph;
+	}
+
+	/**
+	 * Tree node keyed by attribute name retaining the declaration order of attributes.
+	 */
+	private static class Node {
+
+		private final Map<String, Node> children = new LinkedHashMap<>();
+
+		void add(List<String> segments) {
+
+			Node current = this;
+
+			for (String segment : segments) {
+				current = current.children.computeIfAbsent(segment, it -> new Node());
+			}
+		}
+
+		void applyTo(Subgraph<?> subgraph) {
+
+			for (Map.Entry<String, Node> entry : children.entrySet()) {
+
+				Node node = entry.getValue();
+
+				if (node.children.isEmpty()) {
+					subgraph.addAttributeNodes(entry.getKey());
+				} else {
+					node.applyTo(subgraph.addSubgraph(entry.getKey()));
+				}
+			}
+		}
+	}
+}
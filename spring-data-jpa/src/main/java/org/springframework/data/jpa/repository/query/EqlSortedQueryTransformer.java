@@ -36,7 +36,7 @@ import org.springframework.util.ObjectUtils;
  * @since 3.2
  */
 @SuppressWarnings("ConstantValue")
-class EqlSortedQueryTransformer extends EqlQueryRenderer {
+class EqlSortedQueryTransformer extends EqlQueryRenderer implements JpaQueryEnhancer.SortedQueryTransformer {
 
 	private final JpaQueryTransformerSupport transformerSupport = new JpaQueryTransformerSupport();
 	private final Sort sort;
@@ -53,6 +53,11 @@ class EqlSortedQueryTransformer extends EqlQueryRenderer {
 		this.dtoDelegate = returnedType == null ? null : new DtoProjectionTransformerDelegate(returnedType);
 	}
 
+	@Override
+	public JpaQueryTransformerSupport getTransformerSupport() {
+		return transformerSupport;
+	}
+
 	@Override
 	public QueryRendererBuilder visitSelect_statement(EqlParser.Select_statementContext ctx) {
 
@@ -15,10 +15,6 @@
  */
 package org.springframework.data.jpa.repository.query;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Stream;
-
 import org.springframework.lang.Nullable;
 
 /**
@@ -31,7 +27,7 @@ import org.springframework.lang.Nullable;
 public final class EscapeCharacter {
 
 	public static final EscapeCharacter DEFAULT = EscapeCharacter.of('\\');
-	private static final List<String> TO_REPLACE = Arrays.asList("_", "%");
+	private static final char WILDCARD = '%';
 
 	private final char escapeCharacter;
 
@@ -51,11 +47,83 @@ public final class EscapeCharacter {
 	 */
 	@Nullable
 	public String escape(@Nullable String value) {
+		return value == null ? null : escapeAndWrap(value, false, false);
+	}
+
+	/**
+	 * Escapes all special like characters ({@code _}, {@code %}) using the configured escape character and wraps the
+	 * result in the requested {@code %} wildcards. The value is scanned once and the given {@link String} is returned
+	 * as-is if it neither requires escaping nor wrapping.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param leadingWildcard whether to prepend a {@code %} wildcard.
+	 * @param trailingWildcard whether to append a {@code %} wildcard.
+	 * @return the escaped and wrapped value.
+	 * @since 3.5
+	 */
+	public String escapeAndWrap(String value, boolean leadingWildcard, boolean trailingWildcard) {
+
+		int length = value.length();
+		int escapes = 0;
+
+		for (int i = 0; i < length; i++) {
+			if (requiresEscaping(value.charAt(i))) {
+				escapes++;
+			}
+		}
+
+		if (escapes == 0) {
+			return wrap(value, leadingWildcard, trailingWildcard);
+		}
+
+		char[] result = new char[length + escapes + (leadingWildcard ? 1 : 0) + (trailingWildcard ? 1 : 0)];
+		int position = 0;
+
+		if (leadingWildcard) {
+			result[position++] = WILDCARD;
+		}
+
+		for (int i = 0; i < length; i++) {
+
+			char character = value.charAt(i);
+
+			if (requiresEscaping(character)) {
+				result[position++] = escapeCharacter;
+			}
+
+			result[position++] = character;
+		}
+
+		if (trailingWildcard) {
+			result[position] = WILDCARD;
+		}
+
+		return new String(result);
+	}
+
+	/**
+	 * Wraps the given value in the requested {@code %} wildcards without escaping it.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param leadingWildcard whether to prepend a {@code %} wildcard.
+	 * @param trailingWildcard whether to append a {@code %} wildcard.
+	 * @return the wrapped value or the given {@link String} if no wildcard was requested.
+	 */
+	static String wrap(String value, boolean leadingWildcard, boolean trailingWildcard) {
+
+		if (leadingWildcard && trailingWildcard) {
+			return WILDCARD + value + WILDCARD;
+		}
+
+		if (leadingWildcard) {
+			return WILDCARD + value;
+		}
+
+		return trailingWildcard ? value + WILDCARD : value;
+	}
 
-		return value == null //
-				? null //
-				: Stream.concat(Stream.of(String.valueOf(escapeCharacter)), TO_REPLACE.stream()) //
-						.reduce(value, (it, character) -> it.replace(character, this.escapeCharacter + character));
+	private boolean requiresEscaping(char character) {
+		return character == escapeCharacter || character == '_' || character == WILDCARD;
 	}
 
 	public char getEscapeCharacter() {
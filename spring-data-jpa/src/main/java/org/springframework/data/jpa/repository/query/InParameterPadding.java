@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Padding strategy for collection-valued parameters bound to {@code IN} clauses. Persistence providers render a bind
+ * marker per collection element so that each distinct collection size results in a distinct SQL statement. Padding
+ * collections to a limited set of sizes by repeating their last element reduces the number of distinct statements
+ * competing for the query plan cache of the persistence provider and the statement cache of the database without
+ * changing query semantics.
+ *
+ * @since 3.5
+ */
+public final class InParameterPadding {
+
+	/**
+	 * Binds collections as-is.
+	 */
+	public static final InParameterPadding NONE = new InParameterPadding(new int[0]);
+
+	private static final InParameterPadding POWER_OF_TWO = new InParameterPadding(null);
+
+	private final @Nullable int[] buckets;
+
+	private InParameterPadding(@Nullable int[] buckets) {
+		this.buckets = buckets;
+	}
+
+	/**
+	 * Returns a padding that binds collections as-is.
+	 *
+	 * @return {@link #NONE}.
+	 */
+	public static InParameterPadding none() {
+		return NONE;
+	}
+
+	/**
+	 * Returns a padding that pads collections to the next power of two.
+	 *
+	 * @return the padding.
+	 */
+	public static InParameterPadding powerOfTwo() {
+		return POWER_OF_TWO;
+	}
+
+	/**
+	 * Returns a padding that pads collections to the next of the given sizes. Collections exceeding the largest size are
+	 * padded to the next multiple of it.
+	 *
+	 * @param sizes must not be empty and contain positive sizes only.
+	 * @return the padding.
+	 */
+	public static InParameterPadding buckets(int... sizes) {
+
+		Assert.notNull(sizes, "Sizes must not be null");
+		Assert.isTrue(sizes.length > 0, "Sizes must not be empty");
+
+		int[] buckets = sizes.clone();
+		Arrays.sort(buckets);
+
+		Assert.isTrue(buckets[0] > 0, "Sizes must be greater than zero");
+
+		return new InParameterPadding(buckets);
+	}
+
+	/**
+	 * @return whether this padding modifies collections at all.
+	 */
+	public boolean isEnabled() {
+		return this != NONE;
+	}
+
+	/**
+	 * Returns the size to pad a collection of the given size to.
+	 *
+	 * @param size the collection size.
+	 * @return the padded size, at least {@code size}.
+	 */
+	int getPaddedSize(int size) {
+
+		if (size <= 1 || !isEnabled()) {
+			return size;
+		}
+
+		if (buckets == null) {
+
+			int padded = Integer.highestOneBit(size - 1) << 1;
+			return padded > 0 ? padded : size;
+		}
+
+		for (int bucket : buckets) {
+			if (bucket >= size) {
+				return bucket;
+			}
+		}
+
+		int largest = buckets[buckets.length - 1];
+		return ((size + largest - 1) / largest) * largest;
+	}
+
+	/**
+	 * Pads the given value if it is a non-empty {@link Collection} by repeating its last element.
+	 *
+	 * @param value the value to bind, can be {@literal null}.
+	 * @return the padded collection or the value as-is.
+	 */
+	@Nullable
+	public Object pad(@Nullable Object value) {
+
+		if (!(value instanceof Collection<?> collection) || collection.isEmpty()) {
+			return value;
+		}
+
+		int size = collection.size();
+		int paddedSize = getPaddedSize(size);
+
+		if (paddedSize == size) {
+			return value;
+		}
+
+		List<Object> padded = new ArrayList<>(paddedSize);
+		padded.addAll(collection);
+
+		Object last = padded.get(size - 1);
+
+		for (int i = size; i < paddedSize; i++) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to apply this padding to the {@link RepositoryQuery queries} it
+	 * creates.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @return the decorated strategy.
+	 */
+	public QueryLookupStrategy decorate(QueryLookupStrategy strategy) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+
+		if (!isEnabled()) {
+			return strategy;
+		}
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractJpaQuery jpaQuery) {
+				jpaQuery.setInParameterPadding(this);
+			}
+
+			return query;
+		};
+	}
+
+	@Override
+	public String toString() {
+
+		if (buckets == null) {
+			return "InParameterPadding [power of two]";
+		}
+
+		return isEnabled() ? "InParameterPadding %s".formatted(Arrays.toString(buckets)) : "InParameterPadding [none]";
+	}
+}
@@ -30,6 +30,7 @@ import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.delete.Delete;
 import net.sf.jsqlparser.statement.insert.Insert;
 import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.select.Distinct;
 import net.sf.jsqlparser.statement.select.Join;
 import net.sf.jsqlparser.statement.select.OrderByElement;
 import net.sf.jsqlparser.statement.select.PlainSelect;
@@ -39,9 +40,6 @@ import net.sf.jsqlparser.statement.select.SetOperationList;
 import net.sf.jsqlparser.statement.select.Values;
 import net.sf.jsqlparser.statement.update.Update;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -50,10 +48,10 @@ import java.util.Set;
 import java.util.StringJoiner;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.SerializationUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -68,6 +66,8 @@ import org.springframework.util.StringUtils;
  */
 public class JSqlParserQueryEnhancer implements QueryEnhancer {
 
+	private static final String PLACEHOLDER = "__spring_data_jpa_placeholder__";
+
 	private final DeclaredQuery query;
 	private final Statement statement;
 	private final ParsedType parsedType;
@@ -76,7 +76,8 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 	private final String projection;
 	private final Set<String> joinAliases;
 	private final Set<String> selectAliases;
-	private final byte[] serialized;
+	private final Lazy<QueryTemplate> sortTemplate;
+	private final Lazy<CountTemplate> countTemplate;
 
 	/**
 	 * @param query the query we want to enhance. Must not be {@literal null}.
@@ -92,7 +93,8 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 		this.projection = detectProjection(this.statement);
 		this.selectAliases = Collections.unmodifiableSet(getSelectionAliases(this.statement));
 		this.joinAliases = Collections.unmodifiableSet(getJoinAliases(this.statement));
-		this.serialized = SerializationUtils.serialize(this.statement);
+		this.sortTemplate = Lazy.of(this::createSortTemplate);
+		this.countTemplate = Lazy.of(this::createCountTemplate);
 	}
 
 	/**
@@ -318,7 +320,83 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 			return queryString;
 		}
 
-		return applySorting((Select) deserialize(this.serialized), sort, alias);
+		QueryTemplate template = sortTemplate.getNullable();
+
+		if (template == null) {
+			return applySorting(parseStatement(queryString, Select.class), sort, alias);
+		}
+
+		if (template.isFixed()) {
+			return template.prefix();
+		}
+
+		boolean setOperation = statement instanceof SetOperationList;
+		StringJoiner orderClauses = new StringJoiner(", ");
+
+		for (Sort.Order order : sort) {
+			orderClauses.add(setOperation //
+					? getOrderClause(Collections.emptySet(), Collections.emptySet(), null, order).toString() //
+					: getOrderClause(joinAliases, selectAliases, alias, order).toString());
+		}
+
+		return template.render(orderClauses.toString());
+	}
+
+	/**
+	 * Renders the parsed statement with a placeholder appended to its top-level {@code ORDER BY} clause so that sorted
+	 * variants can be created by splicing order clauses into the rendered query instead of copying and mutating the
+	 * statement.
+	 *
+	 * @return the template or {@literal null} if the query cannot be rendered into a template.
+	 */
+	@Nullable
+	private QueryTemplate createSortTemplate() {
+
+		synchronized (statement) {
+
+			if (statement instanceof SetOperationList setOperationList) {
+
+				// special case: ValuesStatements are detected as nested OperationListStatements
+				for (Select select : setOperationList.getSelects()) {
+					if (select instanceof Values) {
+						return QueryTemplate.fixed(setOperationList.toString());
+					}
+				}
+
+				List<OrderByElement> orderByElements = setOperationList.getOrderByElements();
+
+				try {
+					setOperationList.setOrderByElements(withPlaceholder(orderByElements));
+					return QueryTemplate.of(setOperationList.toString());
+				} finally {
+					setOperationList.setOrderByElements(orderByElements);
+				}
+			}
+
+			if (!(statement instanceof PlainSelect selectBody)) {
+				return QueryTemplate.fixed(statement.toString());
+			}
+
+			List<OrderByElement> orderByElements = selectBody.getOrderByElements();
+
+			try {
+				selectBody.setOrderByElements(withPlaceholder(orderByElements));
+				return QueryTemplate.of(selectBody.toString());
+			} finally {
+				selectBody.setOrderByElements(orderByElements);
+			}
+		}
+	}
+
+	private static List<OrderByElement> withPlaceholder(@Nullable List<OrderByElement> orderByElements) {
+
+		List<OrderByElement> result = orderByElements == null ? new ArrayList<>(1) : new ArrayList<>(orderByElements);
+
+		OrderByElement placeholder = new OrderByElement();
+		placeholder.setExpression(new Column(PLACEHOLDER));
+		result.add(placeholder);
+
+		return result;
 	}
 
 	private String applySorting(Select selectStatement, Sort sort, @Nullable String alias) {
@@ -354,15 +432,67 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 
 		Assert.hasText(this.query.getQueryString(), "OriginalQuery must not be null or empty");
 
-		Statement statement = (Statement) deserialize(this.serialized);
 		/*
 		  We only support count queries for {@link PlainSelect}.
 		 */
-		if (!(statement instanceof PlainSelect selectBody)) {
+		if (!(statement instanceof PlainSelect)) {
 			return this.query.getQueryString();
 		}
 
-		return createCountQueryFor(this.query, selectBody, countProjection, primaryAlias);
+		CountTemplate template = countTemplate.getNullable();
+
+		if (template == null) {
+			return createCountQueryFor(this.query, parseStatement(this.query.getQueryString(), PlainSelect.class),
+					countProjection, primaryAlias);
+		}
+
+		if (StringUtils.hasText(countProjection)) {
+			return template.projected()
+					.render(SelectItem.from(getJSqlCount(Collections.singletonList(countProjection), false)).toString());
+		}
+
+		return template.derived().render(SelectItem
+				.from(getJSqlCount(Collections.singletonList(template.countProperty()), template.distinct())).toString());
+	}
+
+	/**
+	 * Renders the parsed statement without {@code ORDER BY} clause and with a placeholder selection so that count
+	 * queries can be created by splicing the count expression into the rendered query instead of copying and mutating
+	 * the statement.
+	 *
+	 * @return the template or {@literal null} if the query cannot be rendered into a template.
+	 */
+	@Nullable
+	private CountTemplate createCountTemplate() {
+
+		PlainSelect selectBody = (PlainSelect) statement;
+
+		synchronized (statement) {
+
+			List<OrderByElement> orderByElements = selectBody.getOrderByElements();
+			List<SelectItem<?>> selectItems = selectBody.getSelectItems();
+			Distinct distinct = selectBody.getDistinct();
+
+			String countProperty = countPropertyNameForSelection(selectItems, distinct != null, primaryAlias);
+
+			try {
+
+				selectBody.setOrderByElements(null);
+				selectBody.setSelectItems(Collections.singletonList(SelectItem.from(new Column(PLACEHOLDER))));
+				QueryTemplate projected = QueryTemplate.of(selectBody.toString());
+
+				selectBody.setDistinct(null);
+				QueryTemplate derived = QueryTemplate.of(selectBody.toString());
+
+				return projected != null && derived != null
+						? new CountTemplate(projected, derived, distinct != null, countProperty)
+						: null;
+			} finally {
+				selectBody.setOrderByElements(orderByElements);
+				selectBody.setSelectItems(selectItems);
+				selectBody.setDistinct(distinct);
+			}
+		}
 	}
 
 	private static String createCountQueryFor(DeclaredQuery query, PlainSelect selectBody,
@@ -514,19 +644,56 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 	}
 
 	/**
-	 * Deserialize the byte array into an object.
+	 * A rendered query split around a placeholder segment.
 	 *
-	 * @param bytes a serialized object
-	 * @return the result of deserializing the bytes
+	 * @param prefix the rendered query up to the placeholder or the entire query for fixed templates.
+	 * @param suffix the rendered query following the placeholder, {@literal null} for fixed templates.
 	 */
-	private static Object deserialize(byte[] bytes) {
-		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
-			return ois.readObject();
-		} catch (IOException ex) {
-			throw new IllegalArgumentException("Failed to deserialize object", ex);
-		} catch (ClassNotFoundException ex) {
-			throw new IllegalStateException("Failed to deserialize object type", ex);
+	private record QueryTemplate(String prefix, @Nullable String suffix) {
+
+		/**
+		 * Splits the given rendered query at its {@link #PLACEHOLDER}.
+		 *
+		 * @return the template or {@literal null} if the placeholder is not contained exactly once.
+		 */
+		@Nullable
+		static QueryTemplate of(String rendered) {
+
+			int index = rendered.indexOf(PLACEHOLDER);
+
+			if (index == -1 || index != rendered.lastIndexOf(PLACEHOLDER)) {
+				return null;
+			}
+
+			return new QueryTemplate(rendered.substring(0, index), rendered.substring(index + PLACEHOLDER.length()));
+		}
+
+		/**
+		 * Creates a template always rendering the given query as-is.
+		 */
+		static QueryTemplate fixed(String rendered) {
+			return new QueryTemplate(rendered, null);
 		}
+
+		boolean isFixed() {
+			return suffix == null;
+		}
+
+		String render(String segment) {
+			return suffix == null ? prefix : prefix + segment + suffix;
+		}
+	}
+
+	/**
+	 * Templates to render count queries.
+	 *
+	 * @param projected template retaining {@code DISTINCT} for a given count projection.
+	 * @param derived template without {@code DISTINCT} for a derived count projection.
+	 * @param distinct whether the original query selects distinct values.
+	 * @param countProperty the count property derived from the original selection.
+	 */
+	private record CountTemplate(QueryTemplate projected, QueryTemplate derived, boolean distinct,
+			String countProperty) {
 	}
 
 }
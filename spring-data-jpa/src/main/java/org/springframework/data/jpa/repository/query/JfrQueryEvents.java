@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * Java Flight Recorder events backing {@link JpaQueryEvents}. Must only be referenced if Java Flight Recorder is
+ * {@link JpaQueryEvents#JFR_PRESENT available}.
+ *
+ * @since 3.5
+ */
+final class JfrQueryEvents {
+
+	private static final String CATEGORY = "Spring Data JPA";
+
+	private static final QueryParseEvent PARSE_EVENT = new QueryParseEvent();
+	private static final ParameterBindingEvent BINDING_EVENT = new ParameterBindingEvent();
+
+	private JfrQueryEvents() {}
+
+	/**
+	 * @return whether events relying on the thread-bound repository method name are enabled.
+	 */
+	static boolean isContextRequired() {
+		return PARSE_EVENT.isEnabled() || BINDING_EVENT.isEnabled();
+	}
+
+	/**
+	 * Event emitted when parsing a query, see {@link JpaQueryEnhancer}.
+	 */
+	@Name("org.springframework.data.jpa.QueryParse")
+	@Label("Query Parse")
+	@Description("Parsing of a JPQL, HQL or EQL query")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static class QueryParseEvent extends Event implements JpaQueryEvents.ParseEvent {
+
+		@Label("Repository Method") @Nullable String method;
+
+		@Label("Grammar") String grammar;
+
+		@Label("Query") String query;
+
+		@Label("LL Fallback")
+		@Description("Whether the query required falling back from SLL to full LL prediction mode") boolean llFallback;
+
+		@Override
+		public void complete(String grammar, String query, boolean llFallback) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				this.method = JpaQueryEvents.getCurrentMethod();
+				this.grammar = grammar;
+				this.query = query;
+				this.llFallback = llFallback;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * Event emitted when rewriting a query to apply sorting.
+	 */
+	@Name("org.springframework.data.jpa.QuerySortRewrite")
+	@Label("Query Sort Rewrite")
+	@Description("Application of a Sort to a declared query")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static class SortRewriteEvent extends Event implements JpaQueryEvents.SortRewriteEvent {
+
+		@Label("Repository Method") String method;
+
+		@Label("Sort") String sort;
+
+		@Label("Cache Hit") boolean cacheHit;
+
+		@Override
+		public void complete(JpaQueryMethod method, Sort sort, boolean cacheHit) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				this.method = JpaQueryEvents.getMethodName(method);
+				this.sort = sort.toString();
+				this.cacheHit = cacheHit;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * Event emitted when binding query parameters, see {@link ParameterBinder}.
+	 */
+	@Name("org.springframework.data.jpa.ParameterBinding")
+	@Label("Query Parameter Binding")
+	@Description("Binding of method arguments to query parameters")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static class ParameterBindingEvent extends Event implements JpaQueryEvents.BindingEvent {
+
+		@Label("Repository Method") @Nullable String method;
+
+		@Label("Parameter Count") int parameterCount;
+
+		@Override
+		public void complete(int parameterCount) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				this.method = JpaQueryEvents.getCurrentMethod();
+				this.parameterCount = parameterCount;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * Event emitted when executing a repository query, see {@link JpaQueryExecution}.
+	 */
+	@Name("org.springframework.data.jpa.QueryExecution")
+	@Label("Query Execution")
+	@Description("Execution of a repository query method")
+	@Category(CATEGORY)
+	static class QueryExecutionEvent extends Event implements JpaQueryEvents.ExecutionEvent {
+
+		@Label("Repository Method") String method;
+
+		@Label("Execution") String execution;
+
+		@Label("Row Count")
+		@Description("Number of returned or modified rows, -1 for streamed results") long rowCount;
+
+		@Override
+		public void complete(JpaQueryMethod method, String execution, @Nullable Object result, boolean modifying) {
+
+			end();
+
+			if (shouldCommit()) {
+
+				this.method = JpaQueryEvents.getMethodName(method);
+				this.execution = execution;
+				this.rowCount = JpaQueryEvents.getRowCount(result, modifying);
+				commit();
+			}
+		}
+	}
+}
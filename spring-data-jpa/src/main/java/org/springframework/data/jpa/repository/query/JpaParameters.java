@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.jpa.repository.FullTextSearch;
 import org.springframework.data.jpa.repository.Temporal;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.query.Parameter;
@@ -88,6 +89,7 @@ public class JpaParameters extends Parameters<JpaParameters, JpaParameter> {
 	public static class JpaParameter extends Parameter {
 
 		private final @Nullable Temporal annotation;
+		private final @Nullable FullTextSearch fullTextSearch;
 		private @Nullable TemporalType temporalType;
 
 		/**
@@ -107,6 +109,12 @@ public class JpaParameters extends Parameters<JpaParameters, JpaParameter> {
 				throw new IllegalArgumentException(
 						Temporal.class.getSimpleName() + " annotation is only allowed on Date parameter");
 			}
+
+			this.fullTextSearch = parameter.getParameterAnnotation(FullTextSearch.class);
+			if (fullTextSearch != null && !String.class.equals(getType())) {
+				throw new IllegalArgumentException(
+						FullTextSearch.class.getSimpleName() + " annotation is only allowed on String parameter");
+			}
 		}
 
 		/**
@@ -123,6 +131,12 @@ public class JpaParameters extends Parameters<JpaParameters, JpaParameter> {
 				throw new IllegalArgumentException(
 						Temporal.class.getSimpleName() + " annotation is only allowed on Date parameter");
 			}
+
+			this.fullTextSearch = parameter.getParameterAnnotation(FullTextSearch.class);
+			if (fullTextSearch != null && !String.class.equals(getType())) {
+				throw new IllegalArgumentException(
+						FullTextSearch.class.getSimpleName() + " annotation is only allowed on String parameter");
+			}
 		}
 
 		@Override
@@ -166,6 +180,16 @@ public class JpaParameters extends Parameters<JpaParameters, JpaParameter> {
 			throw new IllegalStateException(String.format("Required temporal type not found for %s", getType()));
 		}
 
+		/**
+		 * @return the name of the function declared by the {@link FullTextSearch} annotation of the parameter or
+		 *         {@literal null} if the parameter is not annotated.
+		 * @since 3.5
+		 */
+		@Nullable
+		String getFullTextSearchFunction() {
+			return fullTextSearch != null ? fullTextSearch.function() : null;
+		}
+
 		private boolean hasTemporalParamAnnotation() {
 			return annotation != null;
 		}
@@ -15,10 +15,17 @@
  */
 package org.springframework.data.jpa.repository.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.expression.ValueEvaluationContext;
+import org.springframework.data.expression.ValueEvaluationContextProvider;
+import org.springframework.data.expression.ValueExpression;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.lang.Nullable;
 
 /**
@@ -31,6 +38,8 @@ import org.springframework.lang.Nullable;
  */
 public class JpaParametersParameterAccessor extends ParametersParameterAccessor {
 
+	private @Nullable ExpressionEvaluation expressionEvaluation;
+
 	/**
 	 * Creates a new {@link ParametersParameterAccessor}.
 	 *
@@ -61,4 +70,62 @@ public class JpaParametersParameterAccessor extends ParametersParameterAccessor
 		return parameterValue;
 	}
 
+	/**
+	 * Evaluates the given {@link ValueExpression} against the values of this accessor. The evaluation context is created
+	 * on the first evaluation and results are retained so that an expression used multiple times within an invocation,
+	 * e.g. in a query and its count query, is evaluated only once.
+	 *
+	 * @param expression must not be {@literal null}.
+	 * @param contextProvider must not be {@literal null}.
+	 * @param dependencies dependencies of all expressions of the query to create the evaluation context for.
+	 * @return the result of the evaluation.
+	 * @since 3.5
+	 */
+	@Nullable
+	Object evaluate(ValueExpression expression, ValueEvaluationContextProvider contextProvider,
+			ExpressionDependencies dependencies) {
+
+		ExpressionEvaluation evaluation = this.expressionEvaluation;
+
+		if (evaluation == null || evaluation.contextProvider != contextProvider) {
+			this.expressionEvaluation = evaluation = new ExpressionEvaluation(contextProvider);
+		}
+
+		return evaluation.evaluate(expression, dependencies, getValues());
+	}
+
+	/**
+	 * Evaluation state of value expressions within a single invocation.
+	 */
+	private static class ExpressionEvaluation {
+
+		private final ValueEvaluationContextProvider contextProvider;
+		private final Map<String, Object> results = new HashMap<>(4);
+		private @Nullable ExpressionDependencies dependencies;
+		private @Nullable ValueEvaluationContext context;
+
+		ExpressionEvaluation(ValueEvaluationContextProvider contextProvider) {
+			this.contextProvider = contextProvider;
+		}
+
+		@Nullable
+		Object evaluate(ValueExpression expression, ExpressionDependencies dependencies, Object[] values) {
+
+			String expressionString = expression.getExpressionString();
+
+			if (results.containsKey(expressionString)) {
+				return results.get(expressionString);
+			}
+
+			if (context == null || this.dependencies != dependencies) {
+				this.context = contextProvider.getEvaluationContext(values, dependencies);
+				this.dependencies = dependencies;
+			}
+
+			Object result = expression.evaluate(context);
+			results.put(expressionString, result);
+
+			return result;
+		}
+	}
 }
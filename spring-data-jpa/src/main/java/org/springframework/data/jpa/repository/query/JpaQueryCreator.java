@@ -40,6 +40,7 @@ import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.Nullable;
@@ -296,8 +297,17 @@ public class JpaQueryCreator extends AbstractQueryCreator<CriteriaQuery<? extend
 				case LIKE:
 				case NOT_LIKE:
 					Expression<String> stringPath = getTypedPath(root, part);
+					ParameterMetadata<? extends String> metadata = provider.next(part, String.class);
+					String fullTextSearchFunction = metadata.getFullTextSearchFunction();
+
+					if (fullTextSearchFunction != null) {
+
+						Predicate matches = fullTextSearch(fullTextSearchFunction, stringPath, metadata.getExpression());
+						return type.equals(NOT_CONTAINING) ? matches.not() : matches;
+					}
+
 					Expression<String> propertyExpression = upperIfIgnoreCase(stringPath);
-					Expression<String> parameterExpression = upperIfIgnoreCase(provider.next(part, String.class).getExpression());
+					Expression<String> parameterExpression = upperIfIgnoreCase(metadata.getExpression());
 					Predicate like = builder.like(propertyExpression, parameterExpression, escape.getEscapeCharacter());
 					return type.equals(NOT_LIKE) || type.equals(NOT_CONTAINING) ? like.not() : like;
 				case TRUE:
@@ -334,6 +344,33 @@ public class JpaQueryCreator extends AbstractQueryCreator<CriteriaQuery<? extend
 			}
 		}
 
+		/**
+		 * Matches the given property against the given parameter through the given boolean full-text search function. Case
+		 * sensitivity is up to the function, so {@code IgnoreCase} is rejected while {@code AllIgnoreCase} does not apply.
+		 *
+		 * @param function must not be {@literal null}.
+		 * @param property must not be {@literal null}.
+		 * @param parameter must not be {@literal null}.
+		 * @return
+		 */
+		private Predicate fullTextSearch(String function, Expression<String> property,
+				Expression<? extends String> parameter) {
+
+			Type type = part.getType();
+
+			if (!type.equals(CONTAINING) && !type.equals(NOT_CONTAINING)) {
+				throw new IllegalArgumentException(
+						"Full-text search can only be used with Containing / NotContaining but was used with " + type);
+			}
+
+			if (part.shouldIgnoreCase().equals(IgnoreCaseType.ALWAYS)) {
+				throw new IllegalArgumentException(
+						"Full-text search cannot be combined with IgnoreCase for property " + part.getProperty().toDotPath());
+			}
+
+			return builder.isTrue(builder.function(function, Boolean.class, property, parameter));
+		}
+
 		private <T> Predicate isMember(CriteriaBuilder builder, Expression<T> parameter,
 				Expression<Collection<T>> property) {
 			return builder.isMember(parameter, property);
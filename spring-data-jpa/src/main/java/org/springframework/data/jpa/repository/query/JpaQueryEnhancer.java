@@ -34,7 +34,9 @@ import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTreeVisitor;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -56,6 +58,9 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 	private final String projection;
 	private final SortedQueryRewriteFunction<Q> sortFunction;
 	private final BiFunction<String, Q, ParseTreeVisitor<QueryTokenStream>> countQueryFunction;
+	private final int renderCapacity;
+	private final Lazy<SortedQueryTemplate> sortTemplate;
+	private volatile @Nullable SortedQueryTemplate rewriteTemplate;
 
 	JpaQueryEnhancer(ParserRuleContext context, ParsedQueryIntrospector<Q> introspector,
 			SortedQueryRewriteFunction<Q> sortFunction,
@@ -70,6 +75,8 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 
 		List<QueryToken> tokens = queryInformation.getProjection();
 		this.projection = tokens.isEmpty() ? "" : new QueryRenderer.TokenRenderer(tokens).render();
+		this.renderCapacity = context.getStop() != null ? context.getStop().getStopIndex() + 64 : 64;
+		this.sortTemplate = Lazy.of(() -> createSortTemplate(null));
 	}
 
 	/**
@@ -92,17 +99,28 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 			}
 		});
 
+		JpaQueryEvents.ParseEvent event = JpaQueryEvents.parse();
+		event.begin();
+
+		ParserRuleContext context;
+		boolean llFallback = false;
+
 		try {
 
-			return parseFunction.apply(parser);
+			context = parseFunction.apply(parser);
 		} catch (BadJpqlGrammarException | ParseCancellationException e) {
 
 			parser = getParser(query, lexerFactoryFunction, parserFactoryFunction);
 			// fall back to LL(*)-based parsing
 			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
 
-			return parseFunction.apply(parser);
+			context = parseFunction.apply(parser);
+			llFallback = true;
 		}
+
+		event.complete(parser.getGrammarFileName(), query, llFallback);
+
+		return context;
 	}
 
 	private static <P extends Parser> P getParser(String query, Function<CharStream, Lexer> lexerFactoryFunction,
@@ -249,14 +267,63 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 	 */
 	@Override
 	public String applySorting(Sort sort) {
-		return QueryRenderer.TokenRenderer.render(sortFunction.apply(sort, this.queryInformation, null).visit(context));
+		return renderSorted(sort, null);
 	}
 
 	@Override
 	public String rewrite(QueryRewriteInformation rewriteInformation) {
-		return QueryRenderer.TokenRenderer.render(
-				sortFunction.apply(rewriteInformation.getSort(), this.queryInformation, rewriteInformation.getReturnedType())
-						.visit(context));
+		return renderSorted(rewriteInformation.getSort(), rewriteInformation.getReturnedType());
+	}
+
+	/**
+	 * Renders the query applying the given {@link Sort}. Sorted queries are rendered from a {@link SortedQueryTemplate}
+	 * created once per {@link ReturnedType} so that only the {@literal ORDER BY} items are rendered for each
+	 * {@link Sort}.
+	 */
+	private String renderSorted(Sort sort, @Nullable ReturnedType returnedType) {
+
+		if (sort.isSorted()) {
+
+			SortedQueryTemplate template = getSortTemplate(returnedType);
+
+			if (template.isAvailable()) {
+				return template.render(sort);
+			}
+		}
+
+		return QueryRenderer.TokenRenderer
+				.render(sortFunction.apply(sort, this.queryInformation, returnedType).visit(context), renderCapacity);
+	}
+
+	private SortedQueryTemplate getSortTemplate(@Nullable ReturnedType returnedType) {
+
+		if (returnedType == null) {
+			return sortTemplate.get();
+		}
+
+		SortedQueryTemplate template = this.rewriteTemplate;
+
+		if (template == null || template.returnedType != returnedType) {
+			template = createSortTemplate(returnedType);
+			this.rewriteTemplate = template;
+		}
+
+		return template;
+	}
+
+	private SortedQueryTemplate createSortTemplate(@Nullable ReturnedType returnedType) {
+
+		ParseTreeVisitor<QueryTokenStream> transformer = sortFunction.apply(SortedQueryTemplate.PLACEHOLDER,
+				this.queryInformation, returnedType);
+
+		if (!(transformer instanceof SortedQueryTransformer sortedQueryTransformer)) {
+			return SortedQueryTemplate.unavailable(returnedType);
+		}
+
+		String rendered = QueryRenderer.TokenRenderer.render(transformer.visit(context), renderCapacity);
+
+		return SortedQueryTemplate.of(rendered, returnedType, sortedQueryTransformer.getTransformerSupport(),
+				queryInformation.getAlias());
 	}
 
 	/**
@@ -289,7 +356,7 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 	@Override
 	public String createCountQueryFor(@Nullable String countProjection) {
 		return QueryRenderer.TokenRenderer
-				.render(countQueryFunction.apply(countProjection, this.queryInformation).visit(context));
+				.render(countQueryFunction.apply(countProjection, this.queryInformation).visit(context), renderCapacity);
 	}
 
 	/**
@@ -305,6 +372,91 @@ class JpaQueryEnhancer<Q extends QueryInformation> implements QueryEnhancer {
 
 	}
 
+	/**
+	 * Transformer applying a {@link Sort} that exposes the {@link JpaQueryTransformerSupport} used to render
+	 * {@literal ORDER BY} items. The support carries the aliases registered while visiting the query.
+	 *
+	 * @since 3.5
+	 */
+	interface SortedQueryTransformer {
+
+		JpaQueryTransformerSupport getTransformerSupport();
+
+	}
+
+	/**
+	 * Sorted rendition of a query split around a placeholder {@literal ORDER BY} item. Renders sorted queries by
+	 * splicing the {@literal ORDER BY} items of a {@link Sort} into the rendition instead of walking the parse tree.
+	 *
+	 * @since 3.5
+	 */
+	static class SortedQueryTemplate {
+
+		static final Sort PLACEHOLDER = JpaSort.unsafe("__spring_data_jpa_sort__()");
+
+		final @Nullable ReturnedType returnedType;
+		private final String prefix;
+		private final String suffix;
+		private final @Nullable JpaQueryTransformerSupport transformerSupport;
+		private final @Nullable String primaryFromAlias;
+
+		private SortedQueryTemplate(@Nullable ReturnedType returnedType, String prefix, String suffix,
+				@Nullable JpaQueryTransformerSupport transformerSupport, @Nullable String primaryFromAlias) {
+
+			this.returnedType = returnedType;
+			this.prefix = prefix;
+			this.suffix = suffix;
+			this.transformerSupport = transformerSupport;
+			this.primaryFromAlias = primaryFromAlias;
+		}
+
+		/**
+		 * Creates a template from the query rendered with the {@link #PLACEHOLDER} sort.
+		 *
+		 * @param rendered the rendered query.
+		 * @param returnedType the returned type the query was rendered for.
+		 * @param transformerSupport the support used to render the query.
+		 * @param primaryFromAlias the alias of the primary {@literal FROM} clause.
+		 * @return the template, {@link #isAvailable() unavailable} if the placeholder cannot be located unambiguously.
+		 */
+		static SortedQueryTemplate of(String rendered, @Nullable ReturnedType returnedType,
+				JpaQueryTransformerSupport transformerSupport, @Nullable String primaryFromAlias) {
+
+			String placeholder = QueryRenderer.TokenRenderer
+					.render(transformerSupport.orderBy(primaryFromAlias, PLACEHOLDER));
+			int index = rendered.indexOf(placeholder);
+
+			if (index == -1 || index != rendered.lastIndexOf(placeholder)) {
+				return unavailable(returnedType);
+			}
+
+			return new SortedQueryTemplate(returnedType, rendered.substring(0, index),
+					rendered.substring(index + placeholder.length()), transformerSupport, primaryFromAlias);
+		}
+
+		static SortedQueryTemplate unavailable(@Nullable ReturnedType returnedType) {
+			return new SortedQueryTemplate(returnedType, "", "", null, null);
+		}
+
+		boolean isAvailable() {
+			return transformerSupport != null;
+		}
+
+		String render(Sort sort) {
+
+			Assert.state(transformerSupport != null, "Template is not available");
+
+			List<QueryToken> orderBy = transformerSupport.orderBy(primaryFromAlias, sort);
+
+			StringBuilder builder = new StringBuilder(prefix.length() + suffix.length() + orderBy.size() * 16);
+			builder.append(prefix);
+			QueryRenderer.appendTo(orderBy, builder);
+			builder.append(suffix);
+
+			return builder.toString();
+		}
+	}
+
 	/**
 	 * Implements the {@code HQL} parsing operations of a {@link JpaQueryEnhancer} using the ANTLR-generated
 	 * {@link HqlParser} and {@link HqlSortedQueryTransformer}.
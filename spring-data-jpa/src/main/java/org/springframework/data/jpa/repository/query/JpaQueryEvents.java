@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Java Flight Recorder events emitted by repository query methods for query parsing, sort rewriting, parameter binding
+ * and query execution. Events that are not enabled in a recording are neither populated nor committed. Parsing and
+ * binding happen without access to the {@link JpaQueryMethod}, the repository method name is therefore exposed through
+ * a thread-bound context that is only maintained while one of these events is enabled.
+ * <p>
+ * Events are backed by {@link JfrQueryEvents} if Java Flight Recorder is available and fall back to no-op events
+ * otherwise, e.g. on runtimes assembled without the {@code jdk.jfr} module.
+ *
+ * @since 3.5
+ */
+final class JpaQueryEvents {
+
+	static final boolean JFR_PRESENT = ClassUtils.isPresent("jdk.jfr.Event", JpaQueryEvents.class.getClassLoader());
+
+	private static final ThreadLocal<String> currentMethod = new NamedThreadLocal<>("Current repository query method");
+
+	private JpaQueryEvents() {}
+
+	/**
+	 * @return whether events relying on the thread-bound repository method name are enabled.
+	 */
+	static boolean isContextRequired() {
+		return JFR_PRESENT && JfrQueryEvents.isContextRequired();
+	}
+
+	/**
+	 * @return a new {@link ParseEvent}.
+	 */
+	static ParseEvent parse() {
+		return JFR_PRESENT ? new JfrQueryEvents.QueryParseEvent() : NoOpEvent.INSTANCE;
+	}
+
+	/**
+	 * @return a new {@link SortRewriteEvent}.
+	 */
+	static SortRewriteEvent sortRewrite() {
+		return JFR_PRESENT ? new JfrQueryEvents.SortRewriteEvent() : NoOpEvent.INSTANCE;
+	}
+
+	/**
+	 * @return a new {@link BindingEvent}.
+	 */
+	static BindingEvent binding() {
+		return JFR_PRESENT ? new JfrQueryEvents.ParameterBindingEvent() : NoOpEvent.INSTANCE;
+	}
+
+	/**
+	 * @return a new {@link ExecutionEvent}.
+	 */
+	static ExecutionEvent execution() {
+		return JFR_PRESENT ? new JfrQueryEvents.QueryExecutionEvent() : NoOpEvent.INSTANCE;
+	}
+
+	/**
+	 * Exposes the given {@link JpaQueryMethod} as the repository method currently invoked on the calling thread.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return the previously exposed method name to pass to {@link #exit(String)}.
+	 */
+	@Nullable
+	static String enter(JpaQueryMethod method) {
+
+		String previous = currentMethod.get();
+		currentMethod.set(getMethodName(method));
+
+		return previous;
+	}
+
+	/**
+	 * Restores the method name returned by {@link #enter(JpaQueryMethod)}.
+	 *
+	 * @param previous can be {@literal null}.
+	 */
+	static void exit(@Nullable String previous) {
+
+		if (previous == null) {
+			currentMethod.remove();
+		} else {
+			currentMethod.set(previous);
+		}
+	}
+
+	/**
+	 * @return the repository method name exposed on the calling thread, {@literal null} if none.
+	 */
+	@Nullable
+	static String getCurrentMethod() {
+		return currentMethod.get();
+	}
+
+	static String getMethodName(JpaQueryMethod queryMethod) {
+
+		Method method = queryMethod.getMethod();
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+	}
+
+	/**
+	 * Returns the number of rows contained in a query result or {@literal -1} if the result is consumed lazily.
+	 *
+	 * @param result the query result, can be {@literal null}.
+	 * @param modifying whether the result is an update count.
+	 * @return the number of rows.
+	 */
+	static long getRowCount(@Nullable Object result, boolean modifying) {
+
+		if (result == null) {
+			return 0;
+		}
+
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+
+		if (result instanceof Window<?> window) {
+			return window.size();
+		}
+
+		if (result instanceof Stream<?>) {
+			return -1;
+		}
+
+		if (modifying && result instanceof Number count) {
+			return count.longValue();
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Event covering the parsing of a query, see {@link JpaQueryEnhancer}.
+	 */
+	interface ParseEvent {
+
+		void begin();
+
+		/**
+		 * Ends the event and commits it if enabled.
+		 *
+		 * @param grammar the grammar used to parse the query.
+		 * @param query the parsed query.
+		 * @param llFallback whether parsing had to fall back from SLL to LL prediction mode.
+		 */
+		void complete(String grammar, String query, boolean llFallback);
+	}
+
+	/**
+	 * Event covering the rewriting of a query to apply sorting.
+	 */
+	interface SortRewriteEvent {
+
+		boolean isEnabled();
+
+		void begin();
+
+		/**
+		 * Ends the event and commits it if enabled.
+		 *
+		 * @param method the query method.
+		 * @param sort the applied sort.
+		 * @param cacheHit whether the rewritten query was obtained from a cache.
+		 */
+		void complete(JpaQueryMethod method, Sort sort, boolean cacheHit);
+	}
+
+	/**
+	 * Event covering the binding of query parameters, see {@link ParameterBinder}.
+	 */
+	interface BindingEvent {
+
+		void begin();
+
+		/**
+		 * Ends the event and commits it if enabled.
+		 *
+		 * @param parameterCount the number of bound parameters.
+		 */
+		void complete(int parameterCount);
+	}
+
+	/**
+	 * Event covering the execution of a repository query, see {@link JpaQueryExecution}.
+	 */
+	interface ExecutionEvent {
+
+		void begin();
+
+		/**
+		 * Ends the event and commits it if enabled.
+		 *
+		 * @param method the query method.
+		 * @param execution the name of the execution.
+		 * @param result the query result, can be {@literal null}.
+		 * @param modifying whether the result is an update count.
+		 */
+		void complete(JpaQueryMethod method, String execution, @Nullable Object result, boolean modifying);
+	}
+
+	/**
+	 * Events used if Java Flight Recorder is not available.
+	 */
+	enum NoOpEvent implements ParseEvent, SortRewriteEvent, BindingEvent, ExecutionEvent {
+
+		INSTANCE;
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void begin() {}
+
+		@Override
+		public void complete(String grammar, String query, boolean llFallback) {}
+
+		@Override
+		public void complete(JpaQueryMethod method, Sort sort, boolean cacheHit) {}
+
+		@Override
+		public void complete(int parameterCount) {}
+
+		@Override
+		public void complete(JpaQueryMethod method, String execution, @Nullable Object result, boolean modifying) {}
+	}
+}
@@ -87,18 +87,33 @@ public abstract class JpaQueryExecution {
 		Assert.notNull(query, "AbstractJpaQuery must not be null");
 		Assert.notNull(accessor, "JpaParametersParameterAccessor must not be null");
 
-		Object result;
+		SlowQueryLog.Measurement measurement = query.startMeasurement();
+		JpaQueryEvents.ExecutionEvent event = JpaQueryEvents.execution();
+		event.begin();
+
+		Object result = null;
 
 		try {
 			result = doExecute(query, accessor);
 		} catch (NoResultException e) {
-			return null;
+			// empty result
+		} finally {
+
+			if (measurement != null) {
+				measurement.stop(getClass().getSimpleName(), result, this instanceof ModifyingExecution);
+			}
 		}
 
+		event.complete(query.getQueryMethod(), getClass().getSimpleName(), result, this instanceof ModifyingExecution);
+
 		if (result == null) {
 			return null;
 		}
 
+		if (supportsBatchFetching()) {
+			query.fetchAssociations(result);
+		}
+
 		JpaQueryMethod queryMethod = query.getQueryMethod();
 		Class<?> requiredType = queryMethod.getReturnType();
 
@@ -120,11 +135,27 @@ public abstract class JpaQueryExecution {
 	@Nullable
 	protected abstract Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor);
 
+	/**
+	 * Returns whether the execution returns multiple entities whose associations can be initialized through
+	 * {@link org.springframework.data.jpa.repository.BatchFetch}.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.5
+	 */
+	protected boolean supportsBatchFetching() {
+		return false;
+	}
+
 	/**
 	 * Executes the query to return a simple collection of entities.
 	 */
 	static class CollectionExecution extends JpaQueryExecution {
 
+		@Override
+		protected boolean supportsBatchFetching() {
+			return true;
+		}
+
 		@Override
 		protected Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor) {
 			return query.createQuery(accessor).getResultList();
@@ -148,6 +179,11 @@ public abstract class JpaQueryExecution {
 			this.delegate = delegate;
 		}
 
+		@Override
+		protected boolean supportsBatchFetching() {
+			return true;
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		protected Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor) {
@@ -167,6 +203,11 @@ public abstract class JpaQueryExecution {
 	 */
 	static class SlicedExecution extends JpaQueryExecution {
 
+		@Override
+		protected boolean supportsBatchFetching() {
+			return true;
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		protected Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor) {
@@ -196,6 +237,11 @@ public abstract class JpaQueryExecution {
 	 */
 	static class PagedExecution extends JpaQueryExecution {
 
+		@Override
+		protected boolean supportsBatchFetching() {
+			return true;
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		protected Object doExecute(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor) {
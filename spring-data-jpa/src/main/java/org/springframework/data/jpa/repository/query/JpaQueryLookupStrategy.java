@@ -96,7 +96,18 @@ public final class JpaQueryLookupStrategy {
 		public final RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 				NamedQueries namedQueries) {
 			JpaQueryMethod queryMethod = queryMethodFactory.build(method, metadata, factory);
-			return resolveQuery(queryMethod, queryRewriterProvider.getQueryRewriter(queryMethod), em, namedQueries);
+
+			if (!JpaQueryEvents.isContextRequired()) {
+				return resolveQuery(queryMethod, queryRewriterProvider.getQueryRewriter(queryMethod), em, namedQueries);
+			}
+
+			String previous = JpaQueryEvents.enter(queryMethod);
+
+			try {
+				return resolveQuery(queryMethod, queryRewriterProvider.getQueryRewriter(queryMethod), em, namedQueries);
+			} finally {
+				JpaQueryEvents.exit(previous);
+			}
 		}
 
 		protected abstract RepositoryQuery resolveQuery(JpaQueryMethod method, QueryRewriter queryRewriter,
@@ -29,6 +29,7 @@ import java.util.Set;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.BatchFetch;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Meta;
@@ -36,6 +37,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.QueryRewriter;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.jpa.repository.SortedQueryCache;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
@@ -87,6 +90,9 @@ public class JpaQueryMethod extends QueryMethod {
 	private final Lazy<Boolean> isProcedureQuery;
 	private final Lazy<JpaEntityMetadata<?>> entityMetadata;
 	private final Lazy<Optional<Meta>> metaAnnotation;
+	private final Lazy<ResultCache> resultCache;
+	private final Lazy<BatchFetch> batchFetch;
+	private final Lazy<SortedQueryCache> sortedQueryCache;
 
 	/**
 	 * Creates a {@link JpaQueryMethod}.
@@ -130,6 +136,23 @@ public class JpaQueryMethod extends QueryMethod {
 		this.entityMetadata = Lazy.of(() -> new DefaultJpaEntityMetadata<>(getDomainClass()));
 		this.metaAnnotation = Lazy
 				.of(() -> Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Meta.class)));
+		this.resultCache = Lazy.of(() -> {
+
+			if (isStreamQuery() || isModifyingQuery() || isProcedureQuery() || getLockModeType() != null) {
+				return null;
+			}
+
+			return AnnotatedElementUtils.findMergedAnnotation(method, ResultCache.class);
+		});
+		this.batchFetch = Lazy.of(() -> {
+
+			if (isStreamQuery() || isModifyingQuery() || isProcedureQuery()) {
+				return null;
+			}
+
+			return AnnotatedElementUtils.findMergedAnnotation(method, BatchFetch.class);
+		});
+		this.sortedQueryCache = Lazy.of(() -> AnnotatedElementUtils.findMergedAnnotation(method, SortedQueryCache.class));
 
 		Assert.isTrue(!(isModifyingQuery() && getParameters().hasSpecialParameter()),
 				() -> String.format("Modifying method must not contain %s", Parameters.TYPES));
@@ -199,6 +222,41 @@ public class JpaQueryMethod extends QueryMethod {
 		return jpaEntityGraph.getNullable();
 	}
 
+	/**
+	 * Returns the {@link ResultCache} configuration if the method is annotated with {@link ResultCache} and its results
+	 * can be cached, i.e. the method is neither a streaming, modifying, stored procedure nor locking query method.
+	 *
+	 * @return the {@link ResultCache} configuration or {@literal null} if results are not to be cached.
+	 * @since 3.5
+	 */
+	@Nullable
+	ResultCache getResultCache() {
+		return resultCache.getNullable();
+	}
+
+	/**
+	 * Returns the {@link BatchFetch} configuration if the method is annotated with {@link BatchFetch} and is neither a
+	 * streaming, modifying nor stored procedure query method.
+	 *
+	 * @return the {@link BatchFetch} configuration or {@literal null} if associations are not to be batch-fetched.
+	 * @since 3.5
+	 */
+	@Nullable
+	BatchFetch getBatchFetch() {
+		return batchFetch.getNullable();
+	}
+
+	/**
+	 * Returns the {@link SortedQueryCache} configuration if the method is annotated with {@link SortedQueryCache}.
+	 *
+	 * @return the {@link SortedQueryCache} configuration or {@literal null} to use the default capacity.
+	 * @since 3.5
+	 */
+	@Nullable
+	SortedQueryCache getSortedQueryCache() {
+		return sortedQueryCache.getNullable();
+	}
+
 	/**
 	 * Returns whether the potentially configured {@link QueryHint}s shall be applied when triggering the count query for
 	 * pagination.
@@ -34,7 +34,7 @@ import org.springframework.util.Assert;
  * @since 3.1
  */
 @SuppressWarnings("ConstantValue")
-class JpqlSortedQueryTransformer extends JpqlQueryRenderer {
+class JpqlSortedQueryTransformer extends JpqlQueryRenderer implements JpaQueryEnhancer.SortedQueryTransformer {
 
 	private final JpaQueryTransformerSupport transformerSupport = new JpaQueryTransformerSupport();
 	private final Sort sort;
@@ -51,6 +51,11 @@ class JpqlSortedQueryTransformer extends JpqlQueryRenderer {
 		this.dtoDelegate = returnedType == null ? null : new DtoProjectionTransformerDelegate(returnedType);
 	}
 
+	@Override
+	public JpaQueryTransformerSupport getTransformerSupport() {
+		return transformerSupport;
+	}
+
 	@Override
 	public QueryTokenStream visitSelect_statement(JpqlParser.Select_statementContext ctx) {
 
@@ -52,6 +52,7 @@ final class NamedQuery extends AbstractJpaQuery {
 	private final @Nullable String countProjection;
 	private final boolean namedCountQueryIsPresent;
 	private final Lazy<DeclaredQuery> declaredQuery;
+	private final Lazy<String> derivedCountQueryString;
 	private final QueryParameterSetter.QueryMetadataCache metadataCache;
 
 	/**
@@ -94,6 +95,8 @@ final class NamedQuery extends AbstractJpaQuery {
 
 		this.declaredQuery = Lazy
 				.of(() -> DeclaredQuery.of(queryString, method.isNativeQuery() || query.toString().contains("NativeQuery")));
+		this.derivedCountQueryString = Lazy
+				.of(() -> declaredQuery.get().deriveCountQuery(countProjection).getQueryString());
 		this.metadataCache = new QueryParameterSetter.QueryMetadataCache();
 	}
 
@@ -173,6 +176,14 @@ final class NamedQuery extends AbstractJpaQuery {
 		return parameterBinder.get().bindAndPrepare(query, metadata, accessor);
 	}
 
+	@Override
+	void deriveCountQuery() {
+
+		if (!namedCountQueryIsPresent) {
+			derivedCountQueryString.get();
+		}
+	}
+
 	@Override
 	protected TypedQuery<Long> doCreateCountQuery(JpaParametersParameterAccessor accessor) {
 
@@ -186,7 +197,7 @@ final class NamedQuery extends AbstractJpaQuery {
 
 		} else {
 
-			String countQueryString = declaredQuery.get().deriveCountQuery(countProjection).getQueryString();
+			String countQueryString = derivedCountQueryString.get();
 			cacheKey = countQueryString;
 			countQuery = em.createQuery(countQueryString, Long.class);
 		}
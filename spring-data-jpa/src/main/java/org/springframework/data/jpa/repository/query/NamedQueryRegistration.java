@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Registers the queries of {@link org.springframework.data.jpa.repository.Query string-based} query methods as named
+ * queries with their {@link jakarta.persistence.EntityManagerFactory} while bootstrapping repositories. Persistence
+ * providers such as Hibernate and EclipseLink compile named queries once and skip interpreting the query string on
+ * each execution.
+ * <p>
+ * Queries are created through a short-lived {@link jakarta.persistence.EntityManager} that is closed after
+ * registration and are registered under names qualified by the repository interface and the query method.
+ * <p>
+ * Registered queries are used for executions that neither apply a dynamic {@link org.springframework.data.domain.Sort}
+ * nor a dynamic projection. Query methods using a custom {@link org.springframework.data.jpa.repository.QueryRewriter}
+ * are not registered. Derived query methods are not registered either as their queries are already created from a
+ * cached {@link jakarta.persistence.criteria.CriteriaQuery} whose parameters are bound by identity.
+ *
+ * @since 3.5
+ */
+public final class NamedQueryRegistration {
+
+	private static final Log LOG = LogFactory.getLog(NamedQueryRegistration.class);
+
+	static final String NAME_PREFIX = "spring-data-jpa:";
+
+	private NamedQueryRegistration() {}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to register the queries of resolved query methods as named queries.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @return the decorated strategy.
+	 */
+	public static QueryLookupStrategy decorate(QueryLookupStrategy strategy) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractStringBasedJpaQuery stringQuery) {
+				stringQuery.registerNamedQueries(metadata.getRepositoryInterface());
+			}
+
+			return query;
+		};
+	}
+
+	/**
+	 * Returns the name to register the query of the given query method with. Names are qualified by the repository
+	 * interface as query methods inherited by multiple repository interfaces render different queries, e.g. when using
+	 * {@code #{#entityName}}.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param suffix suffix to distinguish queries of the same method, e.g. its count query.
+	 * @return the query name.
+	 */
+	static String getQueryName(Class<?> repositoryInterface, JpaQueryMethod method, String suffix) {
+		return NAME_PREFIX + repositoryInterface.getName() + "#" + method.getMethod().toGenericString() + suffix;
+	}
+
+	/**
+	 * Registers the given {@link Query} under the given name.
+	 *
+	 * @param emf must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return whether the query was registered.
+	 */
+	static boolean register(EntityManagerFactory emf, String name, Query query) {
+
+		try {
+			emf.addNamedQuery(name, query);
+			return true;
+		} catch (RuntimeException o_O) {
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Failed to register named query %s".formatted(name), o_O);
+			}
+
+			return false;
+		}
+	}
+}
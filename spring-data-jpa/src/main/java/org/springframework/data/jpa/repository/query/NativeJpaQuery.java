@@ -71,9 +71,9 @@ final class NativeJpaQuery extends AbstractStringBasedJpaQuery {
 	}
 
 	@Override
-	protected Query createJpaQuery(String queryString, Sort sort, Pageable pageable, ReturnedType returnedType) {
+	protected Query createJpaQuery(EntityManager em, String queryString, Sort sort, @Nullable Pageable pageable,
+			ReturnedType returnedType) {
 
-		EntityManager em = getEntityManager();
 		String query = potentiallyRewriteQuery(queryString, sort, pageable);
 
 		if (!ObjectUtils.isEmpty(sqlResultSetMapping)) {
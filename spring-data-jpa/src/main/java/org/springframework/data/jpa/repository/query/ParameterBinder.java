@@ -17,6 +17,9 @@ package org.springframework.data.jpa.repository.query;
 
 import jakarta.persistence.Query;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.query.QueryParameterSetter.ErrorHandling;
 import org.springframework.data.jpa.support.PageableUtils;
@@ -38,7 +41,7 @@ public class ParameterBinder {
 	static final String PARAMETER_NEEDS_TO_BE_NAMED = "For queries with named parameters you need to provide names for method parameters; Use @Param for query method parameters, or when on Java 8+ use the javac flag -parameters";
 
 	private final JpaParameters parameters;
-	private final Iterable<QueryParameterSetter> parameterSetters;
+	private final QueryParameterSetter[] parameterSetters;
 	private final boolean useJpaForPaging;
 
 	/**
@@ -68,7 +71,7 @@ public class ParameterBinder {
 		Assert.notNull(parameterSetters, "Parameter setters must not be null");
 
 		this.parameters = parameters;
-		this.parameterSetters = parameterSetters;
+		this.parameterSetters = compile(parameterSetters);
 		this.useJpaForPaging = useJpaForPaging;
 	}
 
@@ -82,8 +85,10 @@ public class ParameterBinder {
 	public void bind(QueryParameterSetter.BindableQuery query, JpaParametersParameterAccessor accessor,
 			ErrorHandling errorHandling) {
 
-		for (QueryParameterSetter setter : parameterSetters) {
-			setter.setParameter(query, accessor, errorHandling);
+		QueryParameterSetter[] setters = this.parameterSetters;
+
+		for (int i = 0; i < setters.length; i++) {
+			setters[i].setParameter(query, accessor, errorHandling);
 		}
 	}
 
@@ -97,8 +102,13 @@ public class ParameterBinder {
 	Query bindAndPrepare(Query query, QueryParameterSetter.QueryMetadata metadata,
 			JpaParametersParameterAccessor accessor) {
 
+		JpaQueryEvents.BindingEvent event = JpaQueryEvents.binding();
+		event.begin();
+
 		bind(query, metadata, accessor);
 
+		event.complete(parameterSetters.length);
+
 		Pageable pageable = accessor.getPageable();
 
 		if (!useJpaForPaging || !parameters.hasLimitingParameters() || pageable.isUnpaged()) {
@@ -115,4 +125,21 @@ public class ParameterBinder {
 
 		return query;
 	}
+
+	/**
+	 * Flattens the given {@link QueryParameterSetter}s into an array, skipping setters that do not bind anything, to
+	 * iterate over them without allocating an {@link java.util.Iterator} per execution.
+	 */
+	private static QueryParameterSetter[] compile(Iterable<QueryParameterSetter> parameterSetters) {
+
+		List<QueryParameterSetter> setters = new ArrayList<>();
+
+		for (QueryParameterSetter setter : parameterSetters) {
+			if (setter != QueryParameterSetter.NOOP) {
+				setters.add(setter);
+			}
+		}
+
+		return setters.toArray(new QueryParameterSetter[0]);
+	}
 }
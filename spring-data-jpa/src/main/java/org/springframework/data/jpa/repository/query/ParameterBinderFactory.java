@@ -24,6 +24,7 @@ import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.jpa.repository.query.ParameterBinding.BindingIdentifier;
 import org.springframework.data.jpa.repository.query.ParameterBinding.ParameterOrigin;
 import org.springframework.data.jpa.repository.query.ParameterMetadataProvider.ParameterMetadata;
+import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.util.Assert;
 
 /**
@@ -63,11 +64,29 @@ class ParameterBinderFactory {
 	 *         {@link jakarta.persistence.criteria.CriteriaQuery}
 	 */
 	static ParameterBinder createCriteriaBinder(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+		return createCriteriaBinder(parameters, metadata, InParameterPadding.NONE);
+	}
+
+	/**
+	 * Creates a {@link ParameterBinder} that just matches method parameter to parameters of a
+	 * {@link jakarta.persistence.criteria.CriteriaQuery} padding collection parameters using the given
+	 * {@link InParameterPadding}.
+	 *
+	 * @param parameters method parameters that are available for binding, must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param padding must not be {@literal null}.
+	 * @return a {@link ParameterBinder} that can assign values for the method parameters to query parameters of a
+	 *         {@link jakarta.persistence.criteria.CriteriaQuery}
+	 * @since 3.5
+	 */
+	static ParameterBinder createCriteriaBinder(JpaParameters parameters, List<ParameterMetadata<?>> metadata,
+			InParameterPadding padding) {
 
 		Assert.notNull(parameters, "JpaParameters must not be null");
 		Assert.notNull(metadata, "Parameter metadata must not be null");
 
-		QueryParameterSetterFactory setterFactory = QueryParameterSetterFactory.forCriteriaQuery(parameters, metadata);
+		QueryParameterSetterFactory setterFactory = QueryParameterSetterFactory.forCriteriaQuery(parameters, metadata,
+				padding);
 		List<ParameterBinding> bindings = getBindings(parameters);
 
 		return new ParameterBinder(parameters, createSetters(bindings, setterFactory));
@@ -87,6 +106,26 @@ class ParameterBinderFactory {
 	 */
 	static ParameterBinder createQueryAwareBinder(JpaParameters parameters, DeclaredQuery query,
 			ValueExpressionParser parser, ValueEvaluationContextProvider evaluationContextProvider) {
+		return createQueryAwareBinder(parameters, query, parser, evaluationContextProvider, InParameterPadding.NONE);
+	}
+
+	/**
+	 * Creates a {@link ParameterBinder} that just matches parameter by name if those are available, or by index/position
+	 * otherwise. The resulting {@link ParameterBinder} can also handle SpEL expressions in the query and pads
+	 * {@code IN} parameters using the given {@link InParameterPadding}.
+	 *
+	 * @param parameters method parameters that are available for binding, must not be {@literal null}.
+	 * @param query the {@link StringQuery} the binders shall be created for, must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @param evaluationContextProvider must not be {@literal null}.
+	 * @param padding must not be {@literal null}.
+	 * @return a {@link ParameterBinder} that can assign values for the method parameters to query parameters of a
+	 *         {@link jakarta.persistence.Query} while processing SpEL expressions where applicable.
+	 * @since 3.5
+	 */
+	static ParameterBinder createQueryAwareBinder(JpaParameters parameters, DeclaredQuery query,
+			ValueExpressionParser parser, ValueEvaluationContextProvider evaluationContextProvider,
+			InParameterPadding padding) {
 
 		Assert.notNull(parameters, "JpaParameters must not be null");
 		Assert.notNull(query, "StringQuery must not be null");
@@ -95,14 +134,31 @@ class ParameterBinderFactory {
 
 		List<ParameterBinding> bindings = query.getParameterBindings();
 		QueryParameterSetterFactory expressionSetterFactory = QueryParameterSetterFactory.parsing(parser,
-				evaluationContextProvider);
+				evaluationContextProvider, padding, getExpressionDependencies(bindings));
 
-		QueryParameterSetterFactory basicSetterFactory = QueryParameterSetterFactory.basic(parameters);
+		QueryParameterSetterFactory basicSetterFactory = QueryParameterSetterFactory.basic(parameters, padding);
 
 		return new ParameterBinder(parameters, createSetters(bindings, query, expressionSetterFactory, basicSetterFactory),
 				!query.usesPaging());
 	}
 
+	/**
+	 * Returns the dependencies of all expressions bound in a query so that a single evaluation context can be shared by
+	 * all expressions of an invocation.
+	 */
+	private static ExpressionDependencies getExpressionDependencies(List<ParameterBinding> bindings) {
+
+		ExpressionDependencies dependencies = ExpressionDependencies.none();
+
+		for (ParameterBinding binding : bindings) {
+			if (binding.getOrigin() instanceof ParameterBinding.Expression e) {
+				dependencies = dependencies.mergeWith(e.expression().getExpressionDependencies());
+			}
+		}
+
+		return dependencies;
+	}
+
 	private static List<ParameterBinding> getBindings(JpaParameters parameters) {
 
 		List<ParameterBinding> result = new ArrayList<>();
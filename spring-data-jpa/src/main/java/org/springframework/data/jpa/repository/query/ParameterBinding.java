@@ -274,9 +274,9 @@ class ParameterBinding {
 			}
 
 			return switch (type) {
-				case STARTING_WITH -> String.format("%s%%", unwrapped);
-				case ENDING_WITH -> String.format("%%%s", unwrapped);
-				case CONTAINING -> String.format("%%%s%%", unwrapped);
+				case STARTING_WITH -> EscapeCharacter.wrap(unwrapped.toString(), false, true);
+				case ENDING_WITH -> EscapeCharacter.wrap(unwrapped.toString(), true, false);
+				case CONTAINING -> EscapeCharacter.wrap(unwrapped.toString(), true, true);
 				default -> unwrapped;
 			};
 		}
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -175,7 +176,11 @@ public class ParameterMetadataProvider {
 
 		Object value = bindableParameterValues == null ? ParameterMetadata.PLACEHOLDER : bindableParameterValues.next();
 
-		ParameterMetadata<T> metadata = new ParameterMetadata<>(expression, part, value, escape);
+		String fullTextSearchFunction = parameter instanceof JpaParameter jpaParameter
+				? jpaParameter.getFullTextSearchFunction()
+				: null;
+
+		ParameterMetadata<T> metadata = new ParameterMetadata<>(expression, part, value, escape, fullTextSearchFunction);
 		expressions.add(metadata);
 
 		return metadata;
@@ -200,12 +205,24 @@ public class ParameterMetadataProvider {
 		private final EscapeCharacter escape;
 		private final boolean ignoreCase;
 		private final boolean noWildcards;
+		private final @Nullable String fullTextSearchFunction;
 
 		/**
 		 * Creates a new {@link ParameterMetadata}.
 		 */
 		public ParameterMetadata(ParameterExpression<T> expression, Part part, @Nullable Object value,
 				EscapeCharacter escape) {
+			this(expression, part, value, escape, null);
+		}
+
+		/**
+		 * Creates a new {@link ParameterMetadata} matched through the given full-text search function.
+		 *
+		 * @param fullTextSearchFunction name of the full-text search function, can be {@literal null}.
+		 * @since 3.5
+		 */
+		public ParameterMetadata(ParameterExpression<T> expression, Part part, @Nullable Object value,
+				EscapeCharacter escape, @Nullable String fullTextSearchFunction) {
 
 			this.expression = expression;
 			this.type = value == null
@@ -213,8 +230,9 @@ public class ParameterMetadataProvider {
 							? Type.IS_NULL
 							: part.getType();
 			this.ignoreCase = IgnoreCaseType.ALWAYS.equals(part.shouldIgnoreCase());
-			this.noWildcards = part.getProperty().getLeafProperty().isCollection();
+			this.noWildcards = part.getProperty().getLeafProperty().isCollection() || fullTextSearchFunction != null;
 			this.escape = escape;
+			this.fullTextSearchFunction = fullTextSearchFunction;
 		}
 
 		/**
@@ -226,6 +244,26 @@ public class ParameterMetadataProvider {
 			return expression;
 		}
 
+		/**
+		 * Returns whether the parameter is bound as collection, e.g. for an {@literal IN} predicate.
+		 *
+		 * @since 3.5
+		 */
+		public boolean isCollectionParameter() {
+			return expression.getJavaType() != null && Collection.class.isAssignableFrom(expression.getJavaType());
+		}
+
+		/**
+		 * Returns the name of the function to match the parameter through full-text search with or {@literal null} if the
+		 * parameter is matched using {@literal LIKE}.
+		 *
+		 * @since 3.5
+		 */
+		@Nullable
+		public String getFullTextSearchFunction() {
+			return fullTextSearchFunction;
+		}
+
 		/**
 		 * Returns whether the parameter shall be considered an {@literal IS NULL} parameter.
 		 */
@@ -249,12 +287,12 @@ public class ParameterMetadataProvider {
 
 				switch (type) {
 					case STARTING_WITH:
-						return String.format("%s%%", escape.escape(value.toString()));
+						return escape.escapeAndWrap(value.toString(), false, true);
 					case ENDING_WITH:
-						return String.format("%%%s", escape.escape(value.toString()));
+						return escape.escapeAndWrap(value.toString(), true, false);
 					case CONTAINING:
 					case NOT_CONTAINING:
-						return String.format("%%%s%%", escape.escape(value.toString()));
+						return escape.escapeAndWrap(value.toString(), true, true);
 					default:
 						return value;
 				}
@@ -38,8 +38,10 @@ import org.springframework.data.jpa.repository.support.JpaMetamodelEntityInforma
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 
@@ -167,6 +169,11 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 
 		JpaParameter parameter = parameters.getBindableParameter(index);
 
+		if (parameter.getFullTextSearchFunction() != null && part.shouldIgnoreCase().equals(IgnoreCaseType.ALWAYS)) {
+			throw new IllegalStateException(
+					String.format("Full-text search on %s cannot be combined with IgnoreCase in method %s", property, methodName));
+		}
+
 		if (expectsCollection(type)) {
 			if (!parameterIsCollectionLike(parameter)) {
 				throw new IllegalStateException(wrongParameterTypeMessage(methodName, property, type, "Collection", parameter));
@@ -210,7 +217,7 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 
 		private final @Nullable CriteriaQuery<?> cachedCriteriaQuery;
 		private final ReentrantLock lock = new ReentrantLock();
-		private final @Nullable ParameterBinder cachedParameterBinder;
+		private final @Nullable Lazy<ParameterBinder> cachedParameterBinder;
 		private final QueryParameterSetter.QueryMetadataCache metadataCache = new QueryParameterSetter.QueryMetadataCache();
 
 		QueryPreparer(boolean recreateQueries) {
@@ -222,7 +229,9 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 				this.cachedParameterBinder = null;
 			} else {
 				this.cachedCriteriaQuery = creator.createQuery();
-				this.cachedParameterBinder = getBinder(creator.getParameterExpressions());
+
+				List<ParameterMetadata<?>> expressions = creator.getParameterExpressions();
+				this.cachedParameterBinder = Lazy.of(() -> getBinder(expressions));
 			}
 		}
 
@@ -232,7 +241,7 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		public Query createQuery(JpaParametersParameterAccessor accessor) {
 
 			CriteriaQuery<?> criteriaQuery = cachedCriteriaQuery;
-			ParameterBinder parameterBinder = cachedParameterBinder;
+			ParameterBinder parameterBinder = cachedParameterBinder != null ? cachedParameterBinder.get() : null;
 
 			if (cachedCriteriaQuery == null || accessor.hasBindableNullValue()) {
 				JpaQueryCreator creator = createCreator(accessor);
@@ -347,7 +356,7 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		}
 
 		private ParameterBinder getBinder(List<ParameterMetadata<?>> expressions) {
-			return ParameterBinderFactory.createCriteriaBinder(parameters, expressions);
+			return ParameterBinderFactory.createCriteriaBinder(parameters, expressions, getInParameterPadding());
 		}
 
 		private Sort getDynamicSort(JpaParametersParameterAccessor accessor) {
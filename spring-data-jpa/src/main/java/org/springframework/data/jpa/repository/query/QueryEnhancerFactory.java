@@ -73,6 +73,26 @@ public final class QueryEnhancerFactory {
 		}
 	}
 
+	/**
+	 * Returns the name of the query dialect used by {@link QueryEnhancer}s created for native or JPQL queries.
+	 *
+	 * @param nativeQuery whether the query is a native one.
+	 * @return the dialect name.
+	 * @since 3.5
+	 */
+	static String getDialect(boolean nativeQuery) {
+
+		if (nativeQuery) {
+			return NATIVE_QUERY_ENHANCER.equals(NativeQueryEnhancer.JSQLPARSER) ? "jsqlparser" : "native";
+		}
+
+		if (PersistenceProvider.HIBERNATE.isPresent()) {
+			return "hql";
+		}
+
+		return PersistenceProvider.ECLIPSELINK.isPresent() ? "eql" : "jpql";
+	}
+
 	/**
 	 * Get the native query enhancer for the given {@link DeclaredQuery query} based on {@link #NATIVE_QUERY_ENHANCER}.
 	 *
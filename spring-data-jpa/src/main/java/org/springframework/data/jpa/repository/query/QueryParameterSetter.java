@@ -23,11 +23,10 @@ import jakarta.persistence.TemporalType;
 import jakarta.persistence.criteria.ParameterExpression;
 
 import java.lang.reflect.Proxy;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
@@ -51,13 +50,18 @@ interface QueryParameterSetter {
 	QueryParameterSetter NOOP = (query, values, errorHandling) -> {};
 
 	/**
-	 * {@link QueryParameterSetter} for named or indexed parameters that might have a {@link TemporalType} specified.
+	 * {@link QueryParameterSetter} for named or indexed parameters that might have a {@link TemporalType} specified. The
+	 * way of binding the parameter is determined once on creation so that binding a value does not require any lookups
+	 * or allocations besides the ones of the persistence provider.
 	 */
 	class NamedOrIndexedQueryParameterSetter implements QueryParameterSetter {
 
 		private final Function<JpaParametersParameterAccessor, Object> valueExtractor;
 		private final Parameter<?> parameter;
 		private final @Nullable TemporalType temporalType;
+		private final boolean expression;
+		private final @Nullable String name;
+		private final @Nullable Integer position;
 
 		/**
 		 * @param valueExtractor must not be {@literal null}.
@@ -72,61 +76,67 @@ interface QueryParameterSetter {
 			this.valueExtractor = valueExtractor;
 			this.parameter = parameter;
 			this.temporalType = temporalType;
+			this.expression = parameter instanceof ParameterExpression;
+			this.name = parameter.getName();
+			this.position = parameter.getPosition();
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public void setParameter(BindableQuery query, JpaParametersParameterAccessor accessor,
 				ErrorHandling errorHandling) {
 
-			if (temporalType != null) {
-
-				Object extractedValue = valueExtractor.apply(accessor);
+			Object extractedValue = valueExtractor.apply(accessor);
 
-				Date value = (Date) accessor.potentiallyUnwrap(extractedValue);
+			if (temporalType != null) {
 
 				// One would think we can simply use parameter to identify the parameter we want to set.
 				// But that does not work with list valued parameters. At least Hibernate tries to bind them by name.
 				// TODO: move to using setParameter(Parameter, value) when https://hibernate.atlassian.net/browse/HHH-11870 is
 				// fixed.
+				setTemporalParameter(query, (Date) accessor.potentiallyUnwrap(extractedValue), temporalType, errorHandling);
+			} else {
+				setParameter(query, extractedValue, errorHandling);
+			}
+		}
 
-				if (parameter instanceof ParameterExpression) {
-					errorHandling.execute(() -> query.setParameter((Parameter<Date>) parameter, value, temporalType));
-				} else if (query.hasNamedParameters() && parameter.getName() != null) {
-					errorHandling.execute(() -> query.setParameter(parameter.getName(), value, temporalType));
-				} else {
-
-					Integer position = parameter.getPosition();
+		@SuppressWarnings("unchecked")
+		private void setParameter(BindableQuery query, @Nullable Object value, ErrorHandling errorHandling) {
 
-					if (position != null //
-							&& (query.getParameters().size() >= parameter.getPosition() //
-									|| query.registerExcessParameters() //
-									|| errorHandling == LENIENT)) {
+			try {
 
-						errorHandling.execute(() -> query.setParameter(parameter.getPosition(), value, temporalType));
-					}
+				if (expression) {
+					query.setParameter((Parameter<Object>) parameter, value);
+				} else if (name != null && query.hasNamedParameters()) {
+					query.setParameter(name, value);
+				} else if (position != null //
+						&& (query.getParameters().size() >= position //
+								|| errorHandling == LENIENT //
+								|| query.registerExcessParameters())) {
+					query.setParameter(position, value);
 				}
+			} catch (RuntimeException o_O) {
+				errorHandling.handle(o_O);
+			}
+		}
 
-			} else {
-
-				Object value = valueExtractor.apply(accessor);
-
-				if (parameter instanceof ParameterExpression) {
-					errorHandling.execute(() -> query.setParameter((Parameter<Object>) parameter, value));
-				} else if (query.hasNamedParameters() && parameter.getName() != null) {
-					errorHandling.execute(() -> query.setParameter(parameter.getName(), value));
-
-				} else {
+		@SuppressWarnings("unchecked")
+		private void setTemporalParameter(BindableQuery query, Date value, TemporalType temporalType,
+				ErrorHandling errorHandling) {
 
-					Integer position = parameter.getPosition();
+			try {
 
-					if (position != null //
-							&& (query.getParameters().size() >= position //
-									|| errorHandling == LENIENT //
-									|| query.registerExcessParameters())) {
-						errorHandling.execute(() -> query.setParameter(position, value));
-					}
+				if (expression) {
+					query.setParameter((Parameter<Date>) parameter, value, temporalType);
+				} else if (name != null && query.hasNamedParameters()) {
+					query.setParameter(name, value, temporalType);
+				} else if (position != null //
+						&& (query.getParameters().size() >= position //
+								|| query.registerExcessParameters() //
+								|| errorHandling == LENIENT)) {
+					query.setParameter(position, value, temporalType);
 				}
+			} catch (RuntimeException o_O) {
+				errorHandling.handle(o_O);
 			}
 		}
 	}
@@ -136,27 +146,41 @@ interface QueryParameterSetter {
 		STRICT {
 
 			@Override
-			public void execute(Runnable block) {
-				block.run();
+			void handle(RuntimeException exception) {
+				throw exception;
 			}
 		},
 
 		LENIENT {
 
 			@Override
-			public void execute(Runnable block) {
-
-				try {
-					block.run();
-				} catch (RuntimeException rex) {
-					LOG.info("Silently ignoring", rex);
-				}
+			void handle(RuntimeException exception) {
+				LOG.info("Silently ignoring", exception);
 			}
 		};
 
 		private static final Log LOG = LogFactory.getLog(ErrorHandling.class);
 
-		abstract void execute(Runnable block);
+		/**
+		 * Runs the given block, handling failures according to this error handling.
+		 *
+		 * @param block must not be {@literal null}.
+		 */
+		public void execute(Runnable block) {
+
+			try {
+				block.run();
+			} catch (RuntimeException rex) {
+				handle(rex);
+			}
+		}
+
+		/**
+		 * Handles the given failure of binding a parameter by either rethrowing or logging it.
+		 *
+		 * @param exception must not be {@literal null}.
+		 */
+		abstract void handle(RuntimeException exception);
 	}
 
 	/**
@@ -164,7 +188,7 @@ interface QueryParameterSetter {
 	 */
 	class QueryMetadataCache {
 
-		private Map<String, QueryMetadata> cache = Collections.emptyMap();
+		private final Map<String, QueryMetadata> cache = new ConcurrentHashMap<>(4);
 
 		/**
 		 * Retrieve the {@link QueryMetadata} for a given {@code cacheKey}.
@@ -181,17 +205,10 @@ interface QueryParameterSetter {
 
 				queryMetadata = new QueryMetadata(query);
 
-				Map<String, QueryMetadata> cache;
-
-				if (this.cache.isEmpty()) {
-					cache = Collections.singletonMap(cacheKey, queryMetadata);
-				} else {
-					cache = new HashMap<>(this.cache);
-					cache.put(cacheKey, queryMetadata);
-				}
+				QueryMetadata existing = cache.putIfAbsent(cacheKey, queryMetadata);
 
-				synchronized (this) {
-					this.cache = cache;
+				if (existing != null) {
+					return existing;
 				}
 			}
 
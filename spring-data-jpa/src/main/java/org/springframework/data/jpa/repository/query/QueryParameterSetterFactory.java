@@ -21,19 +21,19 @@ import jakarta.persistence.TemporalType;
 import java.util.List;
 import java.util.function.Function;
 
-import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.expression.ValueExpression;
 import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.jpa.repository.query.ParameterBinding.BindingIdentifier;
+import org.springframework.data.jpa.repository.query.ParameterBinding.InParameterBinding;
 import org.springframework.data.jpa.repository.query.ParameterBinding.MethodInvocationArgument;
 import org.springframework.data.jpa.repository.query.ParameterMetadataProvider.ParameterMetadata;
 import org.springframework.data.jpa.repository.query.QueryParameterSetter.NamedOrIndexedQueryParameterSetter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.spel.EvaluationContextProvider;
-import org.springframework.expression.Expression;
+import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -59,10 +59,24 @@ abstract class QueryParameterSetterFactory {
 	 * @return a basic {@link QueryParameterSetterFactory} that can handle named and index parameters.
 	 */
 	static QueryParameterSetterFactory basic(JpaParameters parameters) {
+		return basic(parameters, InParameterPadding.NONE);
+	}
+
+	/**
+	 * Creates a new {@link QueryParameterSetterFactory} for the given {@link JpaParameters} applying the given
+	 * {@link InParameterPadding} to {@code IN} parameters.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @param padding must not be {@literal null}.
+	 * @return a basic {@link QueryParameterSetterFactory} that can handle named and index parameters.
+	 * @since 3.5
+	 */
+	static QueryParameterSetterFactory basic(JpaParameters parameters, InParameterPadding padding) {
 
 		Assert.notNull(parameters, "JpaParameters must not be null");
+		Assert.notNull(padding, "InParameterPadding must not be null");
 
-		return new BasicQueryParameterSetterFactory(parameters);
+		return new BasicQueryParameterSetterFactory(parameters, padding);
 	}
 
 	/**
@@ -74,11 +88,27 @@ abstract class QueryParameterSetterFactory {
 	 * @return a {@link QueryParameterSetterFactory} for criteria Queries.
 	 */
 	static QueryParameterSetterFactory forCriteriaQuery(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+		return forCriteriaQuery(parameters, metadata, InParameterPadding.NONE);
+	}
+
+	/**
+	 * Creates a new {@link QueryParameterSetterFactory} using the given {@link JpaParameters} and
+	 * {@link ParameterMetadata} applying the given {@link InParameterPadding} to collection parameters.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param padding must not be {@literal null}.
+	 * @return a {@link QueryParameterSetterFactory} for criteria Queries.
+	 * @since 3.5
+	 */
+	static QueryParameterSetterFactory forCriteriaQuery(JpaParameters parameters, List<ParameterMetadata<?>> metadata,
+			InParameterPadding padding) {
 
 		Assert.notNull(parameters, "JpaParameters must not be null");
 		Assert.notNull(metadata, "ParameterMetadata must not be null");
+		Assert.notNull(padding, "InParameterPadding must not be null");
 
-		return new CriteriaQueryParameterSetterFactory(parameters, metadata);
+		return new CriteriaQueryParameterSetterFactory(parameters, metadata, padding);
 	}
 
 	/**
@@ -93,11 +123,33 @@ abstract class QueryParameterSetterFactory {
 	 */
 	static QueryParameterSetterFactory parsing(ValueExpressionParser parser,
 			ValueEvaluationContextProvider evaluationContextProvider) {
+		return parsing(parser, evaluationContextProvider, InParameterPadding.NONE, null);
+	}
+
+	/**
+	 * Creates a new {@link QueryParameterSetterFactory} for the given {@link ValueExpressionParser} and
+	 * {@link ValueEvaluationContextProvider} applying the given {@link InParameterPadding} to {@code IN} parameters.
+	 * Expressions are evaluated against a single evaluation context per invocation created for the given
+	 * {@link ExpressionDependencies}.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param evaluationContextProvider must not be {@literal null}.
+	 * @param padding must not be {@literal null}.
+	 * @param dependencies the merged dependencies of all expressions of the query, can be {@literal null} to create an
+	 *          evaluation context for the dependencies of each expression.
+	 * @return a {@link QueryParameterSetterFactory} that can handle
+	 *         {@link org.springframework.expression.spel.standard.SpelExpression}s.
+	 * @since 3.5
+	 */
+	static QueryParameterSetterFactory parsing(ValueExpressionParser parser,
+			ValueEvaluationContextProvider evaluationContextProvider, InParameterPadding padding,
+			@Nullable ExpressionDependencies dependencies) {
 
 		Assert.notNull(parser, "ValueExpressionParser must not be null");
 		Assert.notNull(evaluationContextProvider, "ValueEvaluationContextProvider must not be null");
+		Assert.notNull(padding, "InParameterPadding must not be null");
 
-		return new ExpressionBasedQueryParameterSetterFactory(parser, evaluationContextProvider);
+		return new ExpressionBasedQueryParameterSetterFactory(parser, evaluationContextProvider, padding, dependencies);
 	}
 
 	/**
@@ -107,16 +159,22 @@ abstract class QueryParameterSetterFactory {
 	 * @param valueExtractor extracts the relevant value from an array of method parameter values.
 	 * @param binding the binding of the query parameter to be set.
 	 * @param parameter the method parameter to bind.
+	 * @param padding the padding to apply to {@code IN} parameters.
 	 */
 	private static QueryParameterSetter createSetter(Function<JpaParametersParameterAccessor, Object> valueExtractor,
-			ParameterBinding binding, @Nullable JpaParameter parameter) {
+			ParameterBinding binding, @Nullable JpaParameter parameter, InParameterPadding padding) {
 
 		TemporalType temporalType = parameter != null && parameter.isTemporalParameter() //
 				? parameter.getRequiredTemporalType() //
 				: null;
 
-		return new NamedOrIndexedQueryParameterSetter(valueExtractor.andThen(binding::prepare),
-				ParameterImpl.of(parameter, binding), temporalType);
+		Function<JpaParametersParameterAccessor, Object> extractor = valueExtractor.andThen(binding::prepare);
+
+		if (padding.isEnabled() && binding instanceof InParameterBinding) {
+			extractor = extractor.andThen(padding::pad);
+		}
+
+		return new NamedOrIndexedQueryParameterSetter(extractor, ParameterImpl.of(parameter, binding), temporalType);
 	}
 
 	@Nullable
@@ -164,20 +222,26 @@ abstract class QueryParameterSetterFactory {
 
 		private final ValueExpressionParser parser;
 		private final ValueEvaluationContextProvider evaluationContextProvider;
+		private final InParameterPadding padding;
+		private final @Nullable ExpressionDependencies dependencies;
 
 		/**
 		 * @param parser must not be {@literal null}.
 		 * @param evaluationContextProvider must not be {@literal null}.
-		 * @param parameters must not be {@literal null}.
+		 * @param padding must not be {@literal null}.
+		 * @param dependencies the merged dependencies of all expressions of the query, can be {@literal null}.
 		 */
 		ExpressionBasedQueryParameterSetterFactory(ValueExpressionParser parser,
-				ValueEvaluationContextProvider evaluationContextProvider) {
+				ValueEvaluationContextProvider evaluationContextProvider, InParameterPadding padding,
+				@Nullable ExpressionDependencies dependencies) {
 
 			Assert.notNull(parser, "ValueExpressionParser must not be null");
 			Assert.notNull(evaluationContextProvider, "ValueEvaluationContextProvider must not be null");
 
 			this.parser = parser;
 			this.evaluationContextProvider = evaluationContextProvider;
+			this.padding = padding;
+			this.dependencies = dependencies;
 		}
 
 		@Nullable
@@ -188,21 +252,12 @@ abstract class QueryParameterSetterFactory {
 				return null;
 			}
 
-			return createSetter(values -> evaluateExpression(e.expression(), values), binding, null);
-		}
-
-		/**
-		 * Evaluates the given {@link Expression} against the given values.
-		 *
-		 * @param expression must not be {@literal null}.
-		 * @param accessor must not be {@literal null}.
-		 * @return the result of the evaluation.
-		 */
-		@Nullable
-		private Object evaluateExpression(ValueExpression expression, JpaParametersParameterAccessor accessor) {
+			ValueExpression expression = e.expression();
+			ExpressionDependencies dependencies = this.dependencies != null ? this.dependencies
+					: expression.getExpressionDependencies();
 
-			ValueEvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(accessor.getValues());
-			return expression.evaluate(evaluationContext);
+			return createSetter(values -> values.evaluate(expression, evaluationContextProvider, dependencies), binding, null,
+					padding);
 		}
 	}
 
@@ -217,15 +272,18 @@ abstract class QueryParameterSetterFactory {
 	private static class BasicQueryParameterSetterFactory extends QueryParameterSetterFactory {
 
 		private final JpaParameters parameters;
+		private final InParameterPadding padding;
 
 		/**
 		 * @param parameters must not be {@literal null}.
+		 * @param padding must not be {@literal null}.
 		 */
-		BasicQueryParameterSetterFactory(JpaParameters parameters) {
+		BasicQueryParameterSetterFactory(JpaParameters parameters, InParameterPadding padding) {
 
 			Assert.notNull(parameters, "JpaParameters must not be null");
 
 			this.parameters = parameters;
+			this.padding = padding;
 		}
 
 		@Override
@@ -251,7 +309,7 @@ abstract class QueryParameterSetterFactory {
 
 			return parameter == null //
 					? QueryParameterSetter.NOOP //
-					: createSetter(values -> getValue(values, parameter), binding, parameter);
+					: createSetter(values -> getValue(values, parameter), binding, parameter, padding);
 		}
 
 		@Nullable
@@ -269,6 +327,7 @@ abstract class QueryParameterSetterFactory {
 
 		private final JpaParameters parameters;
 		private final List<ParameterMetadata<?>> parameterMetadata;
+		private final InParameterPadding padding;
 
 		/**
 		 * Creates a new {@link QueryParameterSetterFactory} from the given {@link JpaParameters} and
@@ -276,14 +335,17 @@ abstract class QueryParameterSetterFactory {
 		 *
 		 * @param parameters must not be {@literal null}.
 		 * @param metadata must not be {@literal null}.
+		 * @param padding must not be {@literal null}.
 		 */
-		CriteriaQueryParameterSetterFactory(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+		CriteriaQueryParameterSetterFactory(JpaParameters parameters, List<ParameterMetadata<?>> metadata,
+				InParameterPadding padding) {
 
 			Assert.notNull(parameters, "JpaParameters must not be null");
 			Assert.notNull(metadata, "Expressions must not be null");
 
 			this.parameters = parameters;
 			this.parameterMetadata = metadata;
+			this.padding = padding;
 		}
 
 		@Override
@@ -316,7 +378,8 @@ abstract class QueryParameterSetterFactory {
 		@Nullable
 		private Object getAndPrepare(JpaParameter parameter, ParameterMetadata<?> metadata,
 				JpaParametersParameterAccessor accessor) {
-			return metadata.prepare(accessor.getValue(parameter));
+			Object value = metadata.prepare(accessor.getValue(parameter));
+			return metadata.isCollectionParameter() ? padding.pad(value) : value;
 		}
 	}
 
@@ -104,7 +104,28 @@ abstract class QueryRenderer implements QueryTokenStream {
 	/**
 	 * @return the rendered query.
 	 */
-	abstract String render();
+	String render() {
+		return render(64);
+	}
+
+	/**
+	 * @param capacity initial capacity of the buffer to render into.
+	 * @return the rendered query.
+	 */
+	String render(int capacity) {
+
+		StringBuilder builder = new StringBuilder(capacity);
+		appendTo(builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Renders the query into the given {@link StringBuilder}. Nested renderers append to the same builder instead of
+	 * rendering intermediate strings.
+	 *
+	 * @param builder the builder to append to.
+	 */
+	abstract void appendTo(StringBuilder builder);
 
 	/**
 	 * @return the rendered query.
@@ -119,32 +140,52 @@ abstract class QueryRenderer implements QueryTokenStream {
 			return qr.render();
 		}
 
-		StringBuilder results = null;
+		Iterator<QueryToken> iterator = tokenStream.iterator();
+
+		if (!iterator.hasNext()) {
+			return "";
+		}
+
+		QueryToken first = iterator.next();
+
+		if (!iterator.hasNext()) {
+			return first.value();
+		}
+
+		StringBuilder builder = new StringBuilder(64);
+		appendTo(tokenStream, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Renders the given tokens into the given {@link StringBuilder}.
+	 *
+	 * @param tokenStream the tokens to render.
+	 * @param builder the builder to append to.
+	 */
+	static void appendTo(Iterable<QueryToken> tokenStream, StringBuilder builder) {
+
+		if (tokenStream instanceof QueryRendererBuilder qrb) {
+			tokenStream = qrb.current;
+		}
+
+		if (tokenStream instanceof QueryRenderer qr) {
+			qr.appendTo(builder);
+			return;
+		}
+
+		int start = builder.length();
 		boolean previousExpression = false;
 
-		Iterator<QueryToken> iterator = tokenStream.iterator();
-		while (iterator.hasNext()) {
-			QueryToken token = iterator.next();
-
-			if (results == null) {
-				if (iterator.hasNext()) {
-					results = new StringBuilder();
-				} else {
-					return token.value();
-				}
-			}
+		for (QueryToken token : tokenStream) {
 
-			if (previousExpression) {
-				if (!results.isEmpty() && results.charAt(results.length() - 1) != ' ') {
-					results.append(' ');
-				}
+			if (previousExpression && builder.length() > start && builder.charAt(builder.length() - 1) != ' ') {
+				builder.append(' ');
 			}
 
 			previousExpression = token.isExpression();
-			results.append(token.value());
+			builder.append(token.value());
 		}
-
-		return results.toString();
 	}
 
 	/**
@@ -235,25 +276,37 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
+		void appendTo(StringBuilder builder) {
 
-			StringBuilder builder = new StringBuilder(64);
-			String lastAppended = null;
+			int start = builder.length();
+			int lastStart = -1;
 
 			boolean lastExpression = false;
 			for (QueryRenderer queryRenderer : nested) {
 
-				if (lastAppended != null && (lastExpression || queryRenderer.isExpression()) && !builder.isEmpty()
-						&& (!lastAppended.endsWith(" ") && !lastAppended.endsWith("("))) {
+				if (lastStart != -1 && (lastExpression || queryRenderer.isExpression()) && builder.length() > start
+						&& !endsWithSeparator(builder, lastStart)) {
 					builder.append(' ');
 				}
 
-				lastAppended = queryRenderer.render();
-				builder.append(lastAppended);
+				lastStart = builder.length();
+				queryRenderer.appendTo(builder);
 				lastExpression = queryRenderer.isExpression();
 			}
+		}
+
+		/**
+		 * @return whether the segment appended last, starting at {@code lastStart}, ends with a space or an opening
+		 *         parenthesis.
+		 */
+		private static boolean endsWithSeparator(StringBuilder builder, int lastStart) {
 
-			return builder.toString();
+			if (builder.length() == lastStart) {
+				return false;
+			}
+
+			char last = builder.charAt(builder.length() - 1);
+			return last == ' ' || last == '(';
 		}
 
 		/**
@@ -355,8 +408,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return render(tokens);
+		String render(int capacity) {
+			return tokens.size() == 1 ? tokens.get(0).value() : super.render(capacity);
+		}
+
+		@Override
+		void appendTo(StringBuilder builder) {
+			appendTo(tokens, builder);
 		}
 
 		@Override
@@ -433,6 +491,27 @@ abstract class QueryRenderer implements QueryTokenStream {
 			throw new IllegalArgumentException("Unknown token type %s".formatted(tokens));
 		}
 
+		/**
+		 * Render a list of {@link QueryTokens.SimpleQueryToken}s into a string using the given capacity for the buffer to
+		 * render into.
+		 *
+		 * @param tokens
+		 * @param capacity initial capacity of the buffer to render into.
+		 * @return rendered string containing either a query or some subset of that query
+		 */
+		static String render(Object tokens, int capacity) {
+
+			if (tokens instanceof QueryRendererBuilder qrb) {
+				return qrb.build().render(capacity);
+			}
+
+			if (tokens instanceof QueryRenderer qr) {
+				return qr.render(capacity);
+			}
+
+			return render(tokens);
+		}
+
 	}
 
 	static class QueryStreamRenderer extends QueryRenderer {
@@ -444,8 +523,8 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return render(tokens);
+		void appendTo(StringBuilder builder) {
+			appendTo(tokens, builder);
 		}
 
 		@Override
@@ -710,8 +789,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return delegate.render();
+		String render(int capacity) {
+			return delegate.render(capacity);
+		}
+
+		@Override
+		void appendTo(StringBuilder builder) {
+			delegate.appendTo(builder);
 		}
 
 		@Override
@@ -764,8 +848,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return delegate.render();
+		String render(int capacity) {
+			return delegate.render(capacity);
+		}
+
+		@Override
+		void appendTo(StringBuilder builder) {
+			delegate.appendTo(builder);
 		}
 
 		@Override
@@ -815,10 +904,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		public static final QueryRenderer INSTANCE = new EmptyQueryRenderer();
 
 		@Override
-		String render() {
+		String render(int capacity) {
 			return "";
 		}
 
+		@Override
+		void appendTo(StringBuilder builder) {}
+
 		@Override
 		QueryRenderer append(QueryTokenStream tokens) {
 
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.jpa.util.BoundedCache;
+import org.springframework.data.jpa.util.CacheStatistics;
+import org.springframework.data.jpa.util.EntitySnapshots;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cache of converted query method results keyed by the method arguments.
+ * <p>
+ * Entities contained in results are retained as detached snapshots and every lookup returns fresh copies so that
+ * callers never share instances or receive entities attached to a foreign persistence context. Results containing
+ * entities that cannot be snapshotted, i.e. entities declaring associations or collections, or projections backed by
+ * entities, are not cached.
+ * <p>
+ * Results are only cached outside of transactions and within read-only transactions so that state that is not yet
+ * committed never becomes visible to other callers. Cache keys are built from immutable copies of the method
+ * arguments: arrays, collections and maps are copied deeply so that they compare by their content and later
+ * modifications of an argument do not affect cached entries.
+ * <p>
+ * Invalidation is transaction-aware: {@link #invalidate() invalidating} the cache within a transaction clears it
+ * immediately, bypasses the cache for the remainder of the transaction and clears it once more after the transaction
+ * has completed. Results obtained concurrently with an invalidation are not cached.
+ *
+ * @since 3.5
+ * @see ResultCache
+ */
+public class QueryResultCache {
+
+	private static final Object NULL_VALUE = new Object();
+	private static final Object UNCACHEABLE = new Object();
+
+	private final String name;
+	private final Class<?> domainType;
+	private final BoundedCache<List<Object>, Object> cache;
+	private final @Nullable Metamodel metamodel;
+	private final Map<Class<?>, Detachment> detachments = new ConcurrentHashMap<>();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Creates a new {@link QueryResultCache}.
+	 *
+	 * @param name name of the cache, typically the query method, must not be {@literal null}.
+	 * @param domainType the domain type whose modification invalidates the cache, must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public QueryResultCache(String name, Class<?> domainType, ResultCache configuration) {
+		this(name, domainType, configuration, null);
+	}
+
+	/**
+	 * Creates a new {@link QueryResultCache} detaching entities of the given {@link Metamodel} from cached results.
+	 *
+	 * @param name name of the cache, typically the query method, must not be {@literal null}.
+	 * @param domainType the domain type whose modification invalidates the cache, must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param metamodel the metamodel to identify entities with, can be {@literal null}.
+	 */
+	public QueryResultCache(String name, Class<?> domainType, ResultCache configuration, @Nullable Metamodel metamodel) {
+
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(configuration, "ResultCache must not be null");
+
+		this.name = name;
+		this.domainType = domainType;
+		this.cache = new BoundedCache<>(configuration.maxSize(), configuration.timeToLive(), configuration.timeUnit());
+		this.metamodel = metamodel;
+	}
+
+	/**
+	 * @return the name of the cache.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the domain type whose modification invalidates the cache.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Returns the result cached for the given arguments or obtains and caches it from {@code resultSupplier}.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @param resultSupplier must not be {@literal null}.
+	 * @return the cached or obtained result.
+	 */
+	@Nullable
+	public Object get(Object[] arguments, Supplier<Object> resultSupplier) {
+
+		if (isBypassed()) {
+			return resultSupplier.get();
+		}
+
+		List<Object> key = createKey(arguments);
+		Object cached = cache.get(key);
+
+		if (cached != null) {
+			return cached == NULL_VALUE ? null : detach(cached);
+		}
+
+		long generation = invalidations.get();
+		Object result = resultSupplier.get();
+		Object snapshot = detach(result);
+
+		if (snapshot != UNCACHEABLE && generation == invalidations.get()) {
+			cache.put(key, snapshot == null ? NULL_VALUE : snapshot);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Invalidates all cached results now and after completion of the current transaction.
+	 */
+	public void invalidate() {
+
+		clear();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+				|| TransactionSynchronizationManager.hasResource(this)) {
+			return;
+		}
+
+		TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			@Override
+			public void afterCompletion(int status) {
+
+				TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+				clear();
+			}
+		});
+	}
+
+	private void clear() {
+
+		invalidations.incrementAndGet();
+		cache.clear();
+	}
+
+	/**
+	 * Returns whether the cache must not be used in the current thread, i.e. within a transaction that is not read-only
+	 * or that has invalidated this cache.
+	 */
+	private boolean isBypassed() {
+
+		if (TransactionSynchronizationManager.hasResource(this)) {
+			return true;
+		}
+
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	/**
+	 * Creates the cache key for the given method arguments from immutable copies of arrays, collections and maps.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return the cache key.
+	 */
+	static List<Object> createKey(Object[] arguments) {
+
+		List<Object> key = new ArrayList<>(arguments.length);
+
+		for (Object argument : arguments) {
+			key.add(toKey(argument));
+		}
+
+		return Collections.unmodifiableList(key);
+	}
+
+	@Nullable
+	private static Object toKey(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray()) {
+			return createKey(ObjectUtils.toObjectArray(value));
+		}
+
+		if (value instanceof Set<?> set) {
+
+			Set<Object> copy = new LinkedHashSet<>(set.size());
+			set.forEach(it -> copy.add(toKey(it)));
+
+			return Collections.unmodifiableSet(copy);
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return createKey(collection.toArray());
+		}
+
+		if (value instanceof Map<?, ?> map) {
+
+			Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+			map.forEach((k, v) -> copy.put(toKey(k), toKey(v)));
+
+			return Collections.unmodifiableMap(copy);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns a copy of the given result with all contained entities replaced by detached snapshots.
+	 *
+	 * @param result can be {@literal null}.
+	 * @return the detached result or {@link #UNCACHEABLE} if the result contains entities that cannot be detached.
+	 */
+	@Nullable
+	private Object detach(@Nullable Object result) {
+
+		if (result == null) {
+			return null;
+		}
+
+		if (result instanceof Optional<?> optional) {
+
+			Object value = detach(optional.orElse(null));
+
+			return value == UNCACHEABLE ? UNCACHEABLE : Optional.ofNullable(value);
+		}
+
+		if (result instanceof Slice<?> slice) {
+
+			List<Object> content = detachAll(slice.getContent());
+
+			if (content == null) {
+				return UNCACHEABLE;
+			}
+
+			Iterator<Object> iterator = content.iterator();
+			return slice.map(it -> iterator.next());
+		}
+
+		if (result instanceof Window<?> window) {
+
+			List<Object> content = detachAll(window.getContent());
+
+			if (content == null) {
+				return UNCACHEABLE;
+			}
+
+			Iterator<Object> iterator = content.iterator();
+			return window.map(it -> iterator.next());
+		}
+
+		if (result instanceof Collection<?> collection) {
+
+			List<Object> content = detachAll(collection);
+
+			if (content == null) {
+				return UNCACHEABLE;
+			}
+
+			return result instanceof Set ? new LinkedHashSet<>(content) : content;
+		}
+
+		if (result instanceof Object[] array) {
+
+			List<Object> content = detachAll(Arrays.asList(array));
+
+			return content == null ? UNCACHEABLE : content.toArray();
+		}
+
+		if (result instanceof TargetAware projection) {
+			return getDetachment(projection.getTarget()) == Detachment.NONE ? result : UNCACHEABLE;
+		}
+
+		return switch (getDetachment(result)) {
+			case NONE -> result;
+			case SNAPSHOT -> EntitySnapshots.copy(result);
+			case UNSUPPORTED -> UNCACHEABLE;
+		};
+	}
+
+	@Nullable
+	private List<Object> detachAll(Collection<?> values) {
+
+		List<Object> result = new ArrayList<>(values.size());
+
+		for (Object value : values) {
+
+			Object detached = detach(value);
+
+			if (detached == UNCACHEABLE) {
+				return null;
+			}
+
+			result.add(detached);
+		}
+
+		return result;
+	}
+
+	private Detachment getDetachment(Object value) {
+
+		if (metamodel == null) {
+			return Detachment.NONE;
+		}
+
+		Class<?> type = ProxyUtils.getUserClass(value);
+
+		if (type != value.getClass()) {
+			return Detachment.UNSUPPORTED;
+		}
+
+		return detachments.computeIfAbsent(type, it -> {
+
+			for (EntityType<?> entity : metamodel.getEntities()) {
+
+				if (entity.getJavaType() == it) {
+					return EntitySnapshots.isSnapshotCapable(entity) ? Detachment.SNAPSHOT : Detachment.UNSUPPORTED;
+				}
+			}
+
+			return Detachment.NONE;
+		});
+	}
+
+	/**
+	 * @return a snapshot of the {@link CacheStatistics} of this cache.
+	 */
+	public CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryResultCache for " + name + ": " + getStatistics();
+	}
+
+	/**
+	 * How values of a type are retained in the cache.
+	 */
+	private enum Detachment {
+
+		/**
+		 * Not an entity, retained as is.
+		 */
+		NONE,
+
+		/**
+		 * Entity retained as detached snapshot.
+		 */
+		SNAPSHOT,
+
+		/**
+		 * Entity that cannot be detached, results containing it are not cached.
+		 */
+		UNSUPPORTED
+	}
+}
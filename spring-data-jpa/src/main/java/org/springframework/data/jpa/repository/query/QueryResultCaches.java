@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Registry of {@link QueryResultCache} instances per persistence unit (identified through its {@link Metamodel}) to
+ * invalidate cached query results when entities of a particular domain type are modified. Caches are created and
+ * registered for queries resolved through {@link #decorate(QueryLookupStrategy, Metamodel)} so that only successfully
+ * created queries are registered.
+ *
+ * @since 3.5
+ * @see ResultCache
+ */
+public abstract class QueryResultCaches {
+
+	private static final Map<Metamodel, List<QueryResultCache>> CACHES = new ConcurrentReferenceHashMap<>(4,
+			ReferenceType.WEAK);
+
+	private QueryResultCaches() {}
+
+	/**
+	 * Creates and registers a new {@link QueryResultCache}.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @return the registered cache.
+	 */
+	public static QueryResultCache register(Metamodel metamodel, String name, Class<?> domainType,
+			ResultCache configuration) {
+
+		Assert.notNull(metamodel, "Metamodel must not be null");
+
+		QueryResultCache cache = new QueryResultCache(name, domainType, configuration, metamodel);
+		CACHES.computeIfAbsent(metamodel, it -> new CopyOnWriteArrayList<>()).add(cache);
+
+		return cache;
+	}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to create and register a {@link QueryResultCache} for resolved
+	 * queries of methods annotated with {@link ResultCache}.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @param metamodel must not be {@literal null}.
+	 * @return the decorated strategy.
+	 * @throws IllegalStateException if a cached query method declares entity parameters.
+	 */
+	public static QueryLookupStrategy decorate(QueryLookupStrategy strategy, Metamodel metamodel) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+		Assert.notNull(metamodel, "Metamodel must not be null");
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractJpaQuery jpaQuery) {
+
+				JpaQueryMethod queryMethod = jpaQuery.getQueryMethod();
+				ResultCache configuration = queryMethod.getResultCache();
+
+				if (configuration != null) {
+
+					assertNoEntityParameters(queryMethod, metamodel);
+
+					jpaQuery.setResultCache(register(metamodel, queryMethod.getMethod().toGenericString(),
+							queryMethod.getEntityInformation().getJavaType(), configuration));
+				}
+			}
+
+			return query;
+		};
+	}
+
+	/**
+	 * Invalidates all caches holding results of queries for the given type, its subtypes or supertypes.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 */
+	public static void invalidate(Metamodel metamodel, Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		List<QueryResultCache> caches = CACHES.get(metamodel);
+
+		if (caches == null) {
+			return;
+		}
+
+		for (QueryResultCache cache : caches) {
+
+			Class<?> cachedType = cache.getDomainType();
+
+			if (cachedType.isAssignableFrom(domainType) || domainType.isAssignableFrom(cachedType)) {
+				cache.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Invalidates all caches of the given persistence unit, e.g. after bulk updates that may affect any domain type.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 */
+	public static void invalidateAll(Metamodel metamodel) {
+
+		List<QueryResultCache> caches = CACHES.get(metamodel);
+
+		if (caches != null) {
+			caches.forEach(QueryResultCache::invalidate);
+		}
+	}
+
+	/**
+	 * Rejects query methods with entity parameters as cache keys would retain the entities and compare them by identity
+	 * or by mutable state.
+	 */
+	private static void assertNoEntityParameters(JpaQueryMethod queryMethod, Metamodel metamodel) {
+
+		Method method = queryMethod.getMethod();
+
+		for (int i = 0; i < method.getParameterCount(); i++) {
+
+			Class<?> type = TypeInformation.fromMethodParameter(new MethodParameter(method, i)).getRequiredActualType()
+					.getType();
+
+			for (EntityType<?> entity : metamodel.getEntities()) {
+
+				if (entity.getJavaType().isAssignableFrom(type)) {
+					throw new IllegalStateException(String.format(
+							"@ResultCache is not supported for query methods with entity parameters; Offending method: %s",
+							queryMethod));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns all registered caches, e.g. to publish their {@link QueryResultCache#getStatistics() statistics}.
+	 *
+	 * @return all registered caches.
+	 */
+	public static Collection<QueryResultCache> getCaches() {
+
+		List<QueryResultCache> result = new ArrayList<>();
+
+		for (List<QueryResultCache> caches : CACHES.values()) {
+			result.addAll(caches);
+		}
+
+		return result;
+	}
+}
@@ -82,11 +82,12 @@ public class ScrollDelegate<T> {
 
 		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(direction);
 		List<T> resultsToUse = delegate.getResultWindow(delegate.postProcessResults(result), limit);
+		List<String> propertyPaths = sort.stream().map(Order::getProperty).toList();
 
 		IntFunction<ScrollPosition> positionFunction = value -> {
 
 			T object = resultsToUse.get(value);
-			Map<String, Object> keys = entity.getKeyset(sort.stream().map(Order::getProperty).toList(), object);
+			Map<String, Object> keys = entity.getKeyset(propertyPaths, object);
 
 			return ScrollPosition.of(keys, direction);
 		};
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.Parameter;
+import jakarta.persistence.Query;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Log for repository queries exceeding a configurable execution time. Entries name the repository method, the final
+ * query string as passed to the persistence provider (that is after applying sorting and a
+ * {@link org.springframework.data.jpa.repository.QueryRewriter}), the bound parameter values, the execution type and
+ * the number of returned or modified rows. Parameter values are masked unless {@link #setLogParameterValues(boolean)
+ * enabled}.
+ * <p>
+ * Executions are sampled according to the configured {@link #setSampleRate(double) sample rate}, executions not
+ * sampled are not measured at all which allows keeping the log enabled in production.
+ *
+ * @since 3.5
+ */
+public class SlowQueryLog {
+
+	private static final Log logger = LogFactory.getLog(SlowQueryLog.class);
+
+	private static final String MASK = "******";
+
+	private static final ThreadLocal<Measurement> currentMeasurement = new NamedThreadLocal<>(
+			"Current slow query measurement");
+
+	private long thresholdNanos = TimeUnit.SECONDS.toNanos(1);
+	private double sampleRate = 1.0;
+	private boolean logParameterValues = false;
+	private Set<String> maskedParameters = Set.of();
+
+	/**
+	 * Configures the execution time above which queries are logged. Defaults to one second.
+	 *
+	 * @param threshold must not be {@literal null} or negative.
+	 */
+	public void setThreshold(Duration threshold) {
+
+		Assert.notNull(threshold, "Threshold must not be null");
+		Assert.isTrue(!threshold.isNegative(), "Threshold must not be negative");
+
+		this.thresholdNanos = threshold.toNanos();
+	}
+
+	/**
+	 * Configures the fraction of executions to measure. Defaults to {@literal 1.0}, measuring all executions.
+	 *
+	 * @param sampleRate must be between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setSampleRate(double sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1");
+
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Configures whether to log bound parameter values. Defaults to {@literal false}, masking all values.
+	 *
+	 * @param logParameterValues whether to log parameter values.
+	 */
+	public void setLogParameterValues(boolean logParameterValues) {
+		this.logParameterValues = logParameterValues;
+	}
+
+	/**
+	 * Configures the names of parameters whose values are masked even if {@link #setLogParameterValues(boolean) logging
+	 * parameter values} is enabled.
+	 *
+	 * @param maskedParameters must not be {@literal null}.
+	 */
+	public void setMaskedParameters(String... maskedParameters) {
+
+		Assert.notNull(maskedParameters, "Masked parameters must not be null");
+
+		this.maskedParameters = Set.of(maskedParameters);
+	}
+
+	/**
+	 * Starts measuring a repository method invocation if it is sampled. Queries created while the measurement is in
+	 * progress can be {@link #capture(Query) captured} on the calling thread.
+	 *
+	 * @param method name of the repository method, must not be {@literal null}.
+	 * @param extractor used to render the captured query, must not be {@literal null}.
+	 * @return the measurement or {@literal null} if the invocation is not sampled.
+	 */
+	@Nullable
+	public Measurement start(String method, QueryExtractor extractor) {
+
+		if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return null;
+		}
+
+		Measurement measurement = new Measurement(method, extractor, currentMeasurement.get());
+		currentMeasurement.set(measurement);
+
+		return measurement;
+	}
+
+	/**
+	 * Captures the given {@link Query} to be logged for the measurement in progress on the calling thread. Only the
+	 * first query created during an invocation is captured.
+	 *
+	 * @param query must not be {@literal null}.
+	 */
+	public static void capture(Query query) {
+
+		Measurement measurement = currentMeasurement.get();
+
+		if (measurement != null && measurement.query == null) {
+			measurement.query = query;
+		}
+	}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to apply this log to the {@link RepositoryQuery queries} it
+	 * creates.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @return the decorated strategy.
+	 */
+	public QueryLookupStrategy decorate(QueryLookupStrategy strategy) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractJpaQuery jpaQuery) {
+				jpaQuery.setSlowQueryLog(this);
+			}
+
+			return query;
+		};
+	}
+
+	private boolean isMasked(@Nullable String parameterName) {
+		return !logParameterValues || (parameterName != null && maskedParameters.contains(parameterName));
+	}
+
+	/**
+	 * Measurement of a single repository method invocation.
+	 */
+	public final class Measurement {
+
+		private final String method;
+		private final QueryExtractor extractor;
+		private final @Nullable Measurement previous;
+		private final long start;
+
+		private @Nullable Query query;
+
+		private Measurement(String method, QueryExtractor extractor, @Nullable Measurement previous) {
+
+			this.method = method;
+			this.extractor = extractor;
+			this.previous = previous;
+			this.start = System.nanoTime();
+		}
+
+		/**
+		 * Stops the measurement and logs the invocation if it exceeded the configured threshold.
+		 *
+		 * @param execution the type of execution, must not be {@literal null}.
+		 * @param result the invocation result, can be {@literal null}.
+		 * @param modifying whether the result is an update count.
+		 */
+		public void stop(String execution, @Nullable Object result, boolean modifying) {
+
+			long elapsed = System.nanoTime() - start;
+
+			if (previous == null) {
+				currentMeasurement.remove();
+			} else {
+				currentMeasurement.set(previous);
+			}
+
+			if (elapsed < thresholdNanos || !logger.isWarnEnabled()) {
+				return;
+			}
+
+			logger.warn(describe(execution, result, modifying, elapsed));
+		}
+
+		String describe(String execution, @Nullable Object result, boolean modifying, long elapsedNanos) {
+
+			return String.format("Slow repository query %s took %d ms [execution: %s, rows: %d]: %s; parameters: %s", method,
+					TimeUnit.NANOSECONDS.toMillis(elapsedNanos), execution, JpaQueryEvents.getRowCount(result, modifying),
+					renderQuery(), renderParameters());
+		}
+
+		private String renderQuery() {
+
+			if (query == null || !extractor.canExtractQuery()) {
+				return "<unavailable>";
+			}
+
+			try {
+				return extractor.extractQueryString(query);
+			} catch (RuntimeException o_O) {
+				return "<unavailable>";
+			}
+		}
+
+		private String renderParameters() {
+
+			if (query == null) {
+				return "[]";
+			}
+
+			try {
+
+				StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+				for (Parameter<?> parameter : query.getParameters()) {
+
+					String name = parameter.getName();
+					Object value = isMasked(name) ? MASK
+							: query.isBound(parameter) ? query.getParameterValue(parameter) : null;
+
+					joiner.add((name != null ? name : "?" + parameter.getPosition()) + "=" + value);
+				}
+
+				return joiner.toString();
+			} catch (RuntimeException o_O) {
+				return "<unavailable>";
+			}
+		}
+	}
+}
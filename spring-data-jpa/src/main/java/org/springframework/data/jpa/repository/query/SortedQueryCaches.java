@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.data.jpa.repository.SortedQueryCache;
+import org.springframework.data.jpa.util.CacheStatistics;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Configuration and registry of the caches retaining sorted query strings of string-based query methods accepting a
+ * {@link org.springframework.data.domain.Sort} or {@link org.springframework.data.domain.Pageable} argument. Each
+ * query method uses its own least-recently-used cache whose capacity defaults to {@link #getDefaultCapacity()} and can
+ * be overridden per method using {@link SortedQueryCache}.
+ * <p>
+ * Caches of query methods resolved through {@link #decorate(QueryLookupStrategy)} are registered with this instance
+ * per repository interface and query method so that their {@link #getCaches() statistics} can be published, e.g.
+ * through a management endpoint, to size caches from actual traffic.
+ *
+ * @since 3.5
+ * @see SortedQueryCache
+ */
+public class SortedQueryCaches {
+
+	/**
+	 * Capacity of sorted query caches unless configured otherwise.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	private final int defaultCapacity;
+	private final Map<CacheKey, StatisticsRecordingCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link SortedQueryCaches} using {@link #DEFAULT_CAPACITY}.
+	 */
+	public SortedQueryCaches() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link SortedQueryCaches} using the given default capacity.
+	 *
+	 * @param defaultCapacity must not be negative, {@literal 0} disables caching of sorted queries for all methods not
+	 *          annotated with {@link SortedQueryCache}.
+	 */
+	public SortedQueryCaches(int defaultCapacity) {
+
+		Assert.isTrue(defaultCapacity >= 0, "Default capacity must not be negative");
+
+		this.defaultCapacity = defaultCapacity;
+	}
+
+	/**
+	 * @return the capacity of caches for methods not annotated with {@link SortedQueryCache}.
+	 */
+	public int getDefaultCapacity() {
+		return defaultCapacity;
+	}
+
+	/**
+	 * Returns a snapshot of all registered caches ordered by repository interface and method.
+	 *
+	 * @return all registered caches.
+	 */
+	public List<MethodCache> getCaches() {
+
+		List<MethodCache> result = new ArrayList<>(caches.size());
+
+		caches.forEach((key, cache) -> result.add(new MethodCache(key.repositoryInterface(),
+				key.method().toGenericString(), cache.capacity(), cache.getStatistics())));
+
+		result.sort(Comparator.comparing((MethodCache it) -> it.repositoryInterface().getName())
+				.thenComparing(MethodCache::method));
+
+		return result;
+	}
+
+	/**
+	 * Decorates the given {@link QueryLookupStrategy} to configure sorted query caches of resolved queries according to
+	 * this instance and register them.
+	 *
+	 * @param strategy must not be {@literal null}.
+	 * @return the decorated strategy.
+	 */
+	public QueryLookupStrategy decorate(QueryLookupStrategy strategy) {
+
+		Assert.notNull(strategy, "QueryLookupStrategy must not be null");
+
+		return (method, metadata, factory, namedQueries) -> {
+
+			RepositoryQuery query = strategy.resolveQuery(method, metadata, factory, namedQueries);
+
+			if (query instanceof AbstractStringBasedJpaQuery stringQuery) {
+				stringQuery.setSortedQueryCaches(this, metadata.getRepositoryInterface());
+			}
+
+			return query;
+		};
+	}
+
+	/**
+	 * Creates and registers the cache for the given query method of the given repository interface. Registering a cache
+	 * for the same repository interface and method again replaces the previous registration.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param generator function computing values for cache misses, must not be {@literal null}.
+	 * @return the registered cache.
+	 */
+	<K, V> StatisticsRecordingCache<K, V> register(Class<?> repositoryInterface, JpaQueryMethod method,
+			Function<K, V> generator) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(method, "JpaQueryMethod must not be null");
+
+		StatisticsRecordingCache<K, V> cache = new StatisticsRecordingCache<>(getCapacity(method, defaultCapacity),
+				generator);
+
+		caches.put(new CacheKey(repositoryInterface, method.getMethod()), cache);
+
+		return cache;
+	}
+
+	/**
+	 * Creates an unregistered cache for the given query method.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param defaultCapacity capacity to use if the method is not annotated with {@link SortedQueryCache}.
+	 * @param generator function computing values for cache misses, must not be {@literal null}.
+	 * @return the cache.
+	 */
+	static <K, V> StatisticsRecordingCache<K, V> createCache(JpaQueryMethod method, int defaultCapacity,
+			Function<K, V> generator) {
+		return new StatisticsRecordingCache<>(getCapacity(method, defaultCapacity), generator);
+	}
+
+	private static int getCapacity(JpaQueryMethod method, int defaultCapacity) {
+
+		SortedQueryCache annotation = method.getSortedQueryCache();
+
+		if (annotation == null) {
+			return defaultCapacity;
+		}
+
+		Assert.isTrue(annotation.capacity() >= 0,
+				() -> "Sorted query cache capacity of %s must not be negative".formatted(method));
+
+		return annotation.capacity();
+	}
+
+	/**
+	 * Snapshot of the sorted query cache of a query method.
+	 *
+	 * @param repositoryInterface the repository interface the query method was resolved for.
+	 * @param method the query method.
+	 * @param capacity the maximum number of cached query strings, {@literal 0} if caching is disabled.
+	 * @param statistics the {@link CacheStatistics}.
+	 */
+	public record MethodCache(Class<?> repositoryInterface, String method, int capacity, CacheStatistics statistics) {
+	}
+
+	private record CacheKey(Class<?> repositoryInterface, Method method) {
+	}
+
+	/**
+	 * {@link ConcurrentLruCache} recording hits and misses. Evictions are derived from the number of values added and the
+	 * current size as entries are only removed through eviction.
+	 */
+	static class StatisticsRecordingCache<K, V> {
+
+		private final ConcurrentLruCache<K, V> cache;
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		StatisticsRecordingCache(int capacity, Function<K, V> generator) {
+
+			Assert.notNull(generator, "Generator function must not be null");
+
+			this.cache = new ConcurrentLruCache<>(capacity, key -> {
+
+				misses.increment();
+				return generator.apply(key);
+			});
+		}
+
+		V get(K key) {
+
+			requests.increment();
+			return cache.get(key);
+		}
+
+		boolean contains(K key) {
+			return cache.contains(key);
+		}
+
+		int capacity() {
+			return cache.capacity();
+		}
+
+		/**
+		 * Removes all entries and resets the statistics so that evictions can still be derived from them.
+		 */
+		void clear() {
+
+			cache.clear();
+			requests.reset();
+			misses.reset();
+		}
+
+		CacheStatistics getStatistics() {
+
+			long misses = this.misses.sum();
+			long hits = Math.max(0, requests.sum() - misses);
+			long puts = cache.capacity() > 0 ? misses : 0;
+			int size = cache.size();
+
+			return new CacheStatistics(hits, misses, puts, Math.max(0, puts - size), size);
+		}
+	}
+}
@@ -134,7 +134,8 @@ class StringQuery implements DeclaredQuery {
 		// need to copy expression bindings from the declared to the derived query as JPQL query derivation only sees
 		// JPA parameter markers and not the original expressions anymore.
 
-		return new StringQuery(this.queryEnhancer.createCountQueryFor(countQueryProjection), //
+		return DerivedCountQueries.derive(this, countQueryProjection, () -> new StringQuery(
+				this.queryEnhancer.createCountQueryFor(countQueryProjection), //
 				this.isNative, derivedBindings -> {
 
 					// need to copy expression bindings from the declared to the derived query as JPQL query derivation only sees
@@ -154,7 +155,7 @@ class StringQuery implements DeclaredQuery {
 							}
 						}
 					}
-				});
+				}));
 	}
 
 	@Override
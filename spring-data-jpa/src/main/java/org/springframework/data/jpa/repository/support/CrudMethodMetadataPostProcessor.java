@@ -29,9 +29,7 @@ import java.util.function.Predicate;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
-import org.springframework.aop.TargetSource;
 import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -42,9 +40,7 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
 import org.springframework.lang.Nullable;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
-import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -59,14 +55,7 @@ import org.springframework.util.ReflectionUtils;
  * @author Jens Schauder
  * @author Yanming Zhou
  */
-class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, BeanClassLoaderAware {
-
-	private @Nullable ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
-
-	@Override
-	public void setBeanClassLoader(ClassLoader classLoader) {
-		this.classLoader = classLoader;
-	}
+class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor {
 
 	@Override
 	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
@@ -74,22 +63,17 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 	}
 
 	/**
-	 * Returns a {@link CrudMethodMetadata} proxy that will lookup the actual target object by obtaining a thread bound
-	 * instance from the {@link TransactionSynchronizationManager} later.
+	 * Returns a {@link CrudMethodMetadata} that delegates to the metadata of the repository method currently invoked on
+	 * the calling thread.
 	 */
 	CrudMethodMetadata getCrudMethodMetadata() {
-
-		ProxyFactory factory = new ProxyFactory();
-
-		factory.addInterface(CrudMethodMetadata.class);
-		factory.setTargetSource(new ThreadBoundTargetSource());
-
-		return (CrudMethodMetadata) factory.getProxy(this.classLoader);
+		return ThreadBoundCrudMethodMetadata.INSTANCE;
 	}
 
 	/**
 	 * {@link MethodInterceptor} to build and cache {@link DefaultCrudMethodMetadata} instances for the invoked methods.
-	 * Will bind the found information to a {@link TransactionSynchronizationManager} for later lookup.
+	 * Will expose the found information through a thread-bound holder for the duration of the invocation so that it can
+	 * be obtained through {@link ThreadBoundCrudMethodMetadata} without any further lookup.
 	 *
 	 * @see DefaultCrudMethodMetadata
 	 * @author Oliver Gierke
@@ -97,8 +81,8 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 	 */
 	static class CrudMethodMetadataPopulatingMethodInterceptor implements MethodInterceptor {
 
-		private static final ThreadLocal<MethodInvocation> currentInvocation = new NamedThreadLocal<>(
-				"Current AOP method invocation");
+		private static final ThreadLocal<CrudMethodMetadata> currentMetadata = new NamedThreadLocal<>(
+				"Current CRUD method metadata");
 
 		private final ConcurrentMap<Method, CrudMethodMetadata> metadataCache = new ConcurrentHashMap<>();
 		private final Set<Method> implementations = new HashSet<>();
@@ -110,64 +94,52 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 		}
 
 		/**
-		 * Return the AOP Alliance {@link MethodInvocation} object associated with the current invocation.
+		 * Return the {@link CrudMethodMetadata} of the repository method currently invoked on the calling thread.
 		 *
-		 * @return the invocation object associated with the current invocation.
-		 * @throws IllegalStateException if there is no AOP invocation in progress, or if the
+		 * @return the metadata associated with the current invocation.
+		 * @throws IllegalStateException if there is no repository method invocation in progress, or if the
 		 *           {@link CrudMethodMetadataPopulatingMethodInterceptor} was not added to this interceptor chain.
 		 */
-		static MethodInvocation currentInvocation() throws IllegalStateException {
+		static CrudMethodMetadata currentMetadata() throws IllegalStateException {
 
-			MethodInvocation mi = currentInvocation.get();
+			CrudMethodMetadata metadata = currentMetadata.get();
 
-			if (mi == null)
+			if (metadata == null) {
 				throw new IllegalStateException(
-						"No MethodInvocation found: Check that an AOP invocation is in progress, and that the "
+						"No CrudMethodMetadata found: Check that an AOP invocation is in progress, and that the "
 								+ "CrudMethodMetadataPopulatingMethodInterceptor is upfront in the interceptor chain.");
-			return mi;
+			}
+
+			return metadata;
 		}
 
 		@Override
 		public Object invoke(MethodInvocation invocation) throws Throwable {
 
 			Method method = invocation.getMethod();
+			CrudMethodMetadata methodMetadata = metadataCache.get(method);
 
-			if (!implementations.contains(method)) {
-				return invocation.proceed();
-			}
-
-			MethodInvocation oldInvocation = currentInvocation.get();
-			currentInvocation.set(invocation);
-
-			try {
-
-				CrudMethodMetadata metadata = (CrudMethodMetadata) TransactionSynchronizationManager.getResource(method);
+			if (methodMetadata == null) {
 
-				if (metadata != null) {
+				if (!implementations.contains(method)) {
 					return invocation.proceed();
 				}
 
-				CrudMethodMetadata methodMetadata = metadataCache.get(method);
-
-				if (methodMetadata == null) {
-
-					methodMetadata = new DefaultCrudMethodMetadata(method);
-					CrudMethodMetadata tmp = metadataCache.putIfAbsent(method, methodMetadata);
+				methodMetadata = metadataCache.computeIfAbsent(method, DefaultCrudMethodMetadata::new);
+			}
 
-					if (tmp != null) {
-						methodMetadata = tmp;
-					}
-				}
+			CrudMethodMetadata previous = currentMetadata.get();
+			currentMetadata.set(methodMetadata);
 
-				TransactionSynchronizationManager.bindResource(method, methodMetadata);
+			try {
+				return invocation.proceed();
+			} finally {
 
-				try {
-					return invocation.proceed();
-				} finally {
-					TransactionSynchronizationManager.unbindResource(method);
+				if (previous == null) {
+					currentMetadata.remove();
+				} else {
+					currentMetadata.set(previous);
 				}
-			} finally {
-				currentInvocation.set(oldInvocation);
 			}
 		}
 	}
@@ -278,26 +250,49 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 
 	}
 
-	private static class ThreadBoundTargetSource implements TargetSource {
+	/**
+	 * {@link CrudMethodMetadata} delegating to the metadata exposed by {@link CrudMethodMetadataPopulatingMethodInterceptor}
+	 * for the current invocation.
+	 */
+	private enum ThreadBoundCrudMethodMetadata implements CrudMethodMetadata {
+
+		INSTANCE;
+
+		@Nullable
+		@Override
+		public LockModeType getLockModeType() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getLockModeType();
+		}
+
+		@Override
+		public org.springframework.data.jpa.repository.support.QueryHints getQueryHints() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getQueryHints();
+		}
 
 		@Override
-		public Class<?> getTargetClass() {
-			return CrudMethodMetadata.class;
+		public org.springframework.data.jpa.repository.support.QueryHints getQueryHintsForCount() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getQueryHintsForCount();
 		}
 
+		@Nullable
 		@Override
-		public boolean isStatic() {
-			return false;
+		public String getComment() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getComment();
 		}
 
 		@Override
-		public Object getTarget() {
+		public Optional<EntityGraph> getEntityGraph() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getEntityGraph();
+		}
 
-			MethodInvocation invocation = CrudMethodMetadataPopulatingMethodInterceptor.currentInvocation();
-			return TransactionSynchronizationManager.getResource(invocation.getMethod());
+		@Override
+		public Method getMethod() {
+			return CrudMethodMetadataPopulatingMethodInterceptor.currentMetadata().getMethod();
 		}
 
 		@Override
-		public void releaseTarget(Object target) {}
+		public String toString() {
+			return "Thread-bound CrudMethodMetadata";
+		}
 	}
 }
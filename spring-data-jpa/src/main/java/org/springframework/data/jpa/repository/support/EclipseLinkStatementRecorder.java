@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+
+/**
+ * EclipseLink session event listener reporting executed statements to {@link StatementRecorder} for
+ * {@link NPlusOneQueryDetector}. Register it through the {@code eclipselink.session-event-listener} property.
+ *
+ * @since 3.5
+ */
+public class EclipseLinkStatementRecorder extends SessionEventAdapter {
+
+	@Override
+	public void postExecuteCall(SessionEvent event) {
+
+		if (event.getCall() instanceof DatabaseCall call) {
+			StatementRecorder.record(call.getSQLString());
+		}
+	}
+}
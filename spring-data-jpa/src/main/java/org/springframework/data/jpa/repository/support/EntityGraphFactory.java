@@ -17,16 +17,19 @@ package org.springframework.data.jpa.repository.support;
 
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Subgraph;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.query.EntityGraphDefinition;
 import org.springframework.data.mapping.PropertyPath;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
- * Factory class to create an {@link EntityGraph} from a collection of property paths.
+ * Factory class to create an {@link EntityGraph} from a collection of property paths. Resolved
+ * {@link EntityGraphDefinition definitions} are cached per domain type and set of properties so that repeated
+ * executions only materialize the {@link EntityGraph}.
  *
  * @author Jens Schauder
  * @author Petr Strnad
@@ -37,6 +40,9 @@ abstract class EntityGraphFactory {
 
 	public static final String HINT = "jakarta.persistence.fetchgraph";
 
+	private static final ConcurrentLruCache<DefinitionKey, EntityGraphDefinition> DEFINITIONS = new ConcurrentLruCache<>(
+			256, EntityGraphFactory::createDefinition);
+
 	/**
 	 * Create an {@link EntityGraph} from a collection of properties.
 	 *
@@ -47,37 +53,28 @@ abstract class EntityGraphFactory {
 	 *          {@link EntityGraph#addSubgraph(String) subgraphs} for.
 	 */
 	public static <T> EntityGraph<T> create(EntityManager entityManager, Class<T> domainType, Set<String> properties) {
+		return DEFINITIONS.get(new DefinitionKey(domainType, Set.copyOf(properties))).materialize(entityManager,
+				domainType);
+	}
 
-		EntityGraph<T> entityGraph = entityManager.createEntityGraph(domainType);
-		Map<String, Subgraph<Object>> existingSubgraphs = new HashMap<>();
-
-		for (String property : properties) {
-
-			Subgraph<Object> current = null;
-			String currentFullPath = "";
-
-			for (PropertyPath path : PropertyPath.from(property, domainType)) {
+	private static EntityGraphDefinition createDefinition(DefinitionKey key) {
 
-				currentFullPath += path.getSegment() + ".";
+		List<List<String>> segmentPaths = new ArrayList<>(key.properties().size());
 
-				if (path.hasNext()) {
-					final Subgraph<Object> finalCurrent = current;
-					current = current == null
-							? existingSubgraphs.computeIfAbsent(currentFullPath, k -> entityGraph.addSubgraph(path.getSegment()))
-							: existingSubgraphs.computeIfAbsent(currentFullPath, k -> finalCurrent.addSubgraph(path.getSegment()));
-					continue;
-				}
+		for (String property : key.properties()) {
 
-				if (current == null) {
-					entityGraph.addAttributeNodes(path.getSegment());
-				} else {
-					current.addAttributeNodes(path.getSegment());
+			List<String> segments = new ArrayList<>();
 
-				}
+			for (PropertyPath path : PropertyPath.from(property, key.domainType())) {
+				segments.add(path.getSegment());
 			}
+
+			segmentPaths.add(segments);
 		}
 
-		return entityGraph;
+		return EntityGraphDefinition.fromSegments(segmentPaths);
 	}
 
+	private record DefinitionKey(Class<?> domainType, Set<String> properties) {
+	}
 }
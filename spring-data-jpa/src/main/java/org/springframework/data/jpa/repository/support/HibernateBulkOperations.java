@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.EntityManager;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.provider.HibernateUtils;
+import org.springframework.data.jpa.repository.JpaBulkOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Hibernate-based implementation of {@link JpaBulkOperations} using a {@link StatelessSession}. Within a transaction,
+ * writes and {@link #streamAll()} use a stateless session sharing the JDBC connection of the transactional
+ * {@link EntityManager} after flushing its pending changes, so streamed entities are never attached to nor replace
+ * instances managed by the {@link EntityManager}. Without a transaction, writes are applied in a transaction of their
+ * own.
+ * <p>
+ * Writes use the {@code …Multiple(…)} operations of {@link StatelessSession} where available (Hibernate 7) and are
+ * sent in JDBC batches of the configured {@link #setBatchSize(int) batch size}.
+ *
+ * @param <T> the domain type.
+ * @since 3.5
+ */
+public class HibernateBulkOperations<T> implements JpaBulkOperations<T> {
+
+	/**
+	 * The JDBC batch size used for writes unless {@link #setBatchSize(int) configured} otherwise.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 50;
+
+	private static final @Nullable Method INSERT_MULTIPLE = ReflectionUtils.findMethod(StatelessSession.class,
+			"insertMultiple", List.class);
+	private static final @Nullable Method UPDATE_MULTIPLE = ReflectionUtils.findMethod(StatelessSession.class,
+			"updateMultiple", List.class);
+	private static final @Nullable Method UPSERT_MULTIPLE = ReflectionUtils.findMethod(StatelessSession.class,
+			"upsertMultiple", List.class);
+
+	private final JpaEntityInformation<T, ?> entityInformation;
+	private final EntityManager entityManager;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Creates a new {@link HibernateBulkOperations} for the given {@link JpaEntityInformation} and
+	 * {@link EntityManager}.
+	 *
+	 * @param entityInformation must not be {@literal null}.
+	 * @param entityManager must not be {@literal null}.
+	 */
+	public HibernateBulkOperations(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+
+		Assert.notNull(entityInformation, "JpaEntityInformation must not be null");
+		Assert.notNull(entityManager, "EntityManager must not be null");
+
+		this.entityInformation = entityInformation;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Configures the JDBC batch size to use for writes. Defaults to {@value #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void insertAll(Iterable<? extends T> entities) {
+		write(entities, INSERT_MULTIPLE, StatelessSession::insert);
+	}
+
+	@Override
+	public void updateAll(Iterable<? extends T> entities) {
+		write(entities, UPDATE_MULTIPLE, StatelessSession::update);
+	}
+
+	@Override
+	public void upsertAll(Iterable<? extends T> entities) {
+
+		if (!HibernateUtils.supportsUpsert()) {
+			throw new InvalidDataAccessApiUsageException("Upserts require Hibernate 6.3 or newer");
+		}
+
+		write(entities, UPSERT_MULTIPLE, HibernateUtils::upsert);
+	}
+
+	@Override
+	public Stream<T> streamAll() {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return stream(openSession());
+		}
+
+		entityManager.flush();
+
+		Session session = entityManager.unwrap(Session.class);
+
+		return stream(session.doReturningWork(connection -> session.getSessionFactory().withStatelessOptions()
+				.connection(connection).openStatelessSession()));
+	}
+
+	/**
+	 * Streams all entities through the given {@link StatelessSession} which is closed along with the stream.
+	 */
+	private Stream<T> stream(StatelessSession session) {
+
+		String query = "select e from %s e".formatted(entityInformation.getEntityName());
+
+		try {
+
+			return session.createSelectionQuery(query, entityInformation.getJavaType()) //
+					.getResultStream() //
+					.onClose(session::close);
+		} catch (RuntimeException ex) {
+
+			session.close();
+			throw ex;
+		}
+	}
+
+	private void write(Iterable<? extends T> entities, @Nullable Method multipleOperation,
+			BiConsumer<StatelessSession, Object> operation) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		List<T> toWrite = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Assert.notNull(entity, "Entities must not contain null elements");
+			toWrite.add(entity);
+		}
+
+		if (toWrite.isEmpty()) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+
+			entityManager.flush();
+
+			HibernateUtils.doInStatelessSession(entityManager, session -> {
+
+				write(session, toWrite, multipleOperation, operation);
+				return null;
+			});
+
+			return;
+		}
+
+		try (StatelessSession session = openSession()) {
+
+			Transaction transaction = session.beginTransaction();
+
+			try {
+				write(session, toWrite, multipleOperation, operation);
+				transaction.commit();
+			} catch (RuntimeException ex) {
+
+				transaction.rollback();
+				throw ex;
+			}
+		}
+	}
+
+	private void write(StatelessSession session, List<T> entities, @Nullable Method multipleOperation,
+			BiConsumer<StatelessSession, Object> operation) {
+
+		session.setJdbcBatchSize(batchSize);
+
+		if (multipleOperation != null) {
+			ReflectionUtils.invokeMethod(multipleOperation, session, entities);
+			return;
+		}
+
+		for (T entity : entities) {
+			operation.accept(session, entity);
+		}
+	}
+
+	/**
+	 * Opens a standalone {@link StatelessSession} for use outside of a transaction.
+	 */
+	private StatelessSession openSession() {
+		return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).openStatelessSession();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.springframework.data.jpa.repository.query.QueryResultCache;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Hibernate event listener evicting {@link RepositoryEntityCache} entries for entities that are updated or deleted and
+ * invalidating {@link QueryResultCache query result caches} for entities that are inserted, updated or deleted when the
+ * persistence context is flushed, including changes applied to managed instances through dirty checking. Registered
+ * once per {@link EntityManagerFactory} by {@link JpaRepositoryFactory} for repositories using
+ * {@link org.springframework.data.jpa.repository.EntityCache} or {@link org.springframework.data.jpa.repository.ResultCache}.
+ *
+ * @since 3.5
+ */
+class HibernateCacheEvictionListener
+		implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+	private static final Map<Metamodel, Boolean> REGISTERED = new ConcurrentReferenceHashMap<>(4, ReferenceType.WEAK);
+
+	private final Metamodel metamodel;
+
+	private HibernateCacheEvictionListener(Metamodel metamodel) {
+		this.metamodel = metamodel;
+	}
+
+	/**
+	 * Registers the listener with the given {@link EntityManagerFactory} unless it was registered before.
+	 *
+	 * @param entityManagerFactory must not be {@literal null}.
+	 */
+	static void registerIfNecessary(EntityManagerFactory entityManagerFactory) {
+
+		Assert.notNull(entityManagerFactory, "EntityManagerFactory must not be null");
+
+		Metamodel metamodel = entityManagerFactory.getMetamodel();
+
+		if (REGISTERED.putIfAbsent(metamodel, Boolean.TRUE) != null) {
+			return;
+		}
+
+		HibernateCacheEvictionListener listener = new HibernateCacheEvictionListener(metamodel);
+		EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+				.getService(EventListenerRegistry.class);
+
+		registry.appendListeners(EventType.POST_INSERT, listener);
+		registry.appendListeners(EventType.POST_UPDATE, listener);
+		registry.appendListeners(EventType.POST_DELETE, listener);
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		QueryResultCaches.invalidate(metamodel, event.getPersister().getMappedClass());
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+
+		Class<?> type = event.getPersister().getMappedClass();
+
+		RepositoryEntityCaches.evict(metamodel, type, event.getId());
+		QueryResultCaches.invalidate(metamodel, type);
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+
+		Class<?> type = event.getPersister().getMappedClass();
+
+		RepositoryEntityCaches.evict(metamodel, type, event.getId());
+		QueryResultCaches.invalidate(metamodel, type);
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Hibernate {@link StatementInspector} reporting statements to {@link StatementRecorder} for
+ * {@link NPlusOneQueryDetector}. Register it through the {@code hibernate.session_factory.statement_inspector}
+ * property. Statements are passed on unchanged or to a delegate {@link StatementInspector}.
+ *
+ * @since 3.5
+ */
+public class HibernateStatementRecorder implements StatementInspector {
+
+	private final @Nullable StatementInspector delegate;
+
+	/**
+	 * Creates a new {@link HibernateStatementRecorder}.
+	 */
+	public HibernateStatementRecorder() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link HibernateStatementRecorder} delegating to the given {@link StatementInspector}.
+	 *
+	 * @param delegate can be {@literal null}.
+	 */
+	public HibernateStatementRecorder(@Nullable StatementInspector delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String inspect(String sql) {
+
+		String inspected = delegate != null ? delegate.inspect(sql) : sql;
+
+		StatementRecorder.record(inspected);
+
+		return inspected;
+	}
+}
@@ -29,21 +29,23 @@ import jakarta.persistence.metamodel.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 
 import org.springframework.beans.BeanWrapper;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Implementation of {@link org.springframework.data.repository.core.EntityInformation} that uses JPA {@link Metamodel}
@@ -60,9 +62,14 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 
 	private final IdMetadata<T> idMetadata;
 	private final Optional<SingularAttribute<? super T, ?>> versionAttribute;
-	private final Metamodel metamodel;
 	private final @Nullable String entityName;
 	private final PersistenceUnitUtil persistenceUnitUtil;
+	private final PersistenceProvider persistenceProvider;
+	private final Map<String, PropertyPathAccessor> idAccessors;
+	private final @Nullable PropertyPathAccessor versionAccessor;
+	private final Lazy<Map<String, PropertyPathAccessor>> compositeIdAccessors;
+	private final ConcurrentLruCache<KeysetKey, PropertyPathAccessor[]> keysetAccessors = new ConcurrentLruCache<>(64,
+			this::createKeysetAccessors);
 
 	/**
 	 * Creates a new {@link JpaMetamodelEntityInformation} for the given domain class and {@link Metamodel}.
@@ -77,7 +84,6 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 		super(domainClass);
 
 		Assert.notNull(metamodel, "Metamodel must not be null");
-		this.metamodel = metamodel;
 
 		ManagedType<T> type = metamodel.managedType(domainClass);
 
@@ -91,11 +97,17 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 			throw new IllegalArgumentException("The given domain class does not contain an id attribute");
 		}
 
-		this.idMetadata = new IdMetadata<>(identifiableType, PersistenceProvider.fromMetamodel(metamodel));
+		this.persistenceProvider = PersistenceProvider.fromMetamodel(metamodel);
+		this.idMetadata = new IdMetadata<>(identifiableType, persistenceProvider);
 		this.versionAttribute = findVersionAttribute(identifiableType, metamodel);
 
 		Assert.notNull(persistenceUnitUtil, "PersistenceUnitUtil must not be null");
 		this.persistenceUnitUtil = persistenceUnitUtil;
+
+		this.idAccessors = createAccessors(domainClass, getIdAttributeNames());
+		this.versionAccessor = versionAttribute.map(it -> PropertyPathAccessor.of(domainClass, it.getName()))
+				.orElse(null);
+		this.compositeIdAccessors = Lazy.of(this::createCompositeIdAccessors);
 	}
 
 	@Override
@@ -148,8 +160,6 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 	public ID getId(T entity) {
 
 		// check if this is a proxy. If so use Proxy mechanics to access the id.
-		PersistenceProvider persistenceProvider = PersistenceProvider.fromMetamodel(metamodel);
-
 		if (persistenceProvider.shouldUseAccessorFor(entity)) {
 			return (ID) persistenceProvider.getIdentifierFrom(entity);
 		}
@@ -167,12 +177,11 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 		}
 
 		// otherwise, check if the complex id type has any partially filled fields
-		BeanWrapper entityWrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
 		boolean partialIdValueFound = false;
 
 		for (SingularAttribute<? super T, ?> attribute : idMetadata) {
 
-			Object propertyValue = entityWrapper.getPropertyValue(attribute.getName());
+			Object propertyValue = getPropertyValue(idAccessors, getJavaType(), entity, attribute.getName());
 
 			if (idMetadata.hasSimpleId()) {
 				return (ID) propertyValue;
@@ -219,7 +228,7 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 
 		Assert.isTrue(hasCompositeId(), "Model must have a composite Id");
 
-		return new DirectFieldAccessFallbackBeanWrapper(id).getPropertyValue(idAttribute);
+		return getPropertyValue(compositeIdAccessors.get(), getIdType(), id, idAttribute);
 	}
 
 	@Override
@@ -230,6 +239,10 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 			return super.isNew(entity);
 		}
 
+		if (versionAccessor != null && getJavaType().isInstance(entity)) {
+			return versionAccessor.getValue(entity) == null;
+		}
+
 		BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
 
 		return versionAttribute.map(it -> wrapper.getPropertyValue(it.getName()) == null).orElse(true);
@@ -238,36 +251,116 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 	@Override
 	public Map<String, Object> getKeyset(Iterable<String> propertyPaths, T entity) {
 
-		Function<String, Object> getter = getPropertyValueFunction(entity);
-
 		Map<String, Object> keyset = new LinkedHashMap<>();
 
-		if (hasCompositeId()) {
-			for (String idAttributeName : getIdAttributeNames()) {
-				keyset.put(idAttributeName, getter.apply(idAttributeName));
+		if (entity instanceof Tuple t) {
+
+			if (hasCompositeId()) {
+				for (String idAttributeName : getIdAttributeNames()) {
+					keyset.put(idAttributeName, t.get(idAttributeName));
+				}
+			} else {
+				keyset.put(getIdAttribute().getName(), getId(entity));
+			}
+
+			for (String propertyPath : propertyPaths) {
+				keyset.put(propertyPath, t.get(propertyPath));
 			}
-		} else {
+
+			return keyset;
+		}
+
+		if (!hasCompositeId()) {
 			keyset.put(getIdAttribute().getName(), getId(entity));
 		}
 
-		for (String propertyPath : propertyPaths) {
-			keyset.put(propertyPath, getter.apply(propertyPath));
+		// TODO: Proxy handling requires more elaborate refactoring, see
+		// https://github.com/spring-projects/spring-data-jpa/issues/2784
+		for (PropertyPathAccessor accessor : keysetAccessors.get(new KeysetKey(entity.getClass(), toList(propertyPaths)))) {
+			keyset.put(accessor.getPath(), accessor.getValue(entity));
 		}
 
 		return keyset;
 	}
 
-	private Function<String, Object> getPropertyValueFunction(Object entity) {
+	/**
+	 * Compiles the {@link PropertyPathAccessor}s for the composite identifier attributes (if any) and the given property
+	 * paths of a keyset.
+	 */
+	private PropertyPathAccessor[] createKeysetAccessors(KeysetKey key) {
+
+		List<PropertyPathAccessor> accessors = new ArrayList<>();
 
-		if (entity instanceof Tuple t) {
-			return t::get;
+		if (hasCompositeId()) {
+			for (String idAttributeName : getIdAttributeNames()) {
+				accessors.add(PropertyPathAccessor.of(key.type(), idAttributeName));
+			}
 		}
 
-		// TODO: Proxy handling requires more elaborate refactoring, see
-		// https://github.com/spring-projects/spring-data-jpa/issues/2784
-		BeanWrapper entityWrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+		for (String propertyPath : key.propertyPaths()) {
+			accessors.add(PropertyPathAccessor.of(key.type(), propertyPath));
+		}
+
+		return accessors.toArray(new PropertyPathAccessor[0]);
+	}
+
+	/**
+	 * Returns the value of the given property of {@code source} through its compiled {@link PropertyPathAccessor} if
+	 * {@code source} is of the type the accessors were compiled for.
+	 */
+	@Nullable
+	private static Object getPropertyValue(Map<String, PropertyPathAccessor> accessors, Class<?> type, Object source,
+			String property) {
+
+		PropertyPathAccessor accessor = accessors.get(property);
+
+		if (accessor != null && type.isInstance(source)) {
+			return accessor.getValue(source);
+		}
+
+		return new DirectFieldAccessFallbackBeanWrapper(source).getPropertyValue(property);
+	}
+
+	private Map<String, PropertyPathAccessor> createCompositeIdAccessors() {
+
+		try {
+			return createAccessors(getIdType(), getIdAttributeNames());
+		} catch (IllegalStateException o_O) {
+			return Collections.emptyMap();
+		}
+	}
+
+	private static Map<String, PropertyPathAccessor> createAccessors(Class<?> type, Collection<String> properties) {
+
+		Map<String, PropertyPathAccessor> accessors = new HashMap<>(properties.size());
+
+		for (String property : properties) {
+			accessors.put(property, PropertyPathAccessor.of(type, property));
+		}
+
+		return accessors;
+	}
+
+	private static List<String> toList(Iterable<String> propertyPaths) {
+
+		if (propertyPaths instanceof List<String> list) {
+			return list;
+		}
+
+		List<String> result = new ArrayList<>();
+		propertyPaths.forEach(result::add);
+
+		return result;
+	}
+
+	/**
+	 * Cache key for compiled keyset accessors.
+	 *
+	 * @param type the actual entity type.
+	 * @param propertyPaths the keyset property paths.
+	 */
+	private record KeysetKey(Class<?> type, List<String> propertyPaths) {
 
-		return entityWrapper::getPropertyValue;
 	}
 
 	/**
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.jpa.repository.support;
 
+import org.springframework.data.jpa.repository.SaveMode;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.SlowQueryLog;
 import org.springframework.data.projection.ProjectionFactory;
 
 /**
@@ -52,4 +54,34 @@ public interface JpaRepositoryConfigurationAware {
 	default void setRepositoryMethodMetadata(CrudMethodMetadata metadata) {
 
 	}
+
+	/**
+	 * Configures the {@link RepositoryEntityCache} to be used with the repository.
+	 *
+	 * @param entityCache must not be {@literal null}.
+	 * @since 3.5
+	 */
+	default void setEntityCache(RepositoryEntityCache<?> entityCache) {
+
+	}
+
+	/**
+	 * Configures the {@link SaveMode} to be used by {@code save(…)} for entities that are not new.
+	 *
+	 * @param saveMode must not be {@literal null}.
+	 * @since 3.5
+	 */
+	default void setSaveMode(SaveMode saveMode) {
+
+	}
+
+	/**
+	 * Configures the {@link SlowQueryLog} to capture queries created by the repository.
+	 *
+	 * @param slowQueryLog must not be {@literal null}.
+	 * @since 3.5
+	 */
+	default void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+
+	}
 }
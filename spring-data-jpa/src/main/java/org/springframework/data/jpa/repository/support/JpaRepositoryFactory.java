@@ -31,20 +31,32 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.jpa.projection.CollectionAwareProjectionFactory;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.EntityCache;
+import org.springframework.data.jpa.repository.JpaBulkOperations;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.jpa.repository.SaveStrategy;
 import org.springframework.data.jpa.repository.query.AbstractJpaQuery;
 import org.springframework.data.jpa.repository.query.BeanFactoryQueryRewriterProvider;
 import org.springframework.data.jpa.repository.query.DefaultJpaQueryMethodFactory;
+import org.springframework.data.jpa.repository.query.DerivedCountQueries;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.InParameterPadding;
 import org.springframework.data.jpa.repository.query.JpaQueryLookupStrategy;
 import org.springframework.data.jpa.repository.query.JpaQueryMethod;
 import org.springframework.data.jpa.repository.query.JpaQueryMethodFactory;
+import org.springframework.data.jpa.repository.query.NamedQueryRegistration;
 import org.springframework.data.jpa.repository.query.Procedure;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
 import org.springframework.data.jpa.repository.query.QueryRewriterProvider;
+import org.springframework.data.jpa.repository.query.SlowQueryLog;
+import org.springframework.data.jpa.repository.query.SortedQueryCaches;
 import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.querydsl.EntityPathResolver;
@@ -61,6 +73,9 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -90,6 +105,14 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	private JpaQueryMethodFactory queryMethodFactory;
 	private QueryRewriterProvider queryRewriterProvider;
+	private @Nullable NPlusOneQueryDetector nPlusOneQueryDetector;
+	private @Nullable SlowQueryLog slowQueryLog;
+	private InParameterPadding inParameterPadding = InParameterPadding.NONE;
+	private @Nullable SortedQueryCaches sortedQueryCaches;
+	private boolean countQueryWarmUp;
+	private boolean registerNamedQueries;
+	private SpelCompilerMode expressionCompilerMode = SpelCompilerMode.OFF;
+	private int bulkOperationsBatchSize = HibernateBulkOperations.DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactory}.
@@ -108,6 +131,17 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.queryRewriterProvider = QueryRewriterProvider.simple();
 
 		addRepositoryProxyPostProcessor(crudMethodMetadataPostProcessor);
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+
+			if (nPlusOneQueryDetector != null) {
+				factory.addAdvice(nPlusOneQueryDetector.createInterceptor(repositoryInformation));
+			}
+
+			if (slowQueryLog != null) {
+				new SlowQueryLogPostProcessor(slowQueryLog, extractor).postProcess(factory, repositoryInformation);
+			}
+		});
+		addRepositoryProxyPostProcessor(new RepositoryCacheEvictingPostProcessor(entityManager));
 		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
 
 			if (isTransactionNeeded(repositoryInformation.getRepositoryInterface())) {
@@ -122,13 +156,6 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.crudMethodMetadata = crudMethodMetadataPostProcessor.getCrudMethodMetadata();
 	}
 
-	@Override
-	public void setBeanClassLoader(ClassLoader classLoader) {
-
-		super.setBeanClassLoader(classLoader);
-		this.crudMethodMetadataPostProcessor.setBeanClassLoader(classLoader);
-	}
-
 	/**
 	 * If a {@link BeanFactory} is being set, this is clearly in a Spring context, and so we can capture the
 	 * {@link QueryRewriterProvider} being a {@link BeanFactoryQueryRewriterProvider}.
@@ -192,6 +219,105 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.queryRewriterProvider = queryRewriterProvider;
 	}
 
+	/**
+	 * Configures the {@link NPlusOneQueryDetector} observing repository invocations. Disabled by default.
+	 *
+	 * @param nPlusOneQueryDetector can be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setNPlusOneQueryDetector(@Nullable NPlusOneQueryDetector nPlusOneQueryDetector) {
+		this.nPlusOneQueryDetector = nPlusOneQueryDetector;
+	}
+
+	/**
+	 * Configures the {@link SlowQueryLog} measuring repository query executions. Disabled by default.
+	 *
+	 * @param slowQueryLog can be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setSlowQueryLog(@Nullable SlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	/**
+	 * Configures the {@link InParameterPadding} to apply to collection parameters bound to {@code IN} clauses of query
+	 * methods. Defaults to {@link InParameterPadding#NONE}.
+	 *
+	 * @param inParameterPadding must not be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setInParameterPadding(InParameterPadding inParameterPadding) {
+
+		Assert.notNull(inParameterPadding, "InParameterPadding must not be null");
+
+		this.inParameterPadding = inParameterPadding;
+	}
+
+	/**
+	 * Configures whether to derive count queries of paging query methods while resolving query methods instead of on
+	 * their first execution. Derived count queries are shared through {@link DerivedCountQueries}. Disabled by default.
+	 *
+	 * @param countQueryWarmUp whether to derive count queries ahead of time.
+	 * @since 3.5
+	 */
+	public void setCountQueryWarmUp(boolean countQueryWarmUp) {
+		this.countQueryWarmUp = countQueryWarmUp;
+	}
+
+	/**
+	 * Configures whether to register the queries of string-based query methods as named queries with the
+	 * {@link jakarta.persistence.EntityManagerFactory} to let the persistence provider compile them once. Disabled by
+	 * default.
+	 *
+	 * @param registerNamedQueries whether to register named queries.
+	 * @since 3.5
+	 * @see NamedQueryRegistration
+	 */
+	public void setRegisterNamedQueries(boolean registerNamedQueries) {
+		this.registerNamedQueries = registerNamedQueries;
+	}
+
+	/**
+	 * Configures the {@link SpelCompilerMode} to compile SpEL expressions used in {@code @Query} definitions with.
+	 * Compiled expressions evaluate considerably faster for expressions that are evaluated on each invocation such as
+	 * {@code :#{principal.tenantId}}. Defaults to {@link SpelCompilerMode#OFF}, which uses the mode configured through
+	 * the {@code spring.expression.compiler.mode} property.
+	 *
+	 * @param expressionCompilerMode must not be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setExpressionCompilerMode(SpelCompilerMode expressionCompilerMode) {
+
+		Assert.notNull(expressionCompilerMode, "SpelCompilerMode must not be null");
+
+		this.expressionCompilerMode = expressionCompilerMode;
+	}
+
+	/**
+	 * Configures the JDBC batch size used by {@link JpaBulkOperations} writes. Defaults to
+	 * {@value HibernateBulkOperations#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param bulkOperationsBatchSize must be greater than zero.
+	 * @since 3.5
+	 */
+	public void setBulkOperationsBatchSize(int bulkOperationsBatchSize) {
+
+		Assert.isTrue(bulkOperationsBatchSize > 0, "Batch size must be greater than zero");
+
+		this.bulkOperationsBatchSize = bulkOperationsBatchSize;
+	}
+
+	/**
+	 * Configures the {@link SortedQueryCaches} to size and register the caches of sorted query strings. Caches retain
+	 * {@value SortedQueryCaches#DEFAULT_CAPACITY} entries per query method and are not registered by default.
+	 *
+	 * @param sortedQueryCaches can be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setSortedQueryCaches(@Nullable SortedQueryCaches sortedQueryCaches) {
+		this.sortedQueryCaches = sortedQueryCaches;
+	}
+
 	@Override
 	protected final JpaRepositoryImplementation<?, ?> getTargetRepository(RepositoryInformation information) {
 
@@ -199,9 +325,37 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 
 		invokeAwareMethods(repository);
 
+		EntityCache entityCache = AnnotatedElementUtils.findMergedAnnotation(information.getRepositoryInterface(),
+				EntityCache.class);
+
+		if (entityCache != null) {
+			repository.setEntityCache(
+					RepositoryEntityCaches.getOrCreate(entityManager.getMetamodel(), information.getDomainType(), entityCache));
+		}
+
+		if (extractor == PersistenceProvider.HIBERNATE && (entityCache != null || usesResultCache(information))) {
+			HibernateCacheEvictionListener.registerIfNecessary(entityManager.getEntityManagerFactory());
+		}
+
+		SaveStrategy saveStrategy = AnnotatedElementUtils.findMergedAnnotation(information.getRepositoryInterface(),
+				SaveStrategy.class);
+
+		if (saveStrategy != null) {
+			repository.setSaveMode(saveStrategy.value());
+		}
+
+		if (slowQueryLog != null) {
+			repository.setSlowQueryLog(slowQueryLog);
+		}
+
 		return repository;
 	}
 
+	private static boolean usesResultCache(RepositoryInformation information) {
+		return information.getQueryMethods().stream()
+				.anyMatch(it -> AnnotatedElementUtils.hasAnnotation(it, ResultCache.class));
+	}
+
 	/**
 	 * Callback to create a {@link JpaRepository} instance with the given {@link EntityManager}
 	 *
@@ -238,9 +392,32 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			ValueExpressionDelegate valueExpressionDelegate) {
-		return Optional.of(JpaQueryLookupStrategy.create(entityManager, queryMethodFactory, key,
-				new CachingValueExpressionDelegate(valueExpressionDelegate),
-				queryRewriterProvider, escapeCharacter));
+
+		if (expressionCompilerMode != SpelCompilerMode.OFF) {
+
+			SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(expressionCompilerMode, null));
+			valueExpressionDelegate = new ValueExpressionDelegate(valueExpressionDelegate.getEvaluationContextAccessor(),
+					ValueExpressionParser.create(() -> parser));
+		}
+
+		QueryLookupStrategy strategy = JpaQueryLookupStrategy.create(entityManager, queryMethodFactory, key,
+				new CachingValueExpressionDelegate(valueExpressionDelegate), queryRewriterProvider, escapeCharacter);
+		strategy = inParameterPadding.decorate(strategy);
+		strategy = QueryResultCaches.decorate(strategy, entityManager.getMetamodel());
+
+		if (sortedQueryCaches != null) {
+			strategy = sortedQueryCaches.decorate(strategy);
+		}
+
+		if (countQueryWarmUp) {
+			strategy = DerivedCountQueries.warmUp(strategy);
+		}
+
+		if (registerNamedQueries) {
+			strategy = NamedQueryRegistration.decorate(strategy);
+		}
+
+		return Optional.of(slowQueryLog != null ? slowQueryLog.decorate(strategy) : strategy);
 	}
 
 
@@ -259,7 +436,8 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 
 	/**
 	 * Creates {@link RepositoryFragments} based on {@link RepositoryMetadata} to add JPA-specific extensions. Typically
-	 * adds a {@link QuerydslJpaPredicateExecutor} if the repository interface uses Querydsl.
+	 * adds a {@link QuerydslJpaPredicateExecutor} if the repository interface uses Querydsl and
+	 * {@link HibernateBulkOperations} if the repository interface extends {@link JpaBulkOperations}.
 	 * <p>
 	 * Can be overridden by subclasses to customize {@link RepositoryFragments}.
 	 *
@@ -273,6 +451,8 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	protected RepositoryFragments getRepositoryFragments(RepositoryMetadata metadata, EntityManager entityManager,
 			EntityPathResolver resolver, CrudMethodMetadata crudMethodMetadata) {
 
+		RepositoryFragments fragments = RepositoryFragments.empty();
+
 		boolean isQueryDslRepository = QUERY_DSL_PRESENT
 				&& QuerydslPredicateExecutor.class.isAssignableFrom(metadata.getRepositoryInterface());
 
@@ -287,10 +467,24 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 					getEntityInformation(metadata.getDomainType()), entityManager, resolver, crudMethodMetadata);
 			invokeAwareMethods(querydslJpaPredicateExecutor);
 
-			return RepositoryFragments.just(querydslJpaPredicateExecutor);
+			fragments = fragments.append(RepositoryFragments.just(querydslJpaPredicateExecutor));
+		}
+
+		if (JpaBulkOperations.class.isAssignableFrom(metadata.getRepositoryInterface())) {
+
+			if (PersistenceProvider.fromEntityManager(entityManager) != PersistenceProvider.HIBERNATE) {
+				throw new InvalidDataAccessApiUsageException(
+						"%s requires Hibernate as persistence provider".formatted(JpaBulkOperations.class.getSimpleName()));
+			}
+
+			HibernateBulkOperations<?> bulkOperations = new HibernateBulkOperations<>(
+					getEntityInformation(metadata.getDomainType()), entityManager);
+			bulkOperations.setBatchSize(bulkOperationsBatchSize);
+
+			fragments = fragments.append(RepositoryFragments.just(bulkOperations));
 		}
 
-		return RepositoryFragments.empty();
+		return fragments;
 	}
 
 	private void invokeAwareMethods(JpaRepositoryConfigurationAware repository) {
@@ -21,13 +21,19 @@ import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.DerivedCountQueries;
+import org.springframework.data.jpa.repository.query.InParameterPadding;
 import org.springframework.data.jpa.repository.query.JpaQueryMethodFactory;
+import org.springframework.data.jpa.repository.query.NamedQueryRegistration;
+import org.springframework.data.jpa.repository.query.SlowQueryLog;
+import org.springframework.data.jpa.repository.query.SortedQueryCaches;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.querydsl.EntityPathResolver;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -49,6 +55,14 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	private EntityPathResolver entityPathResolver;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	private JpaQueryMethodFactory queryMethodFactory;
+	private @Nullable NPlusOneQueryDetector nPlusOneQueryDetector;
+	private @Nullable SlowQueryLog slowQueryLog;
+	private InParameterPadding inParameterPadding = InParameterPadding.NONE;
+	private @Nullable SortedQueryCaches sortedQueryCaches;
+	private boolean countQueryWarmUp;
+	private boolean registerNamedQueries;
+	private SpelCompilerMode expressionCompilerMode = SpelCompilerMode.OFF;
+	private int bulkOperationsBatchSize = HibernateBulkOperations.DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactoryBean} for the given repository interface.
@@ -100,6 +114,42 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		}
 	}
 
+	/**
+	 * Configures the {@link NPlusOneQueryDetector} to be used. Will pick up a canonical bean if present, detection is
+	 * disabled otherwise.
+	 *
+	 * @param detector must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Autowired
+	public void setNPlusOneQueryDetector(ObjectProvider<NPlusOneQueryDetector> detector) {
+		this.nPlusOneQueryDetector = detector.getIfAvailable();
+	}
+
+	/**
+	 * Configures the {@link SlowQueryLog} to be used. Will pick up a canonical bean if present, slow queries are not
+	 * logged otherwise.
+	 *
+	 * @param slowQueryLog must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Autowired
+	public void setSlowQueryLog(ObjectProvider<SlowQueryLog> slowQueryLog) {
+		this.slowQueryLog = slowQueryLog.getIfAvailable();
+	}
+
+	/**
+	 * Configures the {@link SortedQueryCaches} to be used. Will pick up a canonical bean if present, sorted query caches
+	 * use their default capacity and are not registered otherwise.
+	 *
+	 * @param sortedQueryCaches must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Autowired
+	public void setSortedQueryCaches(ObjectProvider<SortedQueryCaches> sortedQueryCaches) {
+		this.sortedQueryCaches = sortedQueryCaches.getIfAvailable();
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
 
@@ -116,6 +166,14 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		JpaRepositoryFactory jpaRepositoryFactory = new JpaRepositoryFactory(entityManager);
 		jpaRepositoryFactory.setEntityPathResolver(entityPathResolver);
 		jpaRepositoryFactory.setEscapeCharacter(escapeCharacter);
+		jpaRepositoryFactory.setNPlusOneQueryDetector(nPlusOneQueryDetector);
+		jpaRepositoryFactory.setSlowQueryLog(slowQueryLog);
+		jpaRepositoryFactory.setInParameterPadding(inParameterPadding);
+		jpaRepositoryFactory.setSortedQueryCaches(sortedQueryCaches);
+		jpaRepositoryFactory.setCountQueryWarmUp(countQueryWarmUp);
+		jpaRepositoryFactory.setRegisterNamedQueries(registerNamedQueries);
+		jpaRepositoryFactory.setExpressionCompilerMode(expressionCompilerMode);
+		jpaRepositoryFactory.setBulkOperationsBatchSize(bulkOperationsBatchSize);
 
 		if (queryMethodFactory != null) {
 			jpaRepositoryFactory.setQueryMethodFactory(queryMethodFactory);
@@ -136,4 +194,70 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		this.escapeCharacter = EscapeCharacter.of(escapeCharacter);
 	}
+
+	/**
+	 * Configures the {@link InParameterPadding} to apply to collection parameters bound to {@code IN} clauses of query
+	 * methods. Defaults to {@link InParameterPadding#NONE}.
+	 *
+	 * @param inParameterPadding must not be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setInParameterPadding(InParameterPadding inParameterPadding) {
+
+		Assert.notNull(inParameterPadding, "InParameterPadding must not be null");
+
+		this.inParameterPadding = inParameterPadding;
+	}
+
+	/**
+	 * Configures whether to derive count queries of paging query methods while resolving query methods instead of on
+	 * their first execution. Derived count queries are shared through {@link DerivedCountQueries}. Disabled by default.
+	 *
+	 * @param countQueryWarmUp whether to derive count queries ahead of time.
+	 * @since 3.5
+	 */
+	public void setCountQueryWarmUp(boolean countQueryWarmUp) {
+		this.countQueryWarmUp = countQueryWarmUp;
+	}
+
+	/**
+	 * Configures whether to register the queries of string-based query methods as named queries with the
+	 * {@link jakarta.persistence.EntityManagerFactory} to let the persistence provider compile them once. Disabled by
+	 * default.
+	 *
+	 * @param registerNamedQueries whether to register named queries.
+	 * @since 3.5
+	 * @see NamedQueryRegistration
+	 */
+	public void setRegisterNamedQueries(boolean registerNamedQueries) {
+		this.registerNamedQueries = registerNamedQueries;
+	}
+
+	/**
+	 * Configures the {@link SpelCompilerMode} to compile SpEL expressions used in {@code @Query} definitions with.
+	 * Defaults to {@link SpelCompilerMode#OFF}.
+	 *
+	 * @param expressionCompilerMode must not be {@literal null}.
+	 * @since 3.5
+	 */
+	public void setExpressionCompilerMode(SpelCompilerMode expressionCompilerMode) {
+
+		Assert.notNull(expressionCompilerMode, "SpelCompilerMode must not be null");
+
+		this.expressionCompilerMode = expressionCompilerMode;
+	}
+
+	/**
+	 * Configures the JDBC batch size used by {@link org.springframework.data.jpa.repository.JpaBulkOperations} writes.
+	 * Defaults to {@value HibernateBulkOperations#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param bulkOperationsBatchSize must be greater than zero.
+	 * @since 3.5
+	 */
+	public void setBulkOperationsBatchSize(int bulkOperationsBatchSize) {
+
+		Assert.isTrue(bulkOperationsBatchSize > 0, "Batch size must be greater than zero");
+
+		this.bulkOperationsBatchSize = bulkOperationsBatchSize;
+	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.jpa.repository.support;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSaveOperations;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -28,6 +29,6 @@ import org.springframework.data.repository.NoRepositoryBean;
  */
 @NoRepositoryBean
 public interface JpaRepositoryImplementation<T, ID>
-		extends JpaRepository<T, ID>, JpaSpecificationExecutor<T>, JpaRepositoryConfigurationAware {
+		extends JpaRepository<T, ID>, JpaSpecificationExecutor<T>, JpaSaveOperations<T>, JpaRepositoryConfigurationAware {
 
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.repository.support.StatementRecorder.Recording;
+import org.springframework.data.jpa.repository.support.StatementRecorder.RepeatedStatement;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Diagnostic detector for N+1 query patterns, meant to be enabled in test and staging environments. Counts the SQL
+ * statements issued per repository invocation or per transaction and flags statements that are executed repeatedly,
+ * differing only in bound or inlined values such as identifiers. Reports name the repository method that issued the
+ * statements, statements issued after a repository method returned (e.g. by initializing lazy associations within a
+ * transaction) are attributed to the last invoked repository method.
+ * <p>
+ * Statements are reported by the persistence provider through {@link StatementRecorder}, which requires registering
+ * {@link HibernateStatementRecorder} as Hibernate {@code StatementInspector} or {@link EclipseLinkStatementRecorder}
+ * as EclipseLink session event listener. Other integrations, such as {@link javax.sql.DataSource} proxies, can report
+ * statements through {@link StatementRecorder#record(String)}.
+ *
+ * @since 3.5
+ * @see JpaRepositoryFactory#setNPlusOneQueryDetector(NPlusOneQueryDetector)
+ */
+public class NPlusOneQueryDetector {
+
+	private static final Log logger = LogFactory.getLog(NPlusOneQueryDetector.class);
+
+	private int repetitionThreshold = 3;
+	private int statementThreshold = Integer.MAX_VALUE;
+	private Scope scope = Scope.INVOCATION;
+	private Action action = Action.LOG;
+
+	/**
+	 * Configures how often the same statement may be executed before it is reported. Defaults to {@literal 3}.
+	 *
+	 * @param repetitionThreshold must be greater than zero.
+	 */
+	public void setRepetitionThreshold(int repetitionThreshold) {
+
+		Assert.isTrue(repetitionThreshold > 0, "Repetition threshold must be greater than zero");
+
+		this.repetitionThreshold = repetitionThreshold;
+	}
+
+	/**
+	 * Configures the total number of statements that may be executed per scope before they are reported. Unlimited by
+	 * default.
+	 *
+	 * @param statementThreshold must be greater than zero.
+	 */
+	public void setStatementThreshold(int statementThreshold) {
+
+		Assert.isTrue(statementThreshold > 0, "Statement threshold must be greater than zero");
+
+		this.statementThreshold = statementThreshold;
+	}
+
+	/**
+	 * Configures the {@link Scope} within which statements are counted. Defaults to {@link Scope#INVOCATION}.
+	 *
+	 * @param scope must not be {@literal null}.
+	 */
+	public void setScope(Scope scope) {
+
+		Assert.notNull(scope, "Scope must not be null");
+
+		this.scope = scope;
+	}
+
+	/**
+	 * Configures the {@link Action} to take once a threshold is exceeded. Defaults to {@link Action#LOG}.
+	 *
+	 * @param action must not be {@literal null}.
+	 */
+	public void setAction(Action action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		this.action = action;
+	}
+
+	/**
+	 * Creates a {@link MethodInterceptor} observing invocations of the given repository.
+	 *
+	 * @param repositoryInformation must not be {@literal null}.
+	 * @return the interceptor.
+	 */
+	MethodInterceptor createInterceptor(RepositoryInformation repositoryInformation) {
+		return new DetectingMethodInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName());
+	}
+
+	/**
+	 * Verifies the given {@link Recording} against the configured thresholds.
+	 *
+	 * @param recording must not be {@literal null}.
+	 * @throws InvalidDataAccessApiUsageException if a threshold is exceeded and {@link Action#THROW} is configured.
+	 */
+	void verify(Recording recording) {
+
+		List<RepeatedStatement> repeated = recording.getRepeatedStatements(repetitionThreshold);
+
+		if (repeated.isEmpty() && recording.getTotal() <= statementThreshold) {
+			return;
+		}
+
+		StringBuilder report = new StringBuilder("Potential N+1 queries detected");
+
+		if (recording.getTotal() > statementThreshold) {
+			report.append(String.format("; %d statements executed exceeding the threshold of %d", recording.getTotal(),
+					statementThreshold));
+		}
+
+		for (RepeatedStatement statement : repeated) {
+			report.append(String.format("%n\t%s executed %d times: %s", statement.method(), statement.count(),
+					statement.sql()));
+		}
+
+		if (action == Action.THROW) {
+			throw new InvalidDataAccessApiUsageException(report.toString());
+		}
+
+		if (logger.isWarnEnabled()) {
+			logger.warn(report.toString());
+		}
+	}
+
+	/**
+	 * Scope within which statements are counted.
+	 */
+	public enum Scope {
+
+		/**
+		 * Count statements per outermost repository invocation.
+		 */
+		INVOCATION,
+
+		/**
+		 * Count statements per transaction, including statements issued outside of repository invocations such as lazy
+		 * loading. Falls back to {@link #INVOCATION} if no transaction synchronization is active.
+		 */
+		TRANSACTION
+	}
+
+	/**
+	 * Action to take once a threshold is exceeded.
+	 */
+	public enum Action {
+
+		/**
+		 * Log a warning naming the offending repository methods and statements.
+		 */
+		LOG,
+
+		/**
+		 * Throw {@link InvalidDataAccessApiUsageException}. For {@link Scope#TRANSACTION}, the exception is thrown before
+		 * commit and causes the transaction to roll back.
+		 */
+		THROW
+	}
+
+	/**
+	 * {@link MethodInterceptor} binding a {@link Recording} to the calling thread for the outermost repository
+	 * invocation or the surrounding transaction.
+	 */
+	private class DetectingMethodInterceptor implements MethodInterceptor {
+
+		private final String repositoryName;
+
+		DetectingMethodInterceptor(String repositoryName) {
+			this.repositoryName = repositoryName;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			String method = repositoryName + "." + invocation.getMethod().getName();
+			Recording recording = StatementRecorder.current();
+			boolean invocationScoped = false;
+
+			if (recording == null) {
+
+				recording = new Recording();
+				StatementRecorder.bind(recording);
+
+				if (scope == Scope.TRANSACTION && TransactionSynchronizationManager.isSynchronizationActive()) {
+					TransactionSynchronizationManager.registerSynchronization(new RecordingSynchronization(recording));
+				} else {
+					invocationScoped = true;
+				}
+			}
+
+			String previous = recording.enter(method);
+			Object result;
+
+			try {
+				result = invocation.proceed();
+			} finally {
+
+				recording.exit(previous);
+
+				if (invocationScoped) {
+					StatementRecorder.bind(null);
+				}
+			}
+
+			if (invocationScoped) {
+				verify(recording);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * {@link TransactionSynchronization} verifying a transaction-scoped {@link Recording} before commit and keeping it
+	 * bound to the thread executing the transaction.
+	 */
+	private class RecordingSynchronization implements TransactionSynchronization {
+
+		private final Recording recording;
+
+		RecordingSynchronization(Recording recording) {
+			this.recording = recording;
+		}
+
+		@Override
+		public void suspend() {
+			StatementRecorder.bind(null);
+		}
+
+		@Override
+		public void resume() {
+			StatementRecorder.bind(recording);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			verify(recording);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			StatementRecorder.bind(null);
+		}
+	}
+}
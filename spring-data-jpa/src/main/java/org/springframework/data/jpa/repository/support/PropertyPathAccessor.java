@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Accessor for a (nested) property path of a type that is compiled once into a chain of {@link MethodHandle}s reading
+ * the property through its getter or, if the property does not expose a getter, its field. Property paths that cannot
+ * be resolved against the declared types are read through a {@link DirectFieldAccessFallbackBeanWrapper}.
+ *
+ * @since 3.5
+ */
+final class PropertyPathAccessor {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final String path;
+	private final @Nullable MethodHandle[] segments;
+
+	private PropertyPathAccessor(String path, @Nullable MethodHandle[] segments) {
+
+		this.path = path;
+		this.segments = segments;
+	}
+
+	/**
+	 * Creates a new {@link PropertyPathAccessor} for the given dot-separated property path of {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param path must not be {@literal null} or empty.
+	 * @return the accessor for {@code path}.
+	 */
+	static PropertyPathAccessor of(Class<?> type, String path) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.hasText(path, "Property path must not be null or empty");
+
+		return new PropertyPathAccessor(path, compile(type, path));
+	}
+
+	/**
+	 * @return the property path read by this accessor.
+	 */
+	String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the value of the property path for the given source object.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the property value, {@literal null} if the property or any intermediate property is {@literal null}.
+	 */
+	@Nullable
+	Object getValue(Object source) {
+
+		if (segments == null) {
+			return new DirectFieldAccessFallbackBeanWrapper(source).getPropertyValue(path);
+		}
+
+		Object current = source;
+
+		for (MethodHandle segment : segments) {
+
+			if (current == null) {
+				return null;
+			}
+
+			current = invoke(segment, current);
+		}
+
+		return current;
+	}
+
+	@Nullable
+	private Object invoke(MethodHandle segment, Object target) {
+
+		try {
+			return (Object) segment.invokeExact(target);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException("Could not read property '%s' of %s".formatted(path, target), ex);
+		}
+	}
+
+	@Nullable
+	private static MethodHandle[] compile(Class<?> type, String path) {
+
+		if (path.indexOf('[') != -1) {
+			return null;
+		}
+
+		String[] names = StringUtils.delimitedListToStringArray(path, ".");
+		MethodHandle[] segments = new MethodHandle[names.length];
+		Class<?> current = type;
+
+		for (int i = 0; i < names.length; i++) {
+
+			MethodHandle segment = resolve(current, names[i]);
+
+			if (segment == null) {
+				return null;
+			}
+
+			segments[i] = segment.asType(GETTER_TYPE);
+			current = segment.type().returnType();
+		}
+
+		return segments;
+	}
+
+	@Nullable
+	private static MethodHandle resolve(Class<?> type, String property) {
+
+		try {
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+			Method getter = descriptor != null ? descriptor.getReadMethod() : null;
+
+			if (getter != null) {
+
+				ReflectionUtils.makeAccessible(getter);
+				return LOOKUP.unreflect(getter);
+			}
+
+			Field field = ReflectionUtils.findField(type, property);
+
+			if (field != null && !Modifier.isStatic(field.getModifiers())) {
+
+				ReflectionUtils.makeAccessible(field);
+				return LOOKUP.unreflectGetter(field);
+			}
+		} catch (IllegalAccessException | RuntimeException o_O) {
+			// fall back to bean wrapper access
+		}
+
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyPathAccessor for '%s'".formatted(path);
+	}
+}
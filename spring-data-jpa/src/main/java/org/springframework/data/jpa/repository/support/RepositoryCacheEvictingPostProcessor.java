@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.EntityCache;
+import org.springframework.data.jpa.repository.JpaBulkOperations;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.jpa.repository.query.QueryResultCache;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} invalidating {@link RepositoryEntityCache entity caches} and
+ * {@link QueryResultCache query result caches} for the repository domain type after invoking modifying methods, that
+ * is {@code save…} and {@code delete…} CRUD methods, {@link JpaBulkOperations} writes as well as
+ * {@link Modifying modifying} and derived delete query methods. Caches are looked up on each invocation so that
+ * repositories without caching configuration invalidate caches declared by other repositories managing the same domain
+ * type.
+ * <p>
+ * Entity caches are additionally evicted by {@link SimpleJpaRepository} for the affected identifiers only, this
+ * post-processor evicts them entirely for modifying query methods and bulk writes. As modifying queries may affect any
+ * domain type, they invalidate all query result caches of the persistence unit.
+ *
+ * @since 3.5
+ * @see EntityCache
+ * @see ResultCache
+ */
+class RepositoryCacheEvictingPostProcessor implements RepositoryProxyPostProcessor {
+
+	private static final Pattern DERIVED_DELETE = Pattern.compile("^(delete|remove)(\\p{Lu}.*?)??By");
+
+	private final EntityManager entityManager;
+
+	RepositoryCacheEvictingPostProcessor(EntityManager entityManager) {
+
+		Assert.notNull(entityManager, "EntityManager must not be null");
+
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Set<Method> bulkModifyingMethods = new HashSet<>();
+		Set<Method> modifyingCrudMethods = new HashSet<>();
+
+		for (Method method : repositoryInformation.getQueryMethods()) {
+			if (isModifyingQueryMethod(method)) {
+				bulkModifyingMethods.add(method);
+			}
+		}
+
+		ReflectionUtils.doWithMethods(repositoryInformation.getRepositoryInterface(), modifyingCrudMethods::add,
+				method -> !repositoryInformation.isQueryMethod(method) && isModifyingCrudMethod(method));
+		ReflectionUtils.doWithMethods(repositoryInformation.getRepositoryInterface(), bulkModifyingMethods::add,
+				RepositoryCacheEvictingPostProcessor::isBulkWriteMethod);
+
+		factory.addAdvice(new CacheEvictingMethodInterceptor(entityManager, repositoryInformation.getDomainType(),
+				bulkModifyingMethods, modifyingCrudMethods));
+	}
+
+	private static boolean isModifyingQueryMethod(Method method) {
+		return AnnotatedElementUtils.hasAnnotation(method, Modifying.class)
+				|| DERIVED_DELETE.matcher(method.getName()).find();
+	}
+
+	private static boolean isBulkWriteMethod(Method method) {
+		return method.getDeclaringClass().equals(JpaBulkOperations.class) && !method.getName().startsWith("stream");
+	}
+
+	private static boolean isModifyingCrudMethod(Method method) {
+		return method.getName().startsWith("save") || method.getName().startsWith("delete");
+	}
+
+	/**
+	 * {@link MethodInterceptor} invalidating caches after invoking modifying methods.
+	 */
+	static class CacheEvictingMethodInterceptor implements MethodInterceptor {
+
+		private final EntityManager entityManager;
+		private final Class<?> domainType;
+		private final Set<Method> bulkModifyingMethods;
+		private final Set<Method> modifyingCrudMethods;
+
+		CacheEvictingMethodInterceptor(EntityManager entityManager, Class<?> domainType,
+				Set<Method> bulkModifyingMethods, Set<Method> modifyingCrudMethods) {
+
+			this.entityManager = entityManager;
+			this.domainType = domainType;
+			this.bulkModifyingMethods = bulkModifyingMethods;
+			this.modifyingCrudMethods = modifyingCrudMethods;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+			boolean bulkModifyingMethod = bulkModifyingMethods.contains(method);
+
+			if (!bulkModifyingMethod && !modifyingCrudMethods.contains(method)) {
+				return invocation.proceed();
+			}
+
+			try {
+				return invocation.proceed();
+			} finally {
+
+				Metamodel metamodel = entityManager.getMetamodel();
+
+				if (bulkModifyingMethod) {
+					RepositoryEntityCaches.evictAll(metamodel, domainType);
+					QueryResultCaches.invalidateAll(metamodel);
+				} else {
+					QueryResultCaches.invalidate(metamodel, domainType);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.jpa.repository.EntityCache;
+import org.springframework.data.jpa.util.BoundedCache;
+import org.springframework.data.jpa.util.CacheStatistics;
+import org.springframework.data.jpa.util.EntitySnapshots;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, optionally expiring cache of entities by their identifier used by {@link SimpleJpaRepository} to serve
+ * {@code findById(…)}, {@code findAllById(…)} and {@code existsById(…)} outside of transactions without accessing the
+ * database.
+ * <p>
+ * The cache holds detached snapshots: entities are copied when they are put into the cache and every lookup returns a
+ * fresh copy that is not associated with any persistence context. Snapshots copy the field state of the entity and its
+ * embeddables, which is why caching is limited to entities without associations.
+ * <p>
+ * Population and eviction are transaction-aware: entities put into the cache within a transaction are snapshotted
+ * after the transaction has committed so that changes applied to the managed instance are reflected. Evicting an entry
+ * within a transaction removes the entry immediately, suspends population of the cache for the remainder of the
+ * transaction, and removes the entry once more after the transaction has completed so that concurrent readers cannot
+ * re-populate the cache with state that is about to change.
+ *
+ * @param <T> the entity type.
+ * @since 3.5
+ * @see EntityCache
+ */
+public class RepositoryEntityCache<T> {
+
+	private final Class<T> domainType;
+	private final long timeToLiveNanos;
+	private final BoundedCache<Object, T> cache;
+
+	/**
+	 * Creates a new {@link RepositoryEntityCache} for the given domain type configured through {@link EntityCache}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public RepositoryEntityCache(Class<T> domainType, EntityCache configuration) {
+		this(domainType, configuration.maxSize(), configuration.timeToLive(), configuration.timeUnit());
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityCache} for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param maxSize maximum number of entries, must be greater than zero.
+	 * @param timeToLive time to live of an entry, zero or negative to disable expiry.
+	 * @param timeUnit must not be {@literal null}.
+	 */
+	public RepositoryEntityCache(Class<T> domainType, int maxSize, long timeToLive, TimeUnit timeUnit) {
+		this(domainType, maxSize, timeToLive, timeUnit, System::nanoTime);
+	}
+
+	RepositoryEntityCache(Class<T> domainType, int maxSize, long timeToLive, TimeUnit timeUnit, LongSupplier clock) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		this.domainType = domainType;
+		this.timeToLiveNanos = timeToLive > 0 ? timeUnit.toNanos(timeToLive) : 0;
+		this.cache = new BoundedCache<>(maxSize, timeToLive, timeUnit, clock);
+	}
+
+	/**
+	 * @return the domain type managed by this cache.
+	 */
+	public Class<T> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Returns the entity cached for the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return a detached copy of the cached entity or {@literal null} if the cache does not contain a (non-expired) entry
+	 *         for {@code id}.
+	 */
+	@Nullable
+	public T get(Object id) {
+
+		T snapshot = cache.get(id);
+
+		return snapshot == null ? null : EntitySnapshots.copy(snapshot);
+	}
+
+	/**
+	 * Returns whether the cache contains a (non-expired) entry for the given identifier without copying it. The lookup
+	 * does not count towards the {@link #getStatistics() statistics} and does not affect the eviction order.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return {@literal true} if the cache contains an entry for {@code id}.
+	 */
+	public boolean contains(Object id) {
+		return cache.contains(id);
+	}
+
+	/**
+	 * Returns whether this cache was created with the maximum size and time to live of the given configuration.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @return {@literal true} if the configuration matches this cache.
+	 */
+	boolean isConfiguredBy(EntityCache configuration) {
+
+		long timeToLive = configuration.timeToLive() > 0 ? configuration.timeUnit().toNanos(configuration.timeToLive())
+				: 0;
+
+		return cache.getMaxSize() == configuration.maxSize() && timeToLiveNanos == timeToLive;
+	}
+
+	/**
+	 * Caches a snapshot of the given entity for its identifier. Within a transaction, the snapshot is taken after the
+	 * transaction has committed unless the transaction has evicted entries from this cache. Proxies are not cached.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	public void put(Object id, T entity) {
+
+		if (ProxyUtils.getUserClass(entity) != entity.getClass()) {
+			return;
+		}
+
+		TransactionState state = getTransactionState();
+
+		if (state != null) {
+
+			if (!state.evicted) {
+				state.populations.put(id, entity);
+			}
+
+			return;
+		}
+
+		cache.put(id, EntitySnapshots.copy(entity));
+	}
+
+	/**
+	 * Evicts the entry for the given identifier, if any, now and after completion of the current transaction.
+	 *
+	 * @param id can be {@literal null}, in which case the call is a no-op.
+	 */
+	public void evict(@Nullable Object id) {
+
+		if (id == null) {
+			return;
+		}
+
+		cache.remove(id);
+
+		TransactionState state = getTransactionState();
+
+		if (state != null) {
+			state.evict(id);
+		}
+	}
+
+	/**
+	 * Evicts all entries now and after completion of the current transaction.
+	 */
+	public void evictAll() {
+
+		cache.clear();
+
+		TransactionState state = getTransactionState();
+
+		if (state != null) {
+			state.evictAll();
+		}
+	}
+
+	/**
+	 * @return the number of entries currently held by this cache, including expired entries that were not yet evicted.
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return a snapshot of the {@link CacheStatistics} of this cache.
+	 */
+	public CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	/**
+	 * Returns the {@link TransactionState} bound to the current transaction, registering it on first access.
+	 *
+	 * @return the transaction state or {@literal null} if transaction synchronization is not active.
+	 */
+	@Nullable
+	private TransactionState getTransactionState() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		TransactionState state = (TransactionState) TransactionSynchronizationManager.getResource(this);
+
+		if (state == null) {
+
+			state = new TransactionState();
+			TransactionSynchronizationManager.bindResource(this, state);
+			TransactionSynchronizationManager.registerSynchronization(state);
+		}
+
+		return state;
+	}
+
+	@Override
+	public String toString() {
+		return "RepositoryEntityCache for " + domainType.getName() + ": " + getStatistics();
+	}
+
+	/**
+	 * Populations and evictions recorded within a transaction to be applied after its completion.
+	 */
+	private class TransactionState implements TransactionSynchronization {
+
+		private final Map<Object, T> populations = new LinkedHashMap<>();
+		private final Set<Object> ids = new HashSet<>();
+		private boolean evicted;
+		private boolean all;
+
+		void evict(Object id) {
+
+			ids.add(id);
+			evicted = true;
+			populations.clear();
+		}
+
+		void evictAll() {
+
+			all = true;
+			evicted = true;
+			populations.clear();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(RepositoryEntityCache.this);
+
+			if (all) {
+				cache.clear();
+			} else {
+				ids.forEach(cache::remove);
+			}
+
+			if (status == STATUS_COMMITTED) {
+				populations.forEach((id, entity) -> cache.put(id, EntitySnapshots.copy(entity)));
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.jpa.repository.EntityCache;
+import org.springframework.data.jpa.util.EntitySnapshots;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Registry of {@link RepositoryEntityCache} instances per persistence unit (identified through its {@link Metamodel})
+ * and domain type. Repositories managing the same domain type share a single cache so that modifications through any
+ * of them invalidate cached entities consistently, which requires them to declare the same {@link EntityCache}
+ * configuration.
+ *
+ * @since 3.5
+ * @see EntityCache
+ */
+public abstract class RepositoryEntityCaches {
+
+	private static final Map<Metamodel, Map<Class<?>, RepositoryEntityCache<?>>> CACHES = new ConcurrentReferenceHashMap<>(
+			4, ReferenceType.WEAK);
+
+	private RepositoryEntityCaches() {}
+
+	/**
+	 * Returns the {@link RepositoryEntityCache} for the given domain type, creating it from the given configuration if
+	 * necessary.
+	 *
+	 * @throws IllegalStateException if the domain type declares associations or collections that cannot be retained in
+	 *           a detached snapshot or if a cache for the domain type was already created from a different
+	 *           configuration.
+	 * @param metamodel must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @return the cache for {@code domainType}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> RepositoryEntityCache<T> getOrCreate(Metamodel metamodel, Class<T> domainType,
+			EntityCache configuration) {
+
+		Assert.notNull(metamodel, "Metamodel must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(configuration, "EntityCache must not be null");
+
+		RepositoryEntityCache<?> cache = CACHES.computeIfAbsent(metamodel, it -> new ConcurrentHashMap<>())
+				.computeIfAbsent(domainType, it -> {
+
+					assertSnapshotCapable(metamodel.managedType(domainType));
+
+					return new RepositoryEntityCache<>(domainType, configuration);
+				});
+
+		if (!cache.isConfiguredBy(configuration)) {
+			throw new IllegalStateException(
+					"@EntityCache configuration %s for %s conflicts with the configuration of another repository managing the same type"
+							.formatted(configuration, domainType.getName()));
+		}
+
+		return (RepositoryEntityCache<T>) cache;
+	}
+
+	/**
+	 * Evicts the entry for the given identifier from caches holding entities of the given type, its subtypes or
+	 * supertypes.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param id can be {@literal null}.
+	 */
+	public static void evict(Metamodel metamodel, Class<?> domainType, @Nullable Object id) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		Map<Class<?>, RepositoryEntityCache<?>> caches = CACHES.get(metamodel);
+
+		if (caches == null || id == null) {
+			return;
+		}
+
+		for (RepositoryEntityCache<?> cache : caches.values()) {
+
+			Class<?> cachedType = cache.getDomainType();
+
+			if (cachedType.isAssignableFrom(domainType) || domainType.isAssignableFrom(cachedType)) {
+				cache.evict(id);
+			}
+		}
+	}
+
+	/**
+	 * Evicts all entries of caches holding entities of the given type, its subtypes or supertypes.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 */
+	public static void evictAll(Metamodel metamodel, Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		Map<Class<?>, RepositoryEntityCache<?>> caches = CACHES.get(metamodel);
+
+		if (caches == null) {
+			return;
+		}
+
+		for (RepositoryEntityCache<?> cache : caches.values()) {
+
+			Class<?> cachedType = cache.getDomainType();
+
+			if (cachedType.isAssignableFrom(domainType) || domainType.isAssignableFrom(cachedType)) {
+				cache.evictAll();
+			}
+		}
+	}
+
+	private static void assertSnapshotCapable(ManagedType<?> type) {
+
+		Attribute<?, ?> attribute = EntitySnapshots.getNonSnapshotAttribute(type);
+
+		if (attribute != null) {
+			throw new IllegalStateException(
+					"@EntityCache requires entities without associations or collections but %s declares '%s'"
+							.formatted(type.getJavaType().getName(), attribute.getName()));
+		}
+	}
+
+	/**
+	 * Returns all registered caches, e.g. to publish their {@link RepositoryEntityCache#getStatistics() statistics}.
+	 *
+	 * @return all registered caches.
+	 */
+	public static Collection<RepositoryEntityCache<?>> getCaches() {
+
+		List<RepositoryEntityCache<?>> result = new ArrayList<>();
+
+		for (Map<Class<?>, RepositoryEntityCache<?>> caches : CACHES.values()) {
+			result.addAll(caches.values());
+		}
+
+		return result;
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.jpa.repository.support;
 import static org.springframework.data.jpa.repository.query.QueryUtils.*;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.Parameter;
@@ -56,10 +57,12 @@ import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.SaveMode;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.jpa.repository.query.KeysetScrollDelegate;
 import org.springframework.data.jpa.repository.query.KeysetScrollSpecification;
 import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.query.SlowQueryLog;
 import org.springframework.data.jpa.repository.support.FetchableFluentQueryBySpecification.SpecificationScrollDelegate;
 import org.springframework.data.jpa.repository.support.FluentQuerySupport.ScrollQueryFactory;
 import org.springframework.data.jpa.repository.support.QueryHints.NoHints;
@@ -76,6 +79,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -119,6 +123,9 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	private final PersistenceProvider provider;
 
 	private @Nullable CrudMethodMetadata metadata;
+	private @Nullable RepositoryEntityCache<T> entityCache;
+	private SaveMode saveMode = SaveMode.MERGE;
+	private @Nullable SlowQueryLog slowQueryLog;
 	private ProjectionFactory projectionFactory;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 
@@ -170,6 +177,53 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		this.projectionFactory = projectionFactory;
 	}
 
+	/**
+	 * Configures a {@link RepositoryEntityCache} to serve {@link #findById(Object)}, {@link #findAllById(Iterable)} and
+	 * {@link #existsById(Object)} from when invoked outside of a transaction.
+	 *
+	 * @param entityCache must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void setEntityCache(RepositoryEntityCache<?> entityCache) {
+
+		Assert.notNull(entityCache, "RepositoryEntityCache must not be null");
+		Assert.isTrue(entityCache.getDomainType().isAssignableFrom(getDomainClass()),
+				() -> "RepositoryEntityCache for %s cannot hold entities of type %s"
+						.formatted(entityCache.getDomainType().getName(), getDomainClass().getName()));
+
+		this.entityCache = (RepositoryEntityCache<T>) entityCache;
+	}
+
+	/**
+	 * Configures the {@link SaveMode} to be used by {@link #save(Object)} for entities that are not new.
+	 *
+	 * @param saveMode must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Override
+	public void setSaveMode(SaveMode saveMode) {
+
+		Assert.notNull(saveMode, "SaveMode must not be null");
+
+		this.saveMode = saveMode;
+	}
+
+	/**
+	 * Configures the {@link SlowQueryLog} to capture queries created by this repository for logging.
+	 *
+	 * @param slowQueryLog must not be {@literal null}.
+	 * @since 3.5
+	 */
+	@Override
+	public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+
+		Assert.notNull(slowQueryLog, "SlowQueryLog must not be null");
+
+		this.slowQueryLog = slowQueryLog;
+	}
+
 	@Nullable
 	protected CrudMethodMetadata getRepositoryMethodMetadata() {
 		return metadata;
@@ -209,6 +263,8 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return;
 		}
 
+		evictFromCache(entityInformation.getId(entity));
+
 		if (entityManager.contains(entity)) {
 			entityManager.remove(entity);
 			return;
@@ -244,6 +300,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return;
 		}
 
+		if (entityCache != null) {
+			ids.forEach(entityCache::evict);
+		}
+
 		if (entityInformation.hasCompositeId()) {
 
 			List<T> entities = new ArrayList<>();
@@ -290,6 +350,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return;
 		}
 
+		if (entityCache != null) {
+			entities.forEach(it -> entityCache.evict(entityInformation.getId(it)));
+		}
+
 		applyAndBind(getQueryString(DELETE_ALL_QUERY_STRING, entityInformation.getEntityName()), entities, entityManager)
 				.executeUpdate();
 	}
@@ -307,6 +371,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	@Transactional
 	public void deleteAllInBatch() {
 
+		if (entityCache != null) {
+			entityCache.evictAll();
+		}
+
 		Query query = entityManager.createQuery(getDeleteAllQueryString());
 
 		applyQueryHints(query);
@@ -322,16 +390,40 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		Class<T> domainType = getDomainClass();
 
 		if (metadata == null) {
-			return Optional.ofNullable(entityManager.find(domainType, id));
+			return Optional.ofNullable(isEntityCacheApplicable() ? findCached(id) : entityManager.find(domainType, id));
 		}
 
 		LockModeType type = metadata.getLockModeType();
 		Map<String, Object> hints = getHints();
 
+		if (type == null && hints.isEmpty() && isEntityCacheApplicable()) {
+			return Optional.ofNullable(findCached(id));
+		}
+
 		return Optional.ofNullable(
 				type == null ? entityManager.find(domainType, id, hints) : entityManager.find(domainType, id, type, hints));
 	}
 
+	@Nullable
+	private T findCached(ID id) {
+
+		Assert.state(entityCache != null, "RepositoryEntityCache must not be null");
+
+		T entity = entityCache.get(id);
+
+		if (entity != null) {
+			return entity;
+		}
+
+		entity = entityManager.find(getDomainClass(), id);
+
+		if (entity != null) {
+			entityCache.put(id, entity);
+		}
+
+		return entity;
+	}
+
 	@Deprecated
 	@Override
 	public T getOne(ID id) {
@@ -360,6 +452,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
 
+		if (isEntityCacheApplicable() && entityCache.contains(id)) {
+			return true;
+		}
+
 		if (entityInformation.getIdAttribute() == null) {
 			return findById(id).isPresent();
 		}
@@ -422,6 +518,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return results;
 		}
 
+		if (isEntityCacheApplicable() && getHints().isEmpty()) {
+			return findAllByIdCached(ids);
+		}
+
 		Collection<ID> idCollection = toCollection(ids);
 
 		ByIdsSpecification<T> specification = new ByIdsSpecification<>(entityInformation);
@@ -430,6 +530,45 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return query.setParameter(specification.parameter, idCollection).getResultList();
 	}
 
+	private List<T> findAllByIdCached(Iterable<ID> ids) {
+
+		Assert.state(entityCache != null, "RepositoryEntityCache must not be null");
+
+		List<T> results = new ArrayList<>();
+		List<ID> misses = new ArrayList<>();
+
+		for (ID id : ids) {
+
+			T cached = entityCache.get(id);
+
+			if (cached != null) {
+				results.add(cached);
+			} else {
+				misses.add(id);
+			}
+		}
+
+		if (misses.isEmpty()) {
+			return results;
+		}
+
+		ByIdsSpecification<T> specification = new ByIdsSpecification<>(entityInformation);
+		TypedQuery<T> query = getQuery(specification, Sort.unsorted());
+
+		for (T entity : query.setParameter(specification.parameter, misses).getResultList()) {
+
+			Object id = entityInformation.getId(entity);
+
+			if (id != null) {
+				entityCache.put(id, entity);
+			}
+
+			results.add(entity);
+		}
+
+		return results;
+	}
+
 	@Override
 	public List<T> findAll(Sort sort) {
 		return getQuery(null, sort).getResultList();
@@ -502,6 +641,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			}
 		}
 
+		if (entityCache != null) {
+			entityCache.evictAll();
+		}
+
 		return this.entityManager.createQuery(delete).executeUpdate();
 	}
 
@@ -644,15 +787,45 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	@Override
 	@Transactional
 	public <S extends T> S save(S entity) {
+		return save(entity, saveMode);
+	}
+
+	@Override
+	@Transactional
+	public <S extends T> S save(S entity, SaveMode mode) {
 
 		Assert.notNull(entity, ENTITY_MUST_NOT_BE_NULL);
+		Assert.notNull(mode, "SaveMode must not be null");
 
-		if (entityInformation.isNew(entity)) {
+		boolean isNew = entityInformation.isNew(entity);
+
+		if (mode == SaveMode.MERGE || (isNew && mode == SaveMode.UPDATE)) {
+			return persistOrMerge(entity, isNew);
+		}
+
+		Object id = entityInformation.getId(entity);
+
+		if (id != null) {
+
+			evictFromCache(id);
+
+			if (provider.writeDetached(entityManager, getDomainClass(), id, entity, mode == SaveMode.UPSERT)) {
+				return entity;
+			}
+		}
+
+		return persistOrMerge(entity, isNew);
+	}
+
+	private <S extends T> S persistOrMerge(S entity, boolean isNew) {
+
+		if (isNew) {
 			entityManager.persist(entity);
 			return entity;
-		} else {
-			return entityManager.merge(entity);
 		}
+
+		evictFromCache(entityInformation.getId(entity));
+		return entityManager.merge(entity);
 	}
 
 	@Override
@@ -923,6 +1096,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 	private <S> TypedQuery<S> applyRepositoryMethodMetadata(TypedQuery<S> query) {
 
+		if (slowQueryLog != null) {
+			SlowQueryLog.capture(query);
+		}
+
 		if (metadata == null) {
 			return query;
 		}
@@ -986,6 +1163,31 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		}
 	}
 
+	/**
+	 * Returns whether lookups by identifier can be served from the {@link RepositoryEntityCache}. The cache is bypassed
+	 * while a transaction or an {@link EntityManager} is bound to the current thread as the persistence context may
+	 * already manage the entity or hold unflushed changes that a detached snapshot does not reflect.
+	 *
+	 * @return {@literal true} if the entity cache is configured and can be used.
+	 */
+	private boolean isEntityCacheApplicable() {
+
+		if (entityCache == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return false;
+		}
+
+		EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+
+		return entityManagerFactory == null || !TransactionSynchronizationManager.hasResource(entityManagerFactory);
+	}
+
+	private void evictFromCache(@Nullable Object id) {
+
+		if (entityCache != null) {
+			entityCache.evict(id);
+		}
+	}
+
 	private ProjectionFactory getProjectionFactory() {
 
 		if (projectionFactory == null) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.query.SlowQueryLog;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} measuring invocations of methods implemented by the repository base class, such
+ * as {@link SimpleJpaRepository}, for the {@link SlowQueryLog}. Query methods are measured by their query execution.
+ *
+ * @since 3.5
+ * @see SlowQueryLog
+ */
+class SlowQueryLogPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final SlowQueryLog slowQueryLog;
+	private final QueryExtractor extractor;
+
+	SlowQueryLogPostProcessor(SlowQueryLog slowQueryLog, QueryExtractor extractor) {
+
+		Assert.notNull(slowQueryLog, "SlowQueryLog must not be null");
+		Assert.notNull(extractor, "QueryExtractor must not be null");
+
+		this.slowQueryLog = slowQueryLog;
+		this.extractor = extractor;
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Set<Method> baseClassMethods = new HashSet<>();
+
+		ReflectionUtils.doWithMethods(repositoryInformation.getRepositoryInterface(), baseClassMethods::add,
+				method -> !repositoryInformation.isQueryMethod(method) && repositoryInformation.isBaseClassMethod(method));
+
+		if (!baseClassMethods.isEmpty()) {
+			factory.addAdvice(new SlowQueryLogMethodInterceptor(repositoryInformation, baseClassMethods));
+		}
+	}
+
+	/**
+	 * {@link MethodInterceptor} measuring invocations of repository base class methods.
+	 */
+	private class SlowQueryLogMethodInterceptor implements MethodInterceptor {
+
+		private final String repositoryName;
+		private final String execution;
+		private final Set<Method> baseClassMethods;
+
+		SlowQueryLogMethodInterceptor(RepositoryInformation repositoryInformation, Set<Method> baseClassMethods) {
+
+			this.repositoryName = repositoryInformation.getRepositoryInterface().getSimpleName();
+			this.execution = repositoryInformation.getRepositoryBaseClass().getSimpleName();
+			this.baseClassMethods = baseClassMethods;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (!baseClassMethods.contains(method)) {
+				return invocation.proceed();
+			}
+
+			SlowQueryLog.Measurement measurement = slowQueryLog.start(repositoryName + "." + method.getName(), extractor);
+
+			if (measurement == null) {
+				return invocation.proceed();
+			}
+
+			Object result = null;
+
+			try {
+				result = invocation.proceed();
+				return result;
+			} finally {
+				measurement.stop(execution, result, false);
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * Entry point for persistence provider hooks to report SQL statements issued on the calling thread to the
+ * {@link NPlusOneQueryDetector} currently observing a repository invocation or transaction. Recording is a no-op
+ * unless a detector is active on the calling thread.
+ *
+ * @since 3.5
+ * @see HibernateStatementRecorder
+ * @see EclipseLinkStatementRecorder
+ */
+public final class StatementRecorder {
+
+	private static final ThreadLocal<Recording> currentRecording = new NamedThreadLocal<>("Current statement recording");
+
+	private StatementRecorder() {}
+
+	/**
+	 * Records the given SQL statement with the recording bound to the calling thread, if any.
+	 *
+	 * @param sql the SQL statement about to be executed, can be {@literal null}.
+	 */
+	public static void record(@Nullable String sql) {
+
+		Recording recording = currentRecording.get();
+
+		if (recording != null && sql != null) {
+			recording.add(sql);
+		}
+	}
+
+	/**
+	 * @return the {@link Recording} bound to the calling thread, {@literal null} if none.
+	 */
+	@Nullable
+	static Recording current() {
+		return currentRecording.get();
+	}
+
+	/**
+	 * Binds the given {@link Recording} to the calling thread or unbinds the current one if {@literal null}.
+	 */
+	static void bind(@Nullable Recording recording) {
+
+		if (recording == null) {
+			currentRecording.remove();
+		} else {
+			currentRecording.set(recording);
+		}
+	}
+
+	/**
+	 * Normalizes the given SQL statement by replacing string and numeric literals with {@code ?} so that statements
+	 * differing only in inlined values, such as identifiers, are considered equal.
+	 *
+	 * @param sql must not be {@literal null}.
+	 * @return the normalized statement.
+	 */
+	static String normalize(String sql) {
+
+		int length = sql.length();
+		StringBuilder result = new StringBuilder(length);
+
+		for (int i = 0; i < length; i++) {
+
+			char c = sql.charAt(i);
+
+			if (c == '\'') {
+
+				i = skipStringLiteral(sql, i);
+				result.append('?');
+			} else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+
+				while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+					i++;
+				}
+
+				result.append('?');
+			} else {
+				result.append(c);
+			}
+		}
+
+		return result.toString();
+	}
+
+	private static int skipStringLiteral(String sql, int start) {
+
+		int length = sql.length();
+
+		for (int i = start + 1; i < length; i++) {
+
+			if (sql.charAt(i) != '\'') {
+				continue;
+			}
+
+			if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+				i++;
+				continue;
+			}
+
+			return i;
+		}
+
+		return length - 1;
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+	}
+
+	/**
+	 * Statements recorded during a repository invocation or transaction, counted per repository method and normalized
+	 * statement.
+	 */
+	static final class Recording {
+
+		private final Map<RecordedStatement, Integer> statements = new LinkedHashMap<>();
+
+		private @Nullable String method;
+		private int depth;
+		private int total;
+
+		/**
+		 * Attributes subsequently recorded statements to the given repository method.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @return the method statements were previously attributed to, can be {@literal null}.
+		 */
+		@Nullable
+		String enter(String method) {
+
+			String previous = this.method;
+			this.method = method;
+			depth++;
+
+			return previous;
+		}
+
+		/**
+		 * Restores the repository method returned by {@link #enter(String)} when leaving a nested invocation. Statements
+		 * issued after the outermost invocation returned, e.g. by initializing lazy associations, remain attributed to the
+		 * most recently invoked outermost method.
+		 *
+		 * @param previous can be {@literal null}.
+		 */
+		void exit(@Nullable String previous) {
+
+			if (--depth > 0) {
+				this.method = previous;
+			}
+		}
+
+		void add(String sql) {
+
+			total++;
+			statements.merge(new RecordedStatement(method, normalize(sql)), 1, Integer::sum);
+		}
+
+		int getTotal() {
+			return total;
+		}
+
+		/**
+		 * Returns the statements recorded more often than the given threshold.
+		 *
+		 * @param threshold the number of executions considered acceptable.
+		 * @return the repeated statements.
+		 */
+		List<RepeatedStatement> getRepeatedStatements(int threshold) {
+
+			List<RepeatedStatement> repeated = null;
+
+			for (Map.Entry<RecordedStatement, Integer> entry : statements.entrySet()) {
+
+				if (entry.getValue() > threshold) {
+
+					if (repeated == null) {
+						repeated = new ArrayList<>();
+					}
+
+					RecordedStatement statement = entry.getKey();
+					repeated.add(new RepeatedStatement(statement.method(), statement.sql(), entry.getValue()));
+				}
+			}
+
+			return repeated == null ? Collections.emptyList() : repeated;
+		}
+
+		@Nullable
+		String getMethod() {
+			return method;
+		}
+	}
+
+	/**
+	 * A normalized statement along with the repository method it was issued by.
+	 */
+	private record RecordedStatement(@Nullable String method, String sql) {
+	}
+
+	/**
+	 * A normalized statement executed multiple times.
+	 *
+	 * @param method the repository method the statement is attributed to, can be {@literal null}.
+	 * @param sql the normalized statement.
+	 * @param count number of executions.
+	 */
+	record RepeatedStatement(@Nullable String method, String sql, int count) {
+	}
+}
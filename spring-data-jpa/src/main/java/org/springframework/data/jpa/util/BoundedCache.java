@@ -0,0 +1,275 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Least-recently-used cache with a fixed capacity and an optional time to live for its entries that keeps track of
+ * {@link CacheStatistics}.
+ * <p>
+ * Lookups do not block: entries are held in a {@link ConcurrentHashMap} and a lookup only stamps the entry with the
+ * current access generation, which advances with every {@link #put(Object, Object) put}. Entries accessed since the
+ * latest put are considered equally recent. Once the capacity is exceeded, a single thread scans the entries to remove
+ * the least recently used ones while other threads continue to read and write, which makes puts linear in the number of
+ * entries at capacity. Unlike {@link org.springframework.util.ConcurrentLruCache}, values are put explicitly and can
+ * expire.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ * @since 3.5
+ */
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final long timeToLiveNanos;
+	private final LongSupplier clock;
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link BoundedCache}.
+	 *
+	 * @param maxSize maximum number of entries, must be greater than zero.
+	 * @param timeToLive time to live of an entry, zero or negative to disable expiry.
+	 * @param timeUnit must not be {@literal null}.
+	 */
+	public BoundedCache(int maxSize, long timeToLive, TimeUnit timeUnit) {
+		this(maxSize, timeToLive, timeUnit, System::nanoTime);
+	}
+
+	/**
+	 * Creates a new {@link BoundedCache} using the given nanosecond {@code clock} to determine expiry.
+	 *
+	 * @param maxSize maximum number of entries, must be greater than zero.
+	 * @param timeToLive time to live of an entry, zero or negative to disable expiry.
+	 * @param timeUnit must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 */
+	public BoundedCache(int maxSize, long timeToLive, TimeUnit timeUnit, LongSupplier clock) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+		Assert.notNull(timeUnit, "TimeUnit must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maxSize = maxSize;
+		this.timeToLiveNanos = timeToLive > 0 ? timeUnit.toNanos(timeToLive) : 0;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the value cached for the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the cached value or {@literal null} if the cache does not contain a (non-expired) entry for {@code key}.
+	 */
+	@Nullable
+	public V get(K key) {
+
+		Entry<V> entry = getEntry(key);
+
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+
+		entry.touch(generation.get() + 1);
+		hits.increment();
+
+		return entry.value;
+	}
+
+	/**
+	 * Returns whether the cache contains a (non-expired) entry for the given key without affecting the
+	 * {@link #getStatistics() statistics} or the recency of the entry.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@literal true} if the cache contains an entry for {@code key}.
+	 */
+	public boolean contains(K key) {
+		return getEntry(key) != null;
+	}
+
+	/**
+	 * Caches the given value for {@code key}, evicting the least recently used entries if the cache is full.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	public void put(K key, V value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		long expiresAt = timeToLiveNanos > 0 ? clock.getAsLong() + timeToLiveNanos : 0;
+
+		entries.put(key, new Entry<>(value, expiresAt, generation.incrementAndGet()));
+		puts.increment();
+
+		while (entries.size() > maxSize && evicting.compareAndSet(false, true)) {
+
+			try {
+				evictLeastRecentlyUsed();
+			} finally {
+				evicting.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry for the given key, if any.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	public void remove(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the number of entries currently held, including expired entries that were not yet evicted.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the configured maximum number of entries.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return a snapshot of the {@link CacheStatistics}.
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(hits.sum(), misses.sum(), puts.sum(), evictions.sum(), size());
+	}
+
+	/**
+	 * Returns the non-expired entry for the given key, removing it if it has expired.
+	 */
+	@Nullable
+	private Entry<V> getEntry(K key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		Entry<V> entry = entries.get(key);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.isExpired(clock.getAsLong())) {
+
+			if (entries.remove(key, entry)) {
+				evictions.increment();
+			}
+
+			return null;
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Removes expired entries and the least recently used entries until the cache no longer exceeds its capacity.
+	 */
+	private void evictLeastRecentlyUsed() {
+
+		long now = clock.getAsLong();
+
+		while (entries.size() > maxSize) {
+
+			K eldestKey = null;
+			Entry<V> eldest = null;
+
+			for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+
+				Entry<V> entry = candidate.getValue();
+
+				if (entry.isExpired(now)) {
+
+					if (entries.remove(candidate.getKey(), entry)) {
+						evictions.increment();
+					}
+
+					continue;
+				}
+
+				if (eldest == null || entry.lastAccess < eldest.lastAccess) {
+					eldestKey = candidate.getKey();
+					eldest = entry;
+				}
+			}
+
+			if (eldest != null && entries.size() > maxSize && entries.remove(eldestKey, eldest)) {
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Cache entry holding the value, its expiry timestamp in nanoseconds ({@literal 0} if it does not expire) and the
+	 * access generation it was last used in.
+	 */
+	private static final class Entry<V> {
+
+		private final V value;
+		private final long expiresAt;
+		private volatile long lastAccess;
+
+		Entry(V value, long expiresAt, long lastAccess) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.lastAccess = lastAccess;
+		}
+
+		void touch(long generation) {
+
+			if (lastAccess < generation) {
+				lastAccess = generation;
+			}
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt != 0 && now - expiresAt >= 0;
+		}
+	}
+}
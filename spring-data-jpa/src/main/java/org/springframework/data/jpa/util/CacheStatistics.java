@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.util;
+
+/**
+ * Snapshot of the statistics of a cache.
+ *
+ * @param hits number of lookups served from the cache.
+ * @param misses number of lookups not served from the cache.
+ * @param puts number of values added to the cache.
+ * @param evictions number of entries removed due to size constraints or expiry.
+ * @param size number of entries held by the cache.
+ * @since 3.5
+ */
+public record CacheStatistics(long hits, long misses, long puts, long evictions, int size) {
+
+	/**
+	 * @return the ratio of lookups served from the cache, {@literal 0} if there were no lookups yet.
+	 */
+	public double hitRatio() {
+
+		long requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+}
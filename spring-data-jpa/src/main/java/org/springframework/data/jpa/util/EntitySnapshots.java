@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.util;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+import java.lang.reflect.Field;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Utility to create detached snapshots of entities by copying their field state. Snapshots are new instances that are
+ * not associated with any persistence context and can be shared across persistence contexts as long as the entity does
+ * not declare associations or collections.
+ *
+ * @since 3.5
+ */
+public abstract class EntitySnapshots {
+
+	private static final String HIBERNATE_ENHANCEMENT_PREFIX = "$$_hibernate_";
+
+	private EntitySnapshots() {}
+
+	/**
+	 * Returns whether instances of the given {@link ManagedType} can be captured in a detached snapshot, i.e. whether
+	 * the type declares neither associations nor collections.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return {@literal true} if the type can be snapshotted.
+	 */
+	public static boolean isSnapshotCapable(ManagedType<?> type) {
+		return getNonSnapshotAttribute(type) == null;
+	}
+
+	/**
+	 * Returns the first association or collection attribute of the given {@link ManagedType} that prevents creating
+	 * detached snapshots.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the attribute or {@literal null} if the type can be snapshotted.
+	 */
+	@Nullable
+	public static Attribute<?, ?> getNonSnapshotAttribute(ManagedType<?> type) {
+
+		for (Attribute<?, ?> attribute : type.getAttributes()) {
+
+			if (attribute.isAssociation() || attribute.isCollection()) {
+				return attribute;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates a detached copy of the given entity by copying its field state. Embeddables are copied as well, fields
+	 * added by Hibernate bytecode enhancement are not.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the copy.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(T entity) {
+
+		Class<T> type = (Class<T>) entity.getClass();
+		T copy;
+
+		try {
+			copy = BeanUtils.instantiateClass(ReflectionUtils.accessibleConstructor(type));
+		} catch (NoSuchMethodException o_O) {
+			throw new IllegalStateException("Cannot snapshot %s without a no-argument constructor".formatted(type.getName()),
+					o_O);
+		}
+
+		ReflectionUtils.doWithFields(type, field -> copyField(field, entity, copy), EntitySnapshots::isSnapshotField);
+
+		return copy;
+	}
+
+	private static void copyField(Field field, Object source, Object target) {
+
+		ReflectionUtils.makeAccessible(field);
+
+		Object value = ReflectionUtils.getField(field, source);
+
+		if (value != null && value.getClass().isAnnotationPresent(Embeddable.class)) {
+			value = copy(value);
+		}
+
+		ReflectionUtils.setField(field, target, value);
+	}
+
+	private static boolean isSnapshotField(Field field) {
+		return ReflectionUtils.COPYABLE_FIELDS.matches(field) && !field.getName().startsWith(HIBERNATE_ENHANCEMENT_PREFIX);
+	}
+}
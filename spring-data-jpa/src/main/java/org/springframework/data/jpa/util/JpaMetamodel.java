@@ -16,6 +16,8 @@
 package org.springframework.data.jpa.util;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,6 +33,7 @@ import jakarta.persistence.metamodel.Type.PersistenceType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.StreamUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -49,6 +52,9 @@ public class JpaMetamodel {
 
 	private final Lazy<Collection<Class<?>>> managedTypes;
 	private final Lazy<Collection<Class<?>>> jpaEmbeddables;
+	private final Lazy<Collection<Class<?>>> mappedTypes;
+	private final Lazy<Map<Class<?>, EntityType<?>>> entityTypes;
+	private final Lazy<Map<Class<?>, SingularAttribute<?, ?>>> singleIdAttributes;
 
 	/**
 	 * Creates a new {@link JpaMetamodel} for the given JPA {@link Metamodel}.
@@ -71,6 +77,36 @@ public class JpaMetamodel {
 				.filter(Objects::nonNull)
 				.filter(it -> AnnotatedElementUtils.isAnnotated(it, Embeddable.class))
 				.collect(StreamUtils.toUnmodifiableSet()));
+
+		this.mappedTypes = Lazy.of(() -> metamodel.getManagedTypes().stream() //
+				.filter(it -> it.getJavaType() != null) //
+				.filter(it -> !it.getPersistenceType().equals(PersistenceType.EMBEDDABLE)
+						|| jpaEmbeddables.get().contains(it.getJavaType())) //
+				.map(ManagedType::getJavaType) //
+				.collect(StreamUtils.toUnmodifiableSet()));
+
+		this.entityTypes = Lazy.of(() -> {
+
+			Map<Class<?>, EntityType<?>> entityTypes = new HashMap<>();
+
+			for (EntityType<?> entityType : metamodel.getEntities()) {
+				if (entityType.getJavaType() != null) {
+					entityTypes.putIfAbsent(entityType.getJavaType(), entityType);
+				}
+			}
+
+			return Collections.unmodifiableMap(entityTypes);
+		});
+
+		this.singleIdAttributes = Lazy.of(() -> {
+
+			Map<Class<?>, SingularAttribute<?, ?>> idAttributes = new HashMap<>();
+
+			entityTypes.get().forEach((type, entityType) -> getSingularIdAttribute(entityType)
+					.ifPresent(it -> idAttributes.put(type, it)));
+
+			return Collections.unmodifiableMap(idAttributes);
+		});
 	}
 
 	public static JpaMetamodel of(Metamodel metamodel) {
@@ -100,13 +136,26 @@ public class JpaMetamodel {
 	 */
 	public boolean isSingleIdAttribute(Class<?> entity, String name, Class<?> attributeType) {
 
-		return metamodel.getEntities().stream() //
-				.filter(it -> entity.equals(it.getJavaType())) //
-				.findFirst() //
-				.flatMap(JpaMetamodel::getSingularIdAttribute) //
-				.filter(it -> it.getJavaType().equals(attributeType)) //
-				.map(it -> it.getName().equals(name)) //
-				.orElse(false);
+		SingularAttribute<?, ?> idAttribute = singleIdAttributes.get().get(entity);
+
+		return idAttribute != null //
+				&& idAttribute.getJavaType().equals(attributeType) //
+				&& idAttribute.getName().equals(name);
+	}
+
+	/**
+	 * Returns the {@link EntityType} for the given type.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link EntityType} or {@literal null} if the given type is not an entity.
+	 * @since 3.5
+	 */
+	@Nullable
+	public EntityType<?> getEntityType(Class<?> entity) {
+
+		Assert.notNull(entity, "Type must not be null");
+
+		return entityTypes.get().get(entity);
 	}
 
 	/**
@@ -120,14 +169,7 @@ public class JpaMetamodel {
 
 		Assert.notNull(entity, "Type must not be null");
 
-		if (!isJpaManaged(entity)) {
-			return false;
-		}
-
-		ManagedType<?> managedType = metamodel.managedType(entity);
-
-		return !managedType.getPersistenceType().equals(PersistenceType.EMBEDDABLE)
-				|| jpaEmbeddables.get().contains(entity);
+		return mappedTypes.get().contains(entity);
 	}
 
 	/**
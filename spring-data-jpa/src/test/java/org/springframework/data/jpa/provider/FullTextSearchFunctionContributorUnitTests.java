@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.provider;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.repository.FullTextSearch;
+
+/**
+ * Unit tests for {@link FullTextSearchFunctionContributor}.
+ */
+class FullTextSearchFunctionContributorUnitTests {
+
+	@Test
+	void rendersDialectSpecificFullTextSearch() {
+
+		assertThat(FullTextSearchFunctionContributor.getPattern(new PostgreSQLDialect(), "english"))
+				.isEqualTo("(to_tsvector('english', ?1) @@ plainto_tsquery('english', ?2))");
+		assertThat(FullTextSearchFunctionContributor.getPattern(new MySQLDialect(), "english"))
+				.startsWith("(match (?1) against");
+		assertThat(FullTextSearchFunctionContributor.getPattern(new MariaDBDialect(), "english"))
+				.startsWith("(match (?1) against");
+	}
+
+	@Test
+	void rendersConfiguredTextSearchConfig() {
+
+		assertThat(FullTextSearchFunctionContributor.getPattern(new PostgreSQLDialect(), "pg_catalog.german"))
+				.isEqualTo("(to_tsvector('pg_catalog.german', ?1) @@ plainto_tsquery('pg_catalog.german', ?2))");
+	}
+
+	@Test
+	void rejectsInvalidTextSearchConfig() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> FullTextSearchFunctionContributor.getPattern(new PostgreSQLDialect(), "english'); --"))
+				.withMessageContaining(FullTextSearchFunctionContributor.TEXT_SEARCH_CONFIG_PROPERTY);
+	}
+
+	@Test
+	void doesNotReplaceRegisteredFunction() {
+
+		FunctionContributions contributions = mock(FunctionContributions.class);
+		SqmFunctionRegistry registry = mock(SqmFunctionRegistry.class);
+
+		when(contributions.getFunctionRegistry()).thenReturn(registry);
+		when(registry.findFunctionDescriptor(FullTextSearch.DEFAULT_FUNCTION))
+				.thenReturn(mock(SqmFunctionDescriptor.class));
+
+		new FullTextSearchFunctionContributor().contributeFunctions(contributions);
+
+		verify(registry, never()).registerPattern(anyString(), anyString(), any());
+	}
+
+	@Test
+	void fallsBackToEscapedLikeForOtherDialects() {
+
+		assertThat(FullTextSearchFunctionContributor.getPattern(new H2Dialect(), "english")).isEqualTo(
+				"(?1 like concat(concat('%', replace(replace(replace(?2, '!', '!!'), '%', '!%'), '_', '!_')), '%') escape '!')");
+	}
+}
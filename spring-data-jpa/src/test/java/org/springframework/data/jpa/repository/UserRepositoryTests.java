@@ -68,6 +68,7 @@ import org.springframework.data.jpa.domain.sample.QUser;
 import org.springframework.data.jpa.domain.sample.Role;
 import org.springframework.data.jpa.domain.sample.SpecialUser;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.SaveMode;
 import org.springframework.data.jpa.repository.sample.NameOnlyRecord;
 import org.springframework.data.jpa.repository.sample.SampleEvaluationContextExtension.SampleSecurityContextHolder;
 import org.springframework.data.jpa.repository.sample.UserRepository;
@@ -830,6 +831,55 @@ class UserRepositoryTests {
 		assertThat(repository.findByFirstnameContaining("a")).containsOnly(secondUser, thirdUser);
 	}
 
+	@Test
+	void executesFinderWithFullTextSearchParameter() {
+
+		flushTestUsers();
+
+		assertThat(repository.findByLastnameContaining("ierk")).containsOnly(firstUser);
+	}
+
+	@Test
+	void matchesWildcardsOfFullTextSearchFallbackLiterally() {
+
+		firstUser.setLastname("Gierke_100%");
+		flushTestUsers();
+
+		assertThat(repository.findByLastnameContaining("_100%")).containsOnly(firstUser);
+		assertThat(repository.findByLastnameContaining("%")).containsOnly(firstUser);
+		assertThat(repository.findByLastnameContaining("Arr_sz")).isEmpty();
+		assertThat(repository.findByLastnameContaining("!")).isEmpty();
+	}
+
+	@Test
+	void savesDetachedEntityWithUpdateMode() {
+
+		flushTestUsers();
+		em.detach(firstUser);
+
+		firstUser.setFirstname("Ollie");
+		repository.save(firstUser, SaveMode.UPDATE);
+
+		em.flush();
+		em.clear();
+
+		assertThat(repository.findById(firstUser.getId())).map(User::getFirstname).contains("Ollie");
+	}
+
+	@Test
+	void mergesWithUpdateModeIfEntityIsPartOfPersistenceContext() {
+
+		flushTestUsers();
+
+		User copy = new User("Ollie", firstUser.getLastname(), firstUser.getEmailAddress());
+		copy.setId(firstUser.getId());
+		copy.setAge(firstUser.getAge());
+
+		repository.save(copy, SaveMode.UPDATE);
+
+		assertThat(firstUser.getFirstname()).isEqualTo("Ollie");
+	}
+
 	@Test // DATAJPA-201
 	void allowsExecutingPageableMethodWithUnpagedArgument() {
 
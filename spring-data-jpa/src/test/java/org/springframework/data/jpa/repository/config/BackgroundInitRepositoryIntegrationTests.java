@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.jpa.domain.sample.Role;
+import org.springframework.data.jpa.repository.sample.BookRepository;
+import org.springframework.data.jpa.repository.sample.CategoryRepository;
+import org.springframework.data.jpa.repository.sample.ProductRepository;
+import org.springframework.data.jpa.repository.sample.RoleRepository;
+import org.springframework.data.jpa.repository.sample.SiteRepository;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Integration tests for repositories initialized in the background through {@link EnableJpaRepositories#backgroundInit()}
+ * with multiple {@link EntityManagerFactory entity manager factories}.
+ */
+class BackgroundInitRepositoryIntegrationTests {
+
+	private static final String THREAD_NAME_PREFIX = "repository-bootstrap-";
+
+	@Test
+	void initializesRepositoriesOfMultipleEntityManagerFactoriesInBackground() {
+
+		ConfigurableApplicationContext context = assertTimeoutPreemptively(Duration.ofSeconds(60),
+				() -> new AnnotationConfigApplicationContext(Config.class));
+
+		try {
+
+			assertThat(context.getBeanNamesForType(JpaRepositoryFactoryBean.class)).hasSize(5).allSatisfy(it -> {
+
+				AbstractBeanDefinition definition = (AbstractBeanDefinition) context.getBeanFactory()
+						.getBeanDefinition(BeanFactoryUtils.transformedBeanName(it));
+				assertThat(definition.isBackgroundInit()).isTrue();
+			});
+
+			InitializingThreads threads = context.getBean(InitializingThreads.class);
+
+			assertThat(threads.repositories).containsOnlyKeys(RoleRepository.class, CategoryRepository.class,
+					ProductRepository.class, BookRepository.class, SiteRepository.class);
+			assertThat(threads.repositories.values()).allMatch(it -> it.startsWith(THREAD_NAME_PREFIX));
+
+			RoleRepository roleRepository = context.getBean(RoleRepository.class);
+			roleRepository.save(new Role("admin"));
+
+			assertThat(roleRepository.countByName("admin")).isOne();
+			assertThat(context.getBean(CategoryRepository.class).count()).isZero();
+			assertThat(context.getBean(BookRepository.class).findAllByOwnerName("admin")).isEmpty();
+			assertThat(context.getBean(SiteRepository.class).count()).isZero();
+		} finally {
+			context.close();
+		}
+	}
+
+	private static LocalContainerEntityManagerFactoryBean createEntityManagerFactory() {
+
+		HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter();
+		adapter.setGenerateDdl(true);
+		adapter.setDatabase(Database.HSQL);
+
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(
+				new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL).generateUniqueName(true).build());
+		factoryBean.setPersistenceUnitName("spring-data-jpa");
+		factoryBean.setJpaVendorAdapter(adapter);
+
+		return factoryBean;
+	}
+
+	@Configuration
+	@Import({ FirstConfig.class, SecondConfig.class })
+	static class Config {
+
+		@Bean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+		SimpleAsyncTaskExecutor bootstrapExecutor() {
+			return new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+		}
+
+		@Bean
+		static InitializingThreads initializingThreads() {
+			return new InitializingThreads();
+		}
+	}
+
+	@Configuration
+	@EnableJpaRepositories(basePackageClasses = RoleRepository.class,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+					value = { RoleRepository.class, CategoryRepository.class, ProductRepository.class }),
+			entityManagerFactoryRef = "firstEntityManagerFactory", transactionManagerRef = "firstTransactionManager",
+			backgroundInit = true)
+	static class FirstConfig {
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean firstEntityManagerFactory() {
+			return createEntityManagerFactory();
+		}
+
+		@Bean
+		JpaTransactionManager firstTransactionManager(@Qualifier("firstEntityManagerFactory") EntityManagerFactory emf) {
+			return new JpaTransactionManager(emf);
+		}
+	}
+
+	@Configuration
+	@EnableJpaRepositories(basePackageClasses = RoleRepository.class,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+					value = { BookRepository.class, SiteRepository.class }),
+			entityManagerFactoryRef = "secondEntityManagerFactory", transactionManagerRef = "secondTransactionManager",
+			backgroundInit = true)
+	static class SecondConfig {
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean secondEntityManagerFactory() {
+			return createEntityManagerFactory();
+		}
+
+		@Bean
+		JpaTransactionManager secondTransactionManager(@Qualifier("secondEntityManagerFactory") EntityManagerFactory emf) {
+			return new JpaTransactionManager(emf);
+		}
+	}
+
+	/**
+	 * Records the threads repository factory beans are initialized on.
+	 */
+	static class InitializingThreads implements BeanPostProcessor {
+
+		final Map<Class<?>, String> repositories = new ConcurrentHashMap<>();
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+			if (bean instanceof JpaRepositoryFactoryBean<?, ?, ?> factoryBean) {
+				repositories.put(factoryBean.getObjectType(), Thread.currentThread().getName());
+			}
+
+			return bean;
+		}
+	}
+}
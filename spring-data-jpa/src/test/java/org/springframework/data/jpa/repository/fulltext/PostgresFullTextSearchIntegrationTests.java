@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.fulltext;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import java.util.List;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.provider.FullTextSearchFunctionContributor;
+import org.springframework.data.jpa.repository.FullTextSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Integration tests for {@link FullTextSearch} parameters of derived queries against PostgreSQL full-text search.
+ */
+@Transactional
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = PostgresFullTextSearchIntegrationTests.Config.class)
+class PostgresFullTextSearchIntegrationTests {
+
+	@Autowired ArticleRepository repository;
+
+	Article repositories;
+	Article searches;
+	Article wildcards;
+
+	@BeforeEach
+	void setUp() {
+
+		repositories = repository.save(new Article("Repositories derive queries from method names"));
+		searches = repository.save(new Article("Running full-text searches on PostgreSQL"));
+		wildcards = repository.save(new Article("Discounts of 100% on selected_items"));
+		repository.flush();
+	}
+
+	@Test
+	void matchesStemmedWords() {
+
+		assertThat(repository.findByTitleContaining("repository")).containsExactly(repositories);
+		assertThat(repository.findByTitleContaining("run search")).containsExactly(searches);
+	}
+
+	@Test
+	void requiresAllWordsToMatch() {
+		assertThat(repository.findByTitleContaining("repository search")).isEmpty();
+	}
+
+	@Test
+	void negatesFullTextSearchForNotContaining() {
+		assertThat(repository.findByTitleNotContaining("repository")).containsExactlyInAnyOrder(searches, wildcards);
+	}
+
+	@Test
+	void doesNotInterpretSearchTextAsLikePattern() {
+		assertThat(repository.findByTitleContaining("%")).isEmpty();
+	}
+
+	interface ArticleRepository extends JpaRepository<Article, Long> {
+
+		List<Article> findByTitleContaining(@FullTextSearch String text);
+
+		List<Article> findByTitleNotContaining(@FullTextSearch String text);
+	}
+
+	@Entity
+	static class Article {
+
+		@Id
+		@GeneratedValue //
+		Long id;
+		String title;
+
+		Article(String title) {
+			this.title = title;
+		}
+
+		protected Article() {}
+
+		@Override
+		public String toString() {
+			return "Article(" + id + ", " + title + ")";
+		}
+	}
+
+	@EnableJpaRepositories(considerNestedRepositories = true,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ArticleRepository.class))
+	@EnableTransactionManagement
+	static class Config {
+
+		@SuppressWarnings("resource")
+		@Bean(initMethod = "start", destroyMethod = "stop")
+		public PostgreSQLContainer<?> container() {
+
+			return new PostgreSQLContainer<>("postgres:15.3") //
+					.withUsername("postgres");
+		}
+
+		@Bean
+		DataSource dataSource(PostgreSQLContainer<?> container) {
+
+			DriverManagerDataSource dataSource = new DriverManagerDataSource();
+			dataSource.setUrl(container.getJdbcUrl());
+			dataSource.setUsername(container.getUsername());
+			dataSource.setPassword(container.getPassword());
+
+			return dataSource;
+		}
+
+		@Bean
+		AbstractEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+
+			LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+			factoryBean.setDataSource(dataSource);
+			factoryBean.setPersistenceUnitRootLocation("simple-persistence");
+			factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+			factoryBean.setPackagesToScan(this.getClass().getPackage().getName());
+
+			Properties properties = new Properties();
+			properties.setProperty("hibernate.hbm2ddl.auto", "create");
+			properties.setProperty("hibernate.dialect", PostgreSQLDialect.class.getCanonicalName());
+			properties.setProperty(FullTextSearchFunctionContributor.TEXT_SEARCH_CONFIG_PROPERTY, "english");
+			factoryBean.setJpaProperties(properties);
+
+			return factoryBean;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+			return new JpaTransactionManager(entityManagerFactory);
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jpa.repository.query;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import jakarta.persistence.EntityManager;
@@ -36,6 +37,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.provider.QueryExtractor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryRewriter;
+import org.springframework.data.jpa.repository.SortedQueryCache;
+import org.springframework.data.jpa.util.CacheStatistics;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -98,6 +101,79 @@ class AbstractStringBasedJpaQueryUnitTests {
 		stringQuery.called("applySorting").times(2);
 	}
 
+	@Test
+	void evictsSortedQueriesExceedingAnnotatedCapacity() {
+
+		InvocationCapturingStringQueryStub stringQuery = forMethod(TestRepo.class, "findWithSingleSlot", Sort.class);
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+		stringQuery.createQueryWithArguments(Sort.by("age"));
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+
+		stringQuery.called("applySorting").times(3);
+	}
+
+	@Test
+	void doesNotCacheSortedQueriesIfDisabled() {
+
+		InvocationCapturingStringQueryStub stringQuery = forMethod(TestRepo.class, "findUncached", Sort.class);
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+
+		stringQuery.called("applySorting").times(2);
+	}
+
+	@Test
+	void registersSortedQueryCacheWithStatistics() {
+
+		SortedQueryCaches caches = new SortedQueryCaches(1);
+
+		InvocationCapturingStringQueryStub stringQuery = forMethod(TestRepo.class, "find", Sort.class);
+		stringQuery.setSortedQueryCaches(caches, TestRepo.class);
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+		stringQuery.createQueryWithArguments(Sort.by("age"));
+
+		InvocationCapturingStringQueryStub uncached = forMethod(TestRepo.class, "findUncached", Sort.class);
+		uncached.setSortedQueryCaches(caches, TestRepo.class);
+
+		assertThat(caches.getCaches()).hasSize(2).satisfiesExactly(it -> {
+
+			assertThat(it.repositoryInterface()).isEqualTo(TestRepo.class);
+			assertThat(it.method()).contains("find(org.springframework.data.domain.Sort)");
+			assertThat(it.capacity()).isOne();
+			assertThat(it.statistics()).isEqualTo(new CacheStatistics(1, 2, 2, 1, 1));
+		}, it -> {
+
+			assertThat(it.method()).contains("findUncached");
+			assertThat(it.capacity()).isZero();
+		});
+	}
+
+	@Test
+	void registersSortedQueryCachesPerRepositoryInterface() {
+
+		SortedQueryCaches caches = new SortedQueryCaches();
+
+		InvocationCapturingStringQueryStub stringQuery = forMethod(TestRepo.class, "find", Sort.class);
+		stringQuery.setSortedQueryCaches(caches, TestRepo.class);
+		stringQuery.createQueryWithArguments(Sort.by("name"));
+
+		InvocationCapturingStringQueryStub inherited = forMethod(DerivedTestRepo.class, "find", Sort.class);
+		inherited.setSortedQueryCaches(caches, DerivedTestRepo.class);
+		inherited.createQueryWithArguments(Sort.by("name"));
+		inherited.createQueryWithArguments(Sort.by("name"));
+
+		assertThat(caches.getCaches()).extracting(SortedQueryCaches.MethodCache::repositoryInterface)
+				.containsExactly(DerivedTestRepo.class, TestRepo.class);
+		assertThat(caches.getCaches()).extracting(SortedQueryCaches.MethodCache::statistics)
+				.containsExactly(new CacheStatistics(1, 1, 1, 0, 1), new CacheStatistics(0, 1, 1, 0, 1));
+	}
+
+	@Test
+	void rejectsNegativeDefaultCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SortedQueryCaches(-1));
+	}
+
 	interface TestRepo extends Repository<Object, Object> {
 
 		@Query("SELECT e FROM Employee e")
@@ -105,8 +181,18 @@ class AbstractStringBasedJpaQueryUnitTests {
 
 		@Query("SELECT e FROM Employee e")
 		Object find(Sort sort);
+
+		@SortedQueryCache(capacity = 1)
+		@Query("SELECT e FROM Employee e")
+		Object findWithSingleSlot(Sort sort);
+
+		@SortedQueryCache(capacity = 0)
+		@Query("SELECT e FROM Employee e")
+		Object findUncached(Sort sort);
 	}
 
+	interface DerivedTestRepo extends TestRepo {}
+
 	static InvocationCapturingStringQueryStub forMethod(Class<?> repository, String method, Class<?>... args) {
 
 		Method respositoryMethod = ReflectionUtils.findMethod(repository, method, args);
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.BatchFetch;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link AssociationBatchFetcher}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AssociationBatchFetcherUnitTests {
+
+	@Mock EntityManager em;
+	@Mock EntityManagerFactory emf;
+	@Mock PersistenceUnitUtil util;
+	@Mock Metamodel metamodel;
+	@Mock EntityType<User> entityType;
+	@Mock Type<Integer> idType;
+	@Mock SingularAttribute<User, Integer> idAttribute;
+	@Mock Attribute<User, ?> manager;
+	@Mock Attribute<User, ?> firstname;
+	@Mock Query query;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(entityType).when(metamodel).entity(User.class);
+		doReturn("User").when(entityType).getName();
+		doReturn(true).when(entityType).hasSingleIdAttribute();
+		doReturn(idType).when(entityType).getIdType();
+		doReturn(Integer.class).when(idType).getJavaType();
+		doReturn(idAttribute).when(entityType).getId(Integer.class);
+		doReturn("id").when(idAttribute).getName();
+		doReturn(manager).when(entityType).getAttribute("manager");
+		doReturn(firstname).when(entityType).getAttribute("firstname");
+		doReturn(true).when(manager).isAssociation();
+		doReturn("firstname").when(firstname).getName();
+
+		when(em.getEntityManagerFactory()).thenReturn(emf);
+		when(emf.getPersistenceUnitUtil()).thenReturn(util);
+		when(em.createQuery(anyString())).thenReturn(query);
+		when(query.setParameter(anyString(), any())).thenReturn(query);
+	}
+
+	@Test
+	void fetchesAssociationsOfManagedEntitiesInBatches() {
+
+		User first = new User(), second = new User(), third = new User(), detached = new User();
+
+		for (User user : List.of(first, second, third)) {
+			when(em.contains(user)).thenReturn(true);
+		}
+
+		when(util.getIdentifier(first)).thenReturn(1);
+		when(util.getIdentifier(second)).thenReturn(2);
+		when(util.getIdentifier(third)).thenReturn(3);
+
+		new AssociationBatchFetcher(metamodel, User.class, getConfiguration("batchFetchManager")).fetch(em,
+				List.of(first, second, detached, third));
+
+		verify(em, times(2)).createQuery("select e from User e left join fetch e.manager a0 where e.id in :ids");
+		verify(query).setParameter("ids", List.of(1, 2));
+		verify(query).setParameter("ids", List.of(3));
+	}
+
+	@Test
+	void skipsLoadedAssociations() {
+
+		User user = new User();
+		when(em.contains(user)).thenReturn(true);
+		when(util.isLoaded(user, "manager")).thenReturn(true);
+
+		new AssociationBatchFetcher(metamodel, User.class, getConfiguration("batchFetchManager")).fetch(em,
+				List.of(user));
+
+		verify(em, never()).createQuery(anyString());
+	}
+
+	@Test
+	void rejectsNonAssociationPaths() {
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new AssociationBatchFetcher(metamodel, User.class, getConfiguration("batchFetchFirstname")));
+	}
+
+	private static BatchFetch getConfiguration(String methodName) {
+		return AnnotatedElementUtils.findMergedAnnotation(
+				ReflectionUtils.findMethod(AssociationBatchFetcherUnitTests.class, methodName), BatchFetch.class);
+	}
+
+	@BatchFetch(value = "manager", batchSize = 2)
+	void batchFetchManager() {}
+
+	@BatchFetch("firstname")
+	void batchFetchFirstname() {}
+}
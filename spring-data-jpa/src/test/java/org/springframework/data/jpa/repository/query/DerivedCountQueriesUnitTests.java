@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DerivedCountQueries}.
+ */
+class DerivedCountQueriesUnitTests {
+
+	@BeforeEach
+	void setUp() {
+		DerivedCountQueries.clear();
+	}
+
+	@Test
+	void sharesCountQueryAcrossDeclaredQueries() {
+
+		DeclaredQuery first = new StringQuery("select u from User u where u.lastname = :lastname", false);
+		DeclaredQuery second = new StringQuery("select u from User u where u.lastname = :lastname", false);
+
+		DeclaredQuery countQuery = first.deriveCountQuery(null);
+
+		assertThat(countQuery.getQueryString()).isEqualTo("select count(u) from User u where u.lastname = :lastname");
+		assertThat(second.deriveCountQuery(null)).isSameAs(countQuery);
+	}
+
+	@Test
+	void considersCountProjectionAndDialect() {
+
+		DeclaredQuery query = new StringQuery("select u from User u", false);
+
+		DeclaredQuery countQuery = query.deriveCountQuery(null);
+
+		assertThat(query.deriveCountQuery("u.id")).isNotSameAs(countQuery);
+		assertThat(new StringQuery("select u from User u", true).deriveCountQuery(null)).isNotSameAs(countQuery);
+	}
+
+	@Test
+	void considersParameterBindings() {
+
+		DeclaredQuery query = new StringQuery("select u from User u where u.lastname like %:lastname", false);
+		DeclaredQuery other = new StringQuery("select u from User u where u.lastname like :lastname%", false);
+
+		assertThat(query.getQueryString()).isEqualTo(other.getQueryString());
+		assertThat(query.deriveCountQuery(null)).isNotSameAs(other.deriveCountQuery(null));
+	}
+
+	@Test
+	void recordsStatistics() {
+
+		DeclaredQuery query = new StringQuery("select u from User u", false);
+
+		query.deriveCountQuery(null);
+		query.deriveCountQuery(null);
+
+		assertThat(DerivedCountQueries.getCapacity()).isEqualTo(DerivedCountQueries.DEFAULT_CAPACITY);
+		assertThat(DerivedCountQueries.getStatistics().hits()).isPositive();
+		assertThat(DerivedCountQueries.getStatistics().size()).isPositive();
+	}
+
+	@Test
+	void parsesConfiguredCapacity() {
+
+		assertThat(DerivedCountQueries.parseCapacity(null)).isEqualTo(DerivedCountQueries.DEFAULT_CAPACITY);
+		assertThat(DerivedCountQueries.parseCapacity(" 32 ")).isEqualTo(32);
+		assertThat(DerivedCountQueries.createCache("0")).isNull();
+	}
+
+	@Test
+	void rejectsInvalidCapacity() {
+
+		assertThatIllegalStateException().isThrownBy(() -> DerivedCountQueries.parseCapacity("many"))
+				.withMessageContaining(DerivedCountQueries.CAPACITY_PROPERTY).withCauseInstanceOf(NumberFormatException.class);
+		assertThatIllegalStateException().isThrownBy(() -> DerivedCountQueries.parseCapacity("-1"))
+				.withMessageContaining(DerivedCountQueries.CAPACITY_PROPERTY);
+	}
+}
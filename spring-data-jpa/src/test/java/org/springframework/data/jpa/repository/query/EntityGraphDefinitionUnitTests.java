@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EntityGraphDefinition}.
+ *
+ * @author Thomas Darimont
+ * @author Oliver Gierke
+ */
+class EntityGraphDefinitionUnitTests {
+
+	@Test // DATAJPA-696
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void shouldBuildCorrectSubgraphForAttributePaths() {
+
+		EntityManager em = mock(EntityManager.class);
+		EntityGraph entityGraph = mock(EntityGraph.class);
+		Subgraph<?> subgraph = mock(Subgraph.class);
+		when(em.createEntityGraph(Object.class)).thenReturn(entityGraph);
+		doReturn(subgraph).when(entityGraph).addSubgraph(anyString());
+
+		EntityGraphDefinition.fromAttributePaths(List.of("foo", "gugu.gaga")).materialize(em, Object.class);
+
+		verify(entityGraph, times(1)).addAttributeNodes("foo");
+		verify(entityGraph, times(1)).addSubgraph("gugu");
+		verify(subgraph, times(1)).addAttributeNodes("gaga");
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void mergesIntermediateAttributesIntoSubgraphs() {
+
+		EntityManager em = mock(EntityManager.class);
+		EntityGraph entityGraph = mock(EntityGraph.class);
+		Subgraph<?> subgraph = mock(Subgraph.class);
+		when(em.createEntityGraph(Object.class)).thenReturn(entityGraph);
+		doReturn(subgraph).when(entityGraph).addSubgraph(anyString());
+
+		EntityGraphDefinition.fromAttributePaths(List.of("gugu.gaga", "gugu", "gugu.foo")).materialize(em, Object.class);
+
+		verify(entityGraph, never()).addAttributeNodes(anyString());
+		verify(entityGraph, times(1)).addSubgraph("gugu");
+		verify(subgraph, times(1)).addAttributeNodes("gaga");
+		verify(subgraph, times(1)).addAttributeNodes("foo");
+	}
+}
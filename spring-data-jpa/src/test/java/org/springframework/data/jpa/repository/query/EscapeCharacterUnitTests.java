@@ -40,4 +40,29 @@ class EscapeCharacterUnitTests {
 	void escapeCharacterGetsEscaped() {
 		assertThat(EscapeCharacter.of('x').escape("axlpx_ha")).isEqualTo("axxlpxxx_ha");
 	}
+
+	@Test
+	void returnsValueAsIsIfNothingToEscapeOrWrap() {
+
+		String value = "alpha";
+
+		assertThat(EscapeCharacter.DEFAULT.escape(value)).isSameAs(value);
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap(value, false, false)).isSameAs(value);
+	}
+
+	@Test
+	void wrapsValueInWildcards() {
+
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap("alpha", true, true)).isEqualTo("%alpha%");
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap("alpha", false, true)).isEqualTo("alpha%");
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap("alpha", true, false)).isEqualTo("%alpha");
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap("", true, true)).isEqualTo("%%");
+	}
+
+	@Test
+	void escapesAndWrapsValueInWildcards() {
+
+		assertThat(EscapeCharacter.of('x').escapeAndWrap("a%x_", true, true)).isEqualTo("%ax%xxx_%");
+		assertThat(EscapeCharacter.DEFAULT.escapeAndWrap("10%_\\", false, true)).isEqualTo("10\\%\\_\\\\%");
+	}
 }
@@ -15,11 +15,17 @@
  */
 package org.springframework.data.jpa.repository.query;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assumptions.*;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+
 /**
  * TCK Tests for {@link JpaQueryEnhancer.HqlQueryParser} mixed into {@link JpaQueryEnhancer}.
  *
@@ -49,4 +55,41 @@ public class HqlParserQueryEnhancerUnitTests extends QueryEnhancerTckTests {
 		super.shouldDeriveJpqlCountQuery(query, expected);
 	}
 
+	@Test
+	void rendersVaryingSortsFromTemplate() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.of("select u from User u join u.roles r where u.active = true", false));
+
+		assertThat(enhancer.applySorting(Sort.by("lastname")))
+				.isEqualTo("select u from User u join u.roles r where u.active = true order by u.lastname asc");
+		assertThat(enhancer.applySorting(Sort.by(Sort.Order.desc("r.name").ignoreCase(), Sort.Order.asc("firstname"))))
+				.isEqualTo(
+						"select u from User u join u.roles r where u.active = true order by lower(r.name) desc, u.firstname asc");
+		assertThat(enhancer.applySorting(JpaSort.unsafe("LENGTH(u.lastname)")))
+				.isEqualTo("select u from User u join u.roles r where u.active = true order by LENGTH(u.lastname) asc");
+		assertThat(enhancer.applySorting(Sort.unsorted()))
+				.isEqualTo("select u from User u join u.roles r where u.active = true");
+	}
+
+	@Test
+	void appendsTemplateSortToExistingOrder() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(DeclaredQuery.of("select u from User u order by u.id", false));
+
+		assertThat(enhancer.applySorting(Sort.by("lastname"))).isEqualTo("select u from User u order by u.id, u.lastname asc");
+		assertThat(enhancer.applySorting(Sort.by("firstname"))).isEqualTo("select u from User u order by u.id, u.firstname asc");
+	}
+
+	@Test
+	void rejectsUnsafeSortWhenRenderingFromTemplate() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(DeclaredQuery.of("select u from User u", false));
+
+		enhancer.applySorting(Sort.by("lastname"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> enhancer.applySorting(Sort.by("LENGTH(u.lastname)")));
+	}
+
 }
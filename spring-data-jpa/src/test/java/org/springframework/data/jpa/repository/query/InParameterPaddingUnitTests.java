@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InParameterPadding}.
+ */
+class InParameterPaddingUnitTests {
+
+	@Test
+	void padsToNextPowerOfTwo() {
+
+		InParameterPadding padding = InParameterPadding.powerOfTwo();
+
+		assertThat(padding.getPaddedSize(1)).isEqualTo(1);
+		assertThat(padding.getPaddedSize(2)).isEqualTo(2);
+		assertThat(padding.getPaddedSize(3)).isEqualTo(4);
+		assertThat(padding.getPaddedSize(5)).isEqualTo(8);
+		assertThat(padding.getPaddedSize(16)).isEqualTo(16);
+		assertThat(padding.getPaddedSize(17)).isEqualTo(32);
+	}
+
+	@Test
+	void padsToConfiguredBuckets() {
+
+		InParameterPadding padding = InParameterPadding.buckets(50, 10, 100);
+
+		assertThat(padding.getPaddedSize(3)).isEqualTo(10);
+		assertThat(padding.getPaddedSize(10)).isEqualTo(10);
+		assertThat(padding.getPaddedSize(11)).isEqualTo(50);
+		assertThat(padding.getPaddedSize(100)).isEqualTo(100);
+		assertThat(padding.getPaddedSize(101)).isEqualTo(200);
+	}
+
+	@Test
+	void repeatsLastElement() {
+
+		assertThat(InParameterPadding.powerOfTwo().pad(List.of(1, 2, 3))).isEqualTo(List.of(1, 2, 3, 3));
+		assertThat(InParameterPadding.powerOfTwo().pad(Set.of(1))).isEqualTo(Set.of(1));
+	}
+
+	@Test
+	void leavesOtherValuesUntouched() {
+
+		List<Integer> values = List.of(1, 2, 3);
+
+		assertThat(InParameterPadding.none().pad(values)).isSameAs(values);
+		assertThat(InParameterPadding.powerOfTwo().pad(List.of())).isEqualTo(List.of());
+		assertThat(InParameterPadding.powerOfTwo().pad("value")).isEqualTo("value");
+		assertThat(InParameterPadding.powerOfTwo().pad(null)).isNull();
+	}
+
+	@Test
+	void rejectsInvalidBuckets() {
+
+		assertThatIllegalArgumentException().isThrownBy(InParameterPadding::buckets);
+		assertThatIllegalArgumentException().isThrownBy(() -> InParameterPadding.buckets(0, 10));
+	}
+}
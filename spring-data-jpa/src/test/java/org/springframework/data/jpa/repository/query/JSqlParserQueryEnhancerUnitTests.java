@@ -67,6 +67,33 @@ public class JSqlParserQueryEnhancerUnitTests extends QueryEnhancerTckTests {
 		assertThat(sql).startsWith("SELECT count(DISTINCT a.*) FROM TableA a");
 	}
 
+	@Test
+	void repeatedRewritesDoNotAffectEachOther() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.of("SELECT DISTINCT e.name FROM Employee e ORDER BY e.id LIMIT 10", true));
+
+		assertThat(enhancer.applySorting(Sort.by("foo"))).isEqualTo(
+				"SELECT DISTINCT e.name FROM Employee e ORDER BY e.id, e.foo ASC LIMIT 10");
+		assertThat(enhancer.createCountQueryFor()).isEqualTo("SELECT count(DISTINCT e.name) FROM Employee e LIMIT 10");
+		assertThat(enhancer.createCountQueryFor("e.id")).isEqualTo("SELECT DISTINCT count(e.id) FROM Employee e LIMIT 10");
+		assertThat(enhancer.applySorting(Sort.by(Sort.Order.desc("bar").ignoreCase()))).isEqualTo(
+				"SELECT DISTINCT e.name FROM Employee e ORDER BY e.id, lower(e.bar) DESC LIMIT 10");
+		assertThat(enhancer.applySorting(Sort.unsorted()))
+				.isEqualTo("SELECT DISTINCT e.name FROM Employee e ORDER BY e.id LIMIT 10");
+	}
+
+	@Test
+	void rewritesQueriesContainingPlaceholder() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(DeclaredQuery
+				.of("SELECT e.__spring_data_jpa_placeholder__ FROM Employee e ORDER BY e.__spring_data_jpa_placeholder__", true));
+
+		assertThat(enhancer.applySorting(Sort.by("foo"))).isEqualTo(
+				"SELECT e.__spring_data_jpa_placeholder__ FROM Employee e ORDER BY e.__spring_data_jpa_placeholder__, e.foo ASC");
+		assertThat(enhancer.createCountQueryFor()).isEqualTo("SELECT count(e.__spring_data_jpa_placeholder__) FROM Employee e");
+	}
+
 	@Override
 	@ParameterizedTest // GH-2773
 	@MethodSource("jpqlCountQueries")
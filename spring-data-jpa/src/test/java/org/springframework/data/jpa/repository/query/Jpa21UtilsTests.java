@@ -27,8 +27,10 @@ import jakarta.persistence.Subgraph;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
@@ -64,9 +66,8 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(
-				new JpaEntityGraph("name", EntityGraphType.FETCH, new String[] { "roles", "colleagues" }), graph);
+		EntityGraph<?> graph = getFetchGraph(new JpaEntityGraph("name", EntityGraphType.FETCH,
+				new String[] { "roles", "colleagues" }));
 
 		AttributeNode<?> roles = findNode("roles", graph);
 		assertThat(roles).terminatesGraph();
@@ -80,9 +81,8 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(new JpaEntityGraph("name", EntityGraphType.FETCH,
-				new String[] { "roles", "colleagues.roles", "colleagues.colleagues" }), graph);
+		EntityGraph<?> graph = getFetchGraph(new JpaEntityGraph("name", EntityGraphType.FETCH,
+				new String[] { "roles", "colleagues.roles", "colleagues.colleagues" }));
 
 		AttributeNode<?> roles = findNode("roles", graph);
 		assertThat(roles).terminatesGraph();
@@ -97,9 +97,8 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(new JpaEntityGraph("name", EntityGraphType.FETCH,
-				new String[] { "roles", "colleagues.roles", "colleagues.colleagues.roles" }), graph);
+		EntityGraph<?> graph = getFetchGraph(new JpaEntityGraph("name", EntityGraphType.FETCH,
+				new String[] { "roles", "colleagues.roles", "colleagues.colleagues.roles" }));
 
 		AttributeNode<?> roles = findNode("roles", graph);
 		assertThat(roles).terminatesGraph();
@@ -119,9 +118,9 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(new JpaEntityGraph("name", EntityGraphType.FETCH, new String[] { "roles",
-				"colleagues", "colleagues.roles", "colleagues.colleagues", "colleagues.colleagues.roles" }), graph);
+		EntityGraph<?> graph = getFetchGraph(new JpaEntityGraph("name", EntityGraphType.FETCH,
+				new String[] { "roles", "colleagues", "colleagues.roles", "colleagues.colleagues",
+						"colleagues.colleagues.roles" }));
 
 		AttributeNode<?> roles = findNode("roles", graph);
 		assertThat(roles).terminatesGraph();
@@ -141,9 +140,9 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(new JpaEntityGraph("name", EntityGraphType.FETCH, new String[] {
-				"colleagues.colleagues.roles", "roles", "colleagues.colleagues", "colleagues", "colleagues.roles" }), graph);
+		EntityGraph<?> graph = getFetchGraph(new JpaEntityGraph("name", EntityGraphType.FETCH,
+				new String[] { "colleagues.colleagues.roles", "roles", "colleagues.colleagues", "colleagues",
+						"colleagues.roles" }));
 
 		AttributeNode<?> roles = findNode("roles", graph);
 		assertThat(roles).terminatesGraph();
@@ -162,20 +161,79 @@ class Jpa21UtilsTests {
 
 		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
 
-		assertThatExceptionOfType(Exception.class).isThrownBy(() -> Jpa21Utils.configureFetchGraphFrom(
-				new JpaEntityGraph("name", EntityGraphType.FETCH, new String[] { "¯\\_(ツ)_/¯" }),
-				em.createEntityGraph(User.class)));
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> getFetchGraph(
+				new JpaEntityGraph("name", EntityGraphType.FETCH, new String[] { "¯\\_(ツ)_/¯" })));
 	}
 
 	@Test // GH-3682
 	void allowsEmptyGraph() {
 
-		EntityGraph<User> graph = em.createEntityGraph(User.class);
-		Jpa21Utils.configureFetchGraphFrom(new JpaEntityGraph("User.NoNamedEntityGraphAvailable", EntityGraphType.FETCH, new String[0]), graph);
+		EntityGraph<?> graph = getFetchGraph(
+				new JpaEntityGraph("User.NoNamedEntityGraphAvailable", EntityGraphType.FETCH, new String[0]));
 
 		Assertions.assertThat(graph.getAttributeNodes()).isEmpty();
 	}
 
+	@Test
+	void prefersRegisteredNamedGraphOverAttributePaths() {
+
+		EntityGraph<?> graph = getFetchGraph(
+				new JpaEntityGraph("User.overview", EntityGraphType.FETCH, new String[] { "colleagues" }));
+
+		Assertions.assertThat(findNode("roles", graph)).isNotNull();
+		Assertions.assertThat(findNode("colleagues", graph)).isNull();
+	}
+
+	@Test
+	void createsGraphFromAttributePathsForUnregisteredNamesOnEveryLookup() {
+
+		JpaEntityGraph entityGraph = new JpaEntityGraph("User.notRegistered", EntityGraphType.LOAD,
+				new String[] { "roles", "colleagues.roles" });
+
+		EntityGraph<?> first = getFetchGraph(entityGraph);
+		EntityGraph<?> second = getFetchGraph(entityGraph);
+
+		Assertions.assertThat(second).isNotSameAs(first);
+
+		for (EntityGraph<?> graph : List.of(first, second)) {
+			assertThat(findNode("roles", graph)).terminatesGraph();
+			assertThat(findNode("colleagues", graph)).terminatesGraphWith("roles");
+		}
+	}
+
+	@Test
+	void usesNamedGraphRegisteredAfterFailedLookup() {
+
+		assumeThat(currentEntityManagerIsAJpa21EntityManager(em)).isTrue();
+
+		JpaEntityGraph entityGraph = new JpaEntityGraph("User.registeredLater", EntityGraphType.FETCH,
+				new String[] { "colleagues" });
+
+		Assertions.assertThat(findNode("roles", getFetchGraph(entityGraph))).isNull();
+
+		EntityGraph<User> registered = em.createEntityGraph(User.class);
+		registered.addAttributeNodes("roles");
+		em.getEntityManagerFactory().addNamedEntityGraph("User.registeredLater", registered);
+
+		EntityGraph<?> graph = getFetchGraph(entityGraph);
+
+		Assertions.assertThat(findNode("roles", graph)).isNotNull();
+		Assertions.assertThat(findNode("colleagues", graph)).isNull();
+	}
+
+	/**
+	 * Obtains the {@link EntityGraph} contained in the hints created by {@link Jpa21Utils#getFetchGraphHint}.
+	 */
+	private EntityGraph<?> getFetchGraph(JpaEntityGraph entityGraph) {
+
+		Map<String, Object> hints = new HashMap<>();
+		Jpa21Utils.getFetchGraphHint(em, entityGraph, User.class).forEach(hints::put);
+
+		Assertions.assertThat(hints).containsOnlyKeys(entityGraph.getType().getKey());
+
+		return (EntityGraph<?>) hints.get(entityGraph.getType().getKey());
+	}
+
 	/**
 	 * Lookup the {@link AttributeNode} with given {@literal nodeName} in the root of the given {@literal graph}.
 	 */
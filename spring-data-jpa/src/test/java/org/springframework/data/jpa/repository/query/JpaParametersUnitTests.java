@@ -25,6 +25,7 @@ import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.jpa.repository.FullTextSearch;
 import org.springframework.data.jpa.repository.Temporal;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.Repository;
@@ -55,8 +56,33 @@ class JpaParametersUnitTests {
 		assertThat(parameter.isTemporalParameter()).isFalse();
 	}
 
+	@Test
+	void findsFullTextSearchConfiguration() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("search", String.class, String.class, String.class);
+
+		JpaParameters parameters = new JpaParameters(ParametersSource.of(method));
+
+		assertThat(parameters.getBindableParameter(0).getFullTextSearchFunction())
+				.isEqualTo(FullTextSearch.DEFAULT_FUNCTION);
+		assertThat(parameters.getBindableParameter(1).getFullTextSearchFunction()).isEqualTo("custom_match");
+		assertThat(parameters.getBindableParameter(2).getFullTextSearchFunction()).isNull();
+	}
+
+	@Test
+	void rejectsFullTextSearchOnNonStringParameter() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("search", Integer.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new JpaParameters(ParametersSource.of(method)));
+	}
+
 	interface SampleRepository extends Repository<String, String> {
 
 		void foo(@Temporal(TIMESTAMP) Date date, String firstname);
+
+		void search(@FullTextSearch String text, @FullTextSearch(function = "custom_match") String other, String firstname);
+
+		void search(@FullTextSearch Integer number);
 	}
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Unit tests for {@link JpaQueryEvents}.
+ */
+class JpaQueryEventsUnitTests {
+
+	@Test
+	void recordsQueryParseEvents(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("recording.jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(JfrQueryEvents.QueryParseEvent.class).withoutThreshold();
+			recording.start();
+
+			JpaQueryEnhancer.JpqlQueryParser.parseQuery("select u from User u");
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("query")).isEqualTo("select u from User u");
+		assertThat(events.get(0).getBoolean("llFallback")).isFalse();
+		assertThat(Files.size(file)).isPositive();
+	}
+
+	@Test
+	void determinesRowCount() {
+
+		assertThat(JpaQueryEvents.getRowCount(null, false)).isZero();
+		assertThat(JpaQueryEvents.getRowCount(List.of(1, 2, 3), false)).isEqualTo(3);
+		assertThat(JpaQueryEvents.getRowCount(new PageImpl<>(List.of(1, 2), Pageable.ofSize(2), 10), false))
+				.isEqualTo(2);
+		assertThat(JpaQueryEvents.getRowCount(Stream.empty(), false)).isEqualTo(-1);
+		assertThat(JpaQueryEvents.getRowCount(5, true)).isEqualTo(5);
+		assertThat(JpaQueryEvents.getRowCount(5L, false)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.util.ClassPathExclusions;
+
+/**
+ * Unit tests for {@link JpaQueryEvents} on runtimes without Java Flight Recorder. Kept separate from
+ * {@link JpaQueryEventsUnitTests} as this class must not reference {@code jdk.jfr} types.
+ */
+class JpaQueryEventsWithoutJfrUnitTests {
+
+	@Test
+	@ClassPathExclusions(packages = { "jdk.jfr" })
+	void fallsBackToNoOpEventsWithoutJfr() {
+
+		assertThat(JpaQueryEvents.JFR_PRESENT).isFalse();
+		assertThat(JpaQueryEvents.isContextRequired()).isFalse();
+		assertThat(JpaQueryEvents.parse()).isSameAs(JpaQueryEvents.NoOpEvent.INSTANCE);
+		assertThat(JpaQueryEvents.sortRewrite().isEnabled()).isFalse();
+
+		assertThatNoException().isThrownBy(() -> JpaQueryEnhancer.JpqlQueryParser.parseQuery("select u from User u"));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.sample.Role;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link NamedQueryRegistration}.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:infrastructure.xml")
+@Transactional
+class NamedQueryRegistrationIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+
+	private NamedRoleRepository roleRepository;
+	private NamedUserRepository userRepository;
+
+	private Role role;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+
+		JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+		factory.setRegisterNamedQueries(true);
+
+		roleRepository = factory.getRepository(NamedRoleRepository.class);
+		userRepository = factory.getRepository(NamedUserRepository.class);
+
+		role = new Role("admin");
+		user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		em.persist(role);
+		em.persist(user);
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void registersQueriesPerRepositoryInterface() throws Exception {
+
+		assertThatNoException().isThrownBy(() -> {
+
+			em.createNamedQuery(getQueryName(NamedRoleRepository.class, "findByIdentifier", Integer.class, ""));
+			em.createNamedQuery(getQueryName(NamedUserRepository.class, "findByIdentifier", Integer.class, ""));
+			em.createNamedQuery(getQueryName(NamedRoleRepository.class, "findAllPaged", Pageable.class, ".count"));
+		});
+
+		assertThat(getQueryName(NamedRoleRepository.class, "findByIdentifier", Integer.class, ""))
+				.isNotEqualTo(getQueryName(NamedUserRepository.class, "findByIdentifier", Integer.class, ""));
+	}
+
+	@Test
+	void executesRegisteredQueriesOfInheritedQueryMethods() {
+
+		assertThat(roleRepository.findByIdentifier(role.getId())).extracting(Role::getName).containsExactly("admin");
+		assertThat(userRepository.findByIdentifier(user.getId())).extracting(User::getEmailAddress)
+				.containsExactly("dave@dmband.com");
+	}
+
+	@Test
+	void executesRegisteredQueryAndCountQueryForPaging() {
+
+		Page<Role> page = roleRepository.findAllPaged(PageRequest.of(0, 1));
+
+		assertThat(page.getTotalElements()).isOne();
+		assertThat(page.getContent()).extracting(Role::getName).containsExactly("admin");
+
+		Page<User> sorted = userRepository.findAllPaged(PageRequest.of(0, 1, Sort.by("lastname")));
+
+		assertThat(sorted.getTotalElements()).isOne();
+		assertThat(sorted.getContent()).extracting(User::getLastname).containsExactly("Matthews");
+	}
+
+	private String getQueryName(Class<?> repositoryInterface, String methodName, Class<?> parameterType, String suffix)
+			throws NoSuchMethodException {
+
+		JpaQueryMethod method = new JpaQueryMethod(repositoryInterface.getMethod(methodName, parameterType),
+				new DefaultRepositoryMetadata(repositoryInterface), new SpelAwareProxyProjectionFactory(),
+				PersistenceProvider.fromEntityManager(em));
+
+		return NamedQueryRegistration.getQueryName(repositoryInterface, method, suffix);
+	}
+
+	@NoRepositoryBean
+	interface IdentifiedRepository<T> extends Repository<T, Integer> {
+
+		@Query("select e from #{#entityName} e where e.id = ?1")
+		List<T> findByIdentifier(Integer id);
+
+		@Query("select e from #{#entityName} e")
+		Page<T> findAllPaged(Pageable pageable);
+	}
+
+	interface NamedRoleRepository extends IdentifiedRepository<Role> {}
+
+	interface NamedUserRepository extends IdentifiedRepository<User> {}
+}
@@ -42,10 +42,13 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.jpa.repository.Temporal;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.spel.ExpressionDependencies;
 
 /**
  * Unit test for {@link ParameterBinder}.
@@ -100,6 +103,8 @@ class ParameterBinderUnitTests {
 
 		List<User> validWithVarArgs(Integer... ids);
 
+		List<User> validWithCollection(@Param("ids") List<Integer> ids);
+
 		User optionalParameter(Optional<String> name);
 
 		@org.springframework.data.jpa.repository.Query("select x from User where name = :name")
@@ -269,6 +274,61 @@ class ParameterBinderUnitTests {
 		verify(query, never()).setParameter(eq(2), any());
 	}
 
+	@Test
+	void createsSingleEvaluationContextPerInvocation() {
+
+		JpaParameters parameters = createParameters(valid);
+		ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+		ValueEvaluationContextProvider contextProvider = spy(delegate.createValueContextProvider(parameters));
+
+		DeclaredQuery declaredQuery = DeclaredQuery.of(
+				"select u from User u where u.firstname = :#{#username} and u.lastname = :#{#username.toUpperCase()}", false);
+
+		ParameterBinderFactory.createQueryAwareBinder(parameters, declaredQuery, delegate, contextProvider,
+				InParameterPadding.NONE).bind(QueryParameterSetter.BindableQuery.from(query), getAccessor(valid, "Foo"),
+						QueryParameterSetter.ErrorHandling.STRICT);
+
+		verify(query).setParameter(anyString(), eq("Foo"));
+		verify(query).setParameter(anyString(), eq("FOO"));
+		verify(contextProvider).getEvaluationContext(any(), any(ExpressionDependencies.class));
+	}
+
+	@Test
+	void padsCollectionBoundToInParameterOfStringQuery() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("validWithCollection", List.class);
+		JpaParameters parameters = createParameters(method);
+		ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+		DeclaredQuery declaredQuery = DeclaredQuery.of("select u from User u where u.id in :ids", false);
+
+		ParameterBinderFactory
+				.createQueryAwareBinder(parameters, declaredQuery, delegate,
+						delegate.createValueContextProvider(parameters), InParameterPadding.powerOfTwo())
+				.bind(QueryParameterSetter.BindableQuery.from(query), getAccessor(method, List.of(1, 2, 3)),
+						QueryParameterSetter.ErrorHandling.STRICT);
+
+		verify(query).setParameter(eq("ids"), eq(List.of(1, 2, 3, 3)));
+	}
+
+	@Test
+	void doesNotPadCollectionBoundToInParameterWithoutPadding() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("validWithCollection", List.class);
+		JpaParameters parameters = createParameters(method);
+		ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+		DeclaredQuery declaredQuery = DeclaredQuery.of("select u from User u where u.id in :ids", false);
+
+		ParameterBinderFactory
+				.createQueryAwareBinder(parameters, declaredQuery, delegate,
+						delegate.createValueContextProvider(parameters), InParameterPadding.NONE)
+				.bind(QueryParameterSetter.BindableQuery.from(query), getAccessor(method, List.of(1, 2, 3)),
+						QueryParameterSetter.ErrorHandling.STRICT);
+
+		verify(query).setParameter(eq("ids"), eq(List.of(1, 2, 3)));
+	}
+
 	private void bind(Method method, Object[] values) {
 		bind(method, createParameters(method), values);
 	}
@@ -32,6 +32,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.hibernate.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -45,6 +46,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.provider.HibernateUtils;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.FullTextSearch;
 import org.springframework.data.jpa.repository.Temporal;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -199,6 +201,31 @@ class PartTreeJpaQueryIntegrationTests {
 				.withMessageContaining("Collection");
 	}
 
+	@Test
+	void rejectsFullTextSearchWithIgnoreCase() throws Exception {
+
+		JpaQueryMethod method = getQueryMethod("findByLastnameContainingIgnoreCase", String.class);
+
+		assertThatExceptionOfType(RuntimeException.class) //
+				.isThrownBy(() -> new PartTreeJpaQuery(method, entityManager)) //
+				.withMessageContaining("findByLastnameContainingIgnoreCase") //
+				.withMessageContaining("IgnoreCase");
+	}
+
+	@Test
+	void acceptsFullTextSearchWithAllIgnoreCase() throws Exception {
+
+		JpaQueryMethod method = getQueryMethod("findByFirstnameAndLastnameContainingAllIgnoreCase", String.class,
+				String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(method, entityManager);
+
+		Query query = jpaQuery.createQuery(getAccessor(method, new Object[] { "Dave", "Matthews" }));
+
+		assertThat(HibernateUtils.getHibernateQuery(query.unwrap(HIBERNATE_NATIVE_QUERY))) //
+				.containsPattern("upper\\(\\w+\\.firstname\\)") //
+				.containsPattern(FullTextSearch.DEFAULT_FUNCTION + "\\(\\w+\\.lastname");
+	}
+
 	@Test // DATAJPA-1619
 	void acceptsInPredicateWithIterableParameter() throws Exception {
 
@@ -240,6 +267,38 @@ class PartTreeJpaQueryIntegrationTests {
 		new PartTreeJpaQuery(getQueryMethod("findByAttributes", String[].class), entityManager);
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "findByIdIn", "findByIdNotIn" })
+	void padsCollectionParametersOfDerivedInPredicates(String methodName) throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod(methodName, Collection.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager);
+		jpaQuery.setInParameterPadding(InParameterPadding.powerOfTwo());
+
+		Query query = jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1, 2, 3) }));
+
+		assertThat(getParameterValue(query)).asInstanceOf(InstanceOfAssertFactories.COLLECTION).containsExactly(1, 2, 3,
+				3);
+	}
+
+	@Test
+	void doesNotPadCollectionParametersOfDerivedInPredicatesByDefault() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByIdIn", Collection.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager);
+
+		Query query = jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1, 2, 3) }));
+
+		assertThat(getParameterValue(query)).asInstanceOf(InstanceOfAssertFactories.COLLECTION).containsExactly(1, 2, 3);
+	}
+
+	private static Object getParameterValue(Query query) {
+
+		assertThat(query.getParameters()).hasSize(1);
+
+		return query.getParameterValue(query.getParameters().iterator().next());
+	}
+
 	private void testIgnoreCase(String methodName, Object... values) throws Exception {
 
 		Class<?>[] parameterTypes = new Class[values.length];
@@ -303,6 +362,16 @@ class PartTreeJpaQueryIntegrationTests {
 		// should fail, since we can't do an IN on a scalar
 		List<User> findByIdIn(Integer id);
 
+		List<User> findByIdIn(Collection<Integer> ids);
+
+		List<User> findByIdNotIn(Collection<Integer> ids);
+
+		// should fail, since the full-text search function defines case sensitivity
+		List<User> findByLastnameContainingIgnoreCase(@FullTextSearch String lastname);
+
+		List<User> findByFirstnameAndLastnameContainingAllIgnoreCase(String firstname,
+				@FullTextSearch String lastname);
+
 		// should succeed
 		List<User> findByFirstnameIn(Iterable<String> id);
 
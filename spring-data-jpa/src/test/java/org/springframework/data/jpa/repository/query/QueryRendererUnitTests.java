@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.jpa.repository.query.QueryTokens.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.repository.query.QueryRenderer.QueryRendererBuilder;
+
+/**
+ * Unit tests for {@link QueryRenderer}.
+ */
+class QueryRendererUnitTests {
+
+	@Test
+	void rendersNestedRenderersIntoSingleBuffer() {
+
+		QueryRendererBuilder builder = QueryRenderer.builder();
+		builder.append(expression("select"));
+		builder.appendExpression(QueryRendererBuilder.from(expression("e")));
+		builder.append(expression("from"));
+		builder.append(List.of(expression("Employee"), expression("e")));
+		builder.append(TOKEN_ORDER_BY);
+		builder.append(TOKEN_LOWER_FUNC);
+		builder.appendInline(QueryRendererBuilder.from(token("e.name")));
+		builder.append(TOKEN_CLOSE_PAREN);
+
+		assertThat(builder.build().render()).isEqualTo("select e from Employee e order by lower(e.name)");
+		assertThat(builder.build().render(4)).isEqualTo("select e from Employee e order by lower(e.name)");
+	}
+
+	@Test
+	void appendsToExistingContent() {
+
+		StringBuilder buffer = new StringBuilder("prefix:");
+
+		QueryRenderer.from(List.of(expression("a"), expression("b"))).appendTo(buffer);
+
+		assertThat(buffer).hasToString("prefix:a b");
+	}
+
+	@Test
+	void rendersEmptyAndSingleTokenStreams() {
+
+		assertThat(QueryRenderer.empty().render()).isEmpty();
+		assertThat(QueryRenderer.from(token("count(")).render()).isEqualTo("count(");
+		assertThat(QueryRenderer.TokenRenderer.render(QueryRenderer.builder(), 16)).isEmpty();
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.ResultCache;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ */
+class QueryResultCacheUnitTests {
+
+	AtomicInteger executions = new AtomicInteger();
+
+	QueryResultCache cache = new QueryResultCache("findAll", User.class, getConfiguration());
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void cachesResultsPerArguments() {
+
+		Object first = cache.get(new Object[] { "Dave", PageRequest.of(0, 10) }, this::execute);
+
+		assertThat(cache.get(new Object[] { "Dave", PageRequest.of(0, 10) }, this::execute)).isSameAs(first);
+		assertThat(cache.get(new Object[] { "Dave", PageRequest.of(1, 10) }, this::execute)).isNotSameAs(first);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void cachesNullResults() {
+
+		assertThat(cache.get(new Object[] { "Dave" }, () -> {
+			executions.incrementAndGet();
+			return null;
+		})).isNull();
+		assertThat(cache.get(new Object[] { "Dave" }, this::execute)).isNull();
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void bypassesCacheWithinInvalidatingTransaction() {
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		TransactionSynchronizationManager.initSynchronization();
+		cache.invalidate();
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(3);
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(4);
+	}
+
+	@Test
+	void keysArgumentsByContentOfCopies() {
+
+		List<String> names = new ArrayList<>(List.of("Dave"));
+
+		cache.get(new Object[] { names, new String[] { "Matthews" } }, this::execute);
+		names.add("Carter");
+
+		cache.get(new Object[] { List.of("Dave"), new String[] { "Matthews" } }, this::execute);
+		assertThat(executions).hasValue(1);
+
+		cache.get(new Object[] { names, new String[] { "Matthews" } }, this::execute);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void bypassesCacheWithinReadWriteTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(3);
+	}
+
+	@Test
+	void cachesWithinReadOnlyTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void doesNotCacheResultsObtainedConcurrentlyWithInvalidation() {
+
+		cache.get(new Object[] { "Dave" }, () -> {
+			cache.invalidate();
+			return execute();
+		});
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void invalidatesAllCachesOfPersistenceUnit() {
+
+		Metamodel metamodel = getMetamodel(Set.of());
+		QueryResultCache cache = QueryResultCaches.register(metamodel, "findAll", User.class, getConfiguration());
+
+		cache.get(new Object[] { "Dave" }, this::execute);
+		QueryResultCaches.invalidateAll(metamodel);
+		cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void registersCachesForResolvedQueriesOnly() throws Exception {
+
+		Metamodel metamodel = getMetamodel(Set.of());
+		Method method = CachedRepository.class.getMethod("findByFirstname", String.class);
+		AbstractJpaQuery query = mockQuery(method);
+
+		QueryLookupStrategy failing = QueryResultCaches.decorate((m, metadata, factory, namedQueries) -> {
+			throw new IllegalArgumentException("Invalid query");
+		}, metamodel);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> failing.resolveQuery(method, null, null, null));
+		assertThat(QueryResultCaches.getCaches()).extracting(QueryResultCache::getName)
+				.doesNotContain(method.toGenericString());
+
+		QueryResultCaches.decorate((m, metadata, factory, namedQueries) -> query, metamodel).resolveQuery(method, null,
+				null, null);
+
+		verify(query).setResultCache(any(QueryResultCache.class));
+		assertThat(QueryResultCaches.getCaches()).extracting(QueryResultCache::getName)
+				.contains(method.toGenericString());
+	}
+
+	@Test
+	void rejectsQueryMethodsWithEntityParameters() throws Exception {
+
+		Method method = CachedRepository.class.getMethod("findByManager", User.class);
+		AbstractJpaQuery query = mockQuery(method);
+
+		QueryLookupStrategy strategy = QueryResultCaches.decorate((m, metadata, factory, namedQueries) -> query,
+				getMetamodel(Set.of()));
+
+		assertThatIllegalStateException().isThrownBy(() -> strategy.resolveQuery(method, null, null, null))
+				.withMessageContaining("entity parameters");
+		verify(query, never()).setResultCache(any());
+	}
+
+	@Test
+	void cachesDetachedEntitySnapshots() {
+
+		QueryResultCache cache = new QueryResultCache("findAll", User.class, getConfiguration(),
+				getMetamodel(Set.of()));
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		List<?> first = (List<?>) cache.get(new Object[] { "Dave" }, () -> List.of(user));
+		List<?> second = (List<?>) cache.get(new Object[] { "Dave" }, () -> List.of(user));
+		List<?> third = (List<?>) cache.get(new Object[] { "Dave" }, () -> List.of(user));
+
+		assertThat(first).containsExactly(user);
+		assertThat(second).hasSize(1).doesNotContain(user);
+		assertThat(second.get(0)).isNotSameAs(third.get(0)).usingRecursiveComparison().isEqualTo(user);
+
+		user.setFirstname("Carter");
+
+		assertThat(((User) ((List<?>) cache.get(new Object[] { "Dave" }, () -> null)).get(0)).getFirstname())
+				.isEqualTo("Dave");
+	}
+
+	@Test
+	void detachesEntitiesWithinWrappers() {
+
+		QueryResultCache cache = new QueryResultCache("findAll", User.class, getConfiguration(),
+				getMetamodel(Set.of()));
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		cache.get(new Object[] { "page" }, () -> new PageImpl<>(List.of(user), PageRequest.of(0, 10), 1));
+		cache.get(new Object[] { "optional" }, () -> Optional.of(user));
+
+		Page<?> page = (Page<?>) cache.get(new Object[] { "page" }, () -> null);
+		Optional<?> optional = (Optional<?>) cache.get(new Object[] { "optional" }, () -> null);
+
+		assertThat(page.getTotalElements()).isOne();
+		assertThat(page.getContent()).hasSize(1).doesNotContain(user);
+		assertThat(optional).get().isNotSameAs(user).isInstanceOf(User.class);
+	}
+
+	@Test
+	void doesNotCacheEntitiesThatCannotBeDetached() {
+
+		Attribute<?, ?> manager = mock(Attribute.class);
+		when(manager.isAssociation()).thenReturn(true);
+
+		QueryResultCache cache = new QueryResultCache("findAll", User.class, getConfiguration(),
+				getMetamodel(Set.of(manager)));
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		cache.get(new Object[] { "Dave" }, () -> {
+			executions.incrementAndGet();
+			return List.of(user);
+		});
+		cache.get(new Object[] { "Dave" }, () -> {
+			executions.incrementAndGet();
+			return List.of(user);
+		});
+
+		assertThat(executions).hasValue(2);
+		assertThat(cache.getStatistics().size()).isZero();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Metamodel getMetamodel(Set<Attribute<?, ?>> attributes) {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		EntityType<User> type = mock(EntityType.class);
+
+		when(type.getJavaType()).thenReturn(User.class);
+		when(type.getAttributes()).thenReturn((Set) attributes);
+		when(metamodel.getEntities()).thenReturn(Set.of(type));
+
+		return metamodel;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static AbstractJpaQuery mockQuery(Method method) {
+
+		AbstractJpaQuery query = mock(AbstractJpaQuery.class);
+		JpaQueryMethod queryMethod = mock(JpaQueryMethod.class);
+		JpaEntityMetadata entityInformation = mock(JpaEntityMetadata.class);
+
+		when(query.getQueryMethod()).thenReturn(queryMethod);
+		when(queryMethod.getMethod()).thenReturn(method);
+		when(queryMethod.getResultCache()).thenReturn(getConfiguration());
+		when(queryMethod.getEntityInformation()).thenReturn(entityInformation);
+		when(entityInformation.getJavaType()).thenReturn(User.class);
+
+		return query;
+	}
+
+	private Object execute() {
+		return "result-" + executions.incrementAndGet();
+	}
+
+	private static ResultCache getConfiguration() {
+		return AnnotatedElementUtils.findMergedAnnotation(
+				ReflectionUtils.findMethod(QueryResultCacheUnitTests.class, "cachedMethod"), ResultCache.class);
+	}
+
+	@ResultCache(maxSize = 10)
+	void cachedMethod() {}
+
+	interface CachedRepository {
+
+		List<User> findByFirstname(String firstname);
+
+		List<User> findByManager(User manager);
+	}
+}
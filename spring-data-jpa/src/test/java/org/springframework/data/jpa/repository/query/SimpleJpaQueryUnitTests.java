@@ -42,11 +42,13 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.provider.QueryExtractor;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryRewriter;
+import org.springframework.data.jpa.repository.ResultCache;
 import org.springframework.data.jpa.repository.sample.UserRepository;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -274,6 +276,18 @@ class SimpleJpaQueryUnitTests {
 		assertThatIllegalArgumentException().isThrownBy(() -> createJpaQuery(illegalMethod));
 	}
 
+	@Test
+	void rejectsResultCacheForQueriesUsingValueExpressions() throws Exception {
+
+		// just verifying that it doesn't throw an exception
+		createJpaQuery(SampleRepository.class.getMethod("findCachedByLastname", String.class));
+
+		Method illegalMethod = SampleRepository.class.getMethod("findCachedByExpression", String.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> createJpaQuery(illegalMethod))
+				.withMessageContaining("@ResultCache");
+	}
+
 	@Test // DATAJPA-1163
 	void resolvesExpressionInCountQuery() throws Exception {
 
@@ -292,6 +306,80 @@ class SimpleJpaQueryUnitTests {
 		verify(em).createQuery(eq("select count(u.id) from User u"), eq(Long.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void usesRegisteredNamedQueriesForUnsortedExecutions() throws Exception {
+
+		jakarta.persistence.Query namedQuery = mock(jakarta.persistence.Query.class);
+		when(em.createNamedQuery(anyString())).thenReturn(namedQuery);
+
+		EntityManager registrationEm = mock(EntityManager.class);
+		jakarta.persistence.Query registeredQuery = mock(jakarta.persistence.Query.class);
+		TypedQuery<Long> registeredCountQuery = mock(TypedQuery.class);
+		when(emf.createEntityManager()).thenReturn(registrationEm);
+		when(registrationEm.createQuery(anyString())).thenReturn(registeredQuery);
+		when(registrationEm.createQuery(anyString(), eq(Long.class))).thenReturn(registeredCountQuery);
+
+		Method method = UserRepository.class.getMethod("findAllPaged", Pageable.class);
+		JpaQueryMethod queryMethod = new JpaQueryMethod(method, metadata, factory, extractor);
+
+		SimpleJpaQuery jpaQuery = new SimpleJpaQuery(queryMethod, em, "select u from User u", null,
+				QueryRewriter.IdentityQueryRewriter.INSTANCE, ValueExpressionDelegate.create());
+		jpaQuery.registerNamedQueries(SampleRepository.class);
+
+		String queryName = NamedQueryRegistration.getQueryName(SampleRepository.class, queryMethod, "");
+
+		assertThat(queryName).contains(SampleRepository.class.getName());
+		verify(emf).addNamedQuery(queryName, registeredQuery);
+		verify(emf).addNamedQuery(queryName + ".count", registeredCountQuery);
+		verify(registrationEm).close();
+		verify(em, never()).createQuery("select u from User u");
+
+		jpaQuery.createQuery(
+				new JpaParametersParameterAccessor(queryMethod.getParameters(), new Object[] { PageRequest.of(0, 10) }));
+		jpaQuery.createCountQuery(
+				new JpaParametersParameterAccessor(queryMethod.getParameters(), new Object[] { PageRequest.of(0, 10) }));
+
+		verify(em).createNamedQuery(queryName);
+		verify(em).createNamedQuery(queryName + ".count");
+
+		jpaQuery.createQuery(new JpaParametersParameterAccessor(queryMethod.getParameters(),
+				new Object[] { PageRequest.of(0, 10, Sort.by("firstname")) }));
+
+		verify(em).createQuery("select u from User u order by u.firstname asc");
+	}
+
+	@Test
+	void doesNotRegisterNamedQueriesForCustomQueryRewriter() throws Exception {
+
+		Method method = UserRepository.class.getMethod("findAllPaged", Pageable.class);
+		JpaQueryMethod queryMethod = new JpaQueryMethod(method, metadata, factory, extractor);
+
+		SimpleJpaQuery jpaQuery = new SimpleJpaQuery(queryMethod, em, "select u from User u", null,
+				(query, sort) -> query, ValueExpressionDelegate.create());
+		jpaQuery.registerNamedQueries(SampleRepository.class);
+
+		verify(emf, never()).addNamedQuery(anyString(), any());
+		verify(emf, never()).createEntityManager();
+	}
+
+	@Test
+	void fallsBackToQueryStringIfNamedQueryRegistrationFails() throws Exception {
+
+		doThrow(IllegalStateException.class).when(emf).addNamedQuery(anyString(), any());
+
+		Method method = UserRepository.class.getMethod("findAllPaged", Pageable.class);
+		JpaQueryMethod queryMethod = new JpaQueryMethod(method, metadata, factory, extractor);
+
+		SimpleJpaQuery jpaQuery = new SimpleJpaQuery(queryMethod, em, "select u from User u", null,
+				QueryRewriter.IdentityQueryRewriter.INSTANCE, ValueExpressionDelegate.create());
+		jpaQuery.registerNamedQueries(SampleRepository.class);
+		jpaQuery.createQuery(
+				new JpaParametersParameterAccessor(queryMethod.getParameters(), new Object[] { PageRequest.of(0, 10) }));
+
+		verify(em, never()).createNamedQuery(anyString());
+	}
+
 	private AbstractJpaQuery createJpaQuery(Method method) {
 		return createJpaQuery(method, null);
 	}
@@ -341,6 +429,14 @@ class SimpleJpaQueryUnitTests {
 		@Query(value = "select u from User u", countQuery = "select count(u.id) from #{#entityName} u where u.name = :#{#arg0}")
 		List<User> findAllWithBindingsOnlyInCountQuery(String arg0, Pageable pageable);
 
+		@ResultCache
+		@Query("select u from User u where u.lastname = :lastname")
+		List<User> findCachedByLastname(@Param("lastname") String lastname);
+
+		@ResultCache
+		@Query("select u from User u where u.lastname = :#{#lastname.toUpperCase()}")
+		List<User> findCachedByExpression(@Param("lastname") String lastname);
+
 		// Typo in named parameter
 		@Query("select u from User u where u.firstname = :foo")
 		List<User> findByAnnotatedQuery(@Param("param") String param);
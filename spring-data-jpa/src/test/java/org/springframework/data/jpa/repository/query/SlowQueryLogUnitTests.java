@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.Parameter;
+import jakarta.persistence.Query;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.jpa.provider.QueryExtractor;
+
+/**
+ * Unit tests for {@link SlowQueryLog}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SlowQueryLogUnitTests {
+
+	@Mock QueryExtractor extractor;
+	@Mock Query query;
+	@Mock Parameter<String> lastname;
+	@Mock Parameter<String> password;
+
+	SlowQueryLog log = new SlowQueryLog();
+
+	@BeforeEach
+	void setUp() {
+
+		when(extractor.canExtractQuery()).thenReturn(true);
+		when(extractor.extractQueryString(query))
+				.thenReturn("select u from User u where u.lastname = :lastname and u.password = :password order by u.id");
+
+		when(lastname.getName()).thenReturn("lastname");
+		when(password.getName()).thenReturn("password");
+		doReturn(Set.of(lastname)).when(query).getParameters();
+		when(query.isBound(any())).thenReturn(true);
+		when(query.getParameterValue(lastname)).thenReturn("Matthews");
+		when(query.getParameterValue(password)).thenReturn("secret");
+	}
+
+	@Test
+	void describesCapturedQueryWithMaskedParameters() {
+
+		SlowQueryLog.Measurement measurement = log.start("UserRepository.findByLastname", extractor);
+		SlowQueryLog.capture(query);
+		measurement.stop("CollectionExecution", List.of(), false);
+
+		assertThat(measurement.describe("CollectionExecution", List.of(1, 2), false, TimeUnit.SECONDS.toNanos(2)))
+				.isEqualTo("Slow repository query UserRepository.findByLastname took 2000 ms "
+						+ "[execution: CollectionExecution, rows: 2]: select u from User u where u.lastname = :lastname "
+						+ "and u.password = :password order by u.id; parameters: [lastname=******]");
+	}
+
+	@Test
+	void logsParameterValuesUnlessMasked() {
+
+		log.setLogParameterValues(true);
+		log.setMaskedParameters("password");
+
+		doReturn(new LinkedHashSet<>(List.of(lastname, password))).when(query).getParameters();
+
+		SlowQueryLog.Measurement measurement = log.start("UserRepository.findByLastname", extractor);
+		SlowQueryLog.capture(query);
+		measurement.stop("CollectionExecution", null, false);
+
+		assertThat(measurement.describe("CollectionExecution", null, false, 0))
+				.endsWith("parameters: [lastname=Matthews, password=******]");
+	}
+
+	@Test
+	void capturesOnlyWhileMeasuring() {
+
+		SlowQueryLog.capture(query);
+
+		SlowQueryLog.Measurement measurement = log.start("UserRepository.findAll", extractor);
+		measurement.stop("CollectionExecution", null, false);
+
+		assertThat(measurement.describe("CollectionExecution", null, false, 0)).contains("<unavailable>");
+	}
+
+	@Test
+	void skipsUnsampledExecutions() {
+
+		log.setSampleRate(0);
+
+		assertThat(log.start("UserRepository.findAll", extractor)).isNull();
+	}
+}
@@ -40,7 +40,9 @@ import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.sample.Role;
 import org.springframework.data.jpa.domain.sample.SpecialUser;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.FullTextSearch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSaveOperations;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.NativeQuery;
@@ -69,7 +71,7 @@ import org.springframework.transaction.annotation.Transactional;
  * @author Yanming Zhou
  */
 public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User>,
-		UserRepositoryCustom, ListQuerydslPredicateExecutor<User> {
+		JpaSaveOperations<User>, UserRepositoryCustom, ListQuerydslPredicateExecutor<User> {
 
 	/**
 	 * Retrieve users by their lastname. The finder {@literal User.findByLastname} is declared in
@@ -248,6 +250,8 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
 	// DATAJPA-180
 	List<User> findByFirstnameContaining(String firstname);
 
+	List<User> findByLastnameContaining(@FullTextSearch String text);
+
 	@Query(value = "SELECT 1 FROM SD_User", nativeQuery = true)
 	List<Integer> findOnesByNativeQuery();
 
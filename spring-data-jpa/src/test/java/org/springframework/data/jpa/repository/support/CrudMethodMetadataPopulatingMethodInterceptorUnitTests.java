@@ -96,6 +96,19 @@ class CrudMethodMetadataPopulatingMethodInterceptorUnitTests {
 		expectLockModeType(metadata, information, LockModeType.PESSIMISTIC_READ).someOtherMethod();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void exposesCrudMethodMetadataOnlyDuringInvocation() {
+
+		CrudMethodMetadata metadata = new CrudMethodMetadataPostProcessor().getCrudMethodMetadata();
+		when(information.isQueryMethod(any())).thenReturn(false);
+		when(information.getRepositoryInterface()).thenReturn((Class) Sample.class);
+
+		expectLockModeType(metadata, information, LockModeType.OPTIMISTIC).someMethod();
+
+		assertThatIllegalStateException().isThrownBy(metadata::getLockModeType);
+	}
+
 	private Method prepareMethodInvocation(String name) throws Throwable {
 
 		Method method = Sample.class.getMethod(name);
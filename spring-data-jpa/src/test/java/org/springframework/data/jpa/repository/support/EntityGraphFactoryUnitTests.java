@@ -18,6 +18,7 @@ package org.springframework.data.jpa.repository.support;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,6 +92,19 @@ class EntityGraphFactoryUnitTests {
 		verify(one).addAttributeNodes("two");
 	}
 
+	@Test
+	void materializesNewGraphForEachCreationFromCachedDefinition() {
+
+		HashSet<String> properties = new HashSet<>(asList("one.two", "eins"));
+
+		EntityGraphFactory.create(em, DummyEntity.class, properties);
+		EntityGraphFactory.create(em, DummyEntity.class, new HashSet<>(asList("eins", "one.two")));
+
+		verify(em, times(2)).createEntityGraph(DummyEntity.class);
+		verify(entityGraph, times(2)).addSubgraph("one");
+		verify(entityGraph, times(2)).addAttributeNodes("eins");
+	}
+
 	private static class DummyEntity {
 		DummyEntity one;
 		DummyEntity two;
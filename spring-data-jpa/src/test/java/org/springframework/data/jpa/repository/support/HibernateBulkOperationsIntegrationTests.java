@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.Assumptions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.domain.sample.Role;
+import org.springframework.data.jpa.provider.HibernateUtils;
+import org.springframework.data.jpa.repository.JpaBulkOperations;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.util.DisabledOnHibernate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link HibernateBulkOperations}.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:infrastructure.xml")
+@Transactional
+class HibernateBulkOperationsIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+	@Autowired PlatformTransactionManager transactionManager;
+
+	RoleBulkRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+		factory.setBulkOperationsBatchSize(2);
+
+		repository = factory.getRepository(RoleBulkRepository.class);
+	}
+
+	@Test
+	void insertsEntitiesWithinTransaction() {
+
+		List<Role> roles = List.of(new Role("bulk-1"), new Role("bulk-2"), new Role("bulk-3"));
+
+		repository.insertAll(roles);
+
+		assertThat(roles).extracting(Role::getId).doesNotContainNull();
+		assertThat(roles).noneMatch(em::contains);
+		assertThat(repository.findAll()).extracting(Role::getName).contains("bulk-1", "bulk-2", "bulk-3");
+	}
+
+	@Test
+	void updatesEntitiesWithoutLoadingThem() {
+
+		List<Role> roles = repository.saveAllAndFlush(List.of(new Role("bulk-1"), new Role("bulk-2"), new Role("bulk-3")));
+		em.clear();
+
+		roles.forEach(it -> ReflectionTestUtils.setField(it, "name", it.getName() + "-updated"));
+
+		repository.updateAll(roles);
+		em.clear();
+
+		assertThat(repository.findAllById(roles.stream().map(Role::getId).toList())).extracting(Role::getName)
+				.containsExactlyInAnyOrder("bulk-1-updated", "bulk-2-updated", "bulk-3-updated");
+	}
+
+	@Test
+	@DisabledOnHibernate(value = "6.2", disabledReason = "Upserts require Hibernate 6.3")
+	void upsertsEntities() {
+
+		Role existing = repository.saveAndFlush(new Role("bulk-1"));
+		em.clear();
+
+		ReflectionTestUtils.setField(existing, "name", "bulk-1-updated");
+
+		Role added = new Role("bulk-2");
+		ReflectionTestUtils.setField(added, "id", existing.getId() + 4711);
+
+		repository.upsertAll(List.of(existing, added));
+		em.clear();
+
+		assertThat(repository.findById(existing.getId())).map(Role::getName).contains("bulk-1-updated");
+		assertThat(repository.findById(added.getId())).map(Role::getName).contains("bulk-2");
+	}
+
+	@Test
+	void rejectsUpsertsOnHibernateVersionsWithoutUpsertSupport() {
+
+		assumeThat(HibernateUtils.supportsUpsert()).isFalse();
+
+		Role role = new Role("bulk-1");
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> repository.upsertAll(List.of(role)));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> HibernateUtils.doInStatelessSession(em, session -> {
+
+					HibernateUtils.upsert(session, role);
+					return null;
+				}));
+	}
+
+	@Test
+	void streamsDetachedEntitiesWithinTransaction() {
+
+		repository.saveAllAndFlush(List.of(new Role("bulk-1"), new Role("bulk-2")));
+
+		List<Role> roles;
+
+		try (Stream<Role> stream = repository.streamAll()) {
+			roles = stream.toList();
+		}
+
+		assertThat(roles).extracting(Role::getName).contains("bulk-1", "bulk-2");
+		assertThat(roles).noneMatch(em::contains);
+	}
+
+	@Test
+	void keepsPendingChangesOfManagedEntitiesWhenStreaming() {
+
+		Role role = repository.saveAndFlush(new Role("bulk-1"));
+		ReflectionTestUtils.setField(role, "name", "bulk-changed");
+
+		try (Stream<Role> stream = repository.streamAll()) {
+			assertThat(stream).extracting(Role::getName).contains("bulk-changed").doesNotContain("bulk-1");
+		}
+
+		assertThat(em.contains(role)).isTrue();
+
+		em.flush();
+		em.clear();
+
+		assertThat(repository.findById(role.getId())).map(Role::getName).hasValue("bulk-changed");
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void insertsAndStreamsEntitiesWithoutTransaction() {
+
+		List<Role> roles = List.of(new Role("bulk-1"), new Role("bulk-2"), new Role("bulk-3"));
+
+		try {
+
+			repository.insertAll(roles);
+
+			try (Stream<Role> stream = repository.streamAll()) {
+				assertThat(stream).extracting(Role::getName).contains("bulk-1", "bulk-2", "bulk-3");
+			}
+		} finally {
+			new TransactionTemplate(transactionManager)
+					.executeWithoutResult(status -> repository.deleteAllByIdInBatch(roles.stream().map(Role::getId).toList()));
+		}
+	}
+
+	interface RoleBulkRepository extends JpaRepository<Role, Integer>, JpaBulkOperations<Role> {}
+}
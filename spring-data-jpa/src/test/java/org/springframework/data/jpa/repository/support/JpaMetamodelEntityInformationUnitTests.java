@@ -96,4 +96,16 @@ class JpaMetamodelEntityInformationUnitTests {
 		when(persistenceUnit.getIdentifier(entity)).thenReturn(2L);
 		assertThat(information.getId(entity)).isNotNull();
 	}
+
+	@Test
+	void readsCompositeIdAttributeValues() {
+
+		JpaMetamodelEntityInformation<PersistableWithIdClass, Serializable> information = new JpaMetamodelEntityInformation<>(
+				PersistableWithIdClass.class, em.getMetamodel(), em.getEntityManagerFactory().getPersistenceUnitUtil());
+
+		PersistableWithIdClassPK id = new PersistableWithIdClassPK(1L, 2L);
+
+		assertThat(information.getCompositeIdAttributeValue(id, "first")).isEqualTo(1L);
+		assertThat(information.getCompositeIdAttributeValue(id, "second")).isEqualTo(2L);
+	}
 }
@@ -36,16 +36,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.aop.framework.Advised;
-import org.springframework.core.OverridingClassLoader;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.JpaBulkOperations;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.custom.CustomGenericJpaRepositoryFactory;
 import org.springframework.data.jpa.repository.custom.UserCustomExtendedRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ClassUtils;
 
 /**
  * Unit test for {@code JpaRepositoryFactory}.
@@ -156,14 +155,11 @@ class JpaRepositoryFactoryUnitTests {
 		assertThat(((Advised) repository).getTargetClass()).isEqualTo(CustomJpaRepository.class);
 	}
 
-	@Test // DATAJPA-819
-	void crudMethodMetadataPostProcessorUsesBeanClassLoader() {
-
-		ClassLoader classLoader = new OverridingClassLoader(ClassUtils.getDefaultClassLoader());
-		factory.setBeanClassLoader(classLoader);
-		Object processor = ReflectionTestUtils.getField(factory, "crudMethodMetadataPostProcessor");
+	@Test
+	void rejectsBulkOperationsForNonHibernateProvider() {
 
-		assertThat(ReflectionTestUtils.getField(processor, "classLoader")).isEqualTo((Object) classLoader);
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> factory.getRepository(BulkSampleRepository.class));
 	}
 
 	private interface SimpleSampleRepository extends JpaRepository<User, Integer> {
@@ -189,6 +185,8 @@ class JpaRepositoryFactoryUnitTests {
 
 	}
 
+	private interface BulkSampleRepository extends SimpleSampleRepository, JpaBulkOperations<User> {}
+
 	private interface QueryDslSampleRepository extends SimpleSampleRepository, QuerydslPredicateExecutor<User> {
 
 	}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.support.NPlusOneQueryDetector.Action;
+import org.springframework.data.jpa.repository.support.NPlusOneQueryDetector.Scope;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link NPlusOneQueryDetector}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NPlusOneQueryDetectorUnitTests {
+
+	@Mock RepositoryInformation information;
+	@Mock MethodInvocation invocation;
+
+	NPlusOneQueryDetector detector;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(UserRepository.class).when(information).getRepositoryInterface();
+		when(invocation.getMethod()).thenReturn(ReflectionUtils.findMethod(UserRepository.class, "findAll"));
+
+		detector = new NPlusOneQueryDetector();
+		detector.setAction(Action.THROW);
+		detector.setRepetitionThreshold(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void rejectsStatementsRepeatedWithDifferentIdentifiers() throws Throwable {
+
+		when(invocation.proceed()).then(it -> {
+
+			for (int i = 0; i < 3; i++) {
+				StatementRecorder.record("select a from address a where a.user_id=" + i);
+			}
+			return null;
+		});
+
+		MethodInterceptor interceptor = detector.createInterceptor(information);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> interceptor.invoke(invocation))
+				.withMessageContaining("UserRepository.findAll executed 3 times: select a from address a where a.user_id=?");
+		assertThat(StatementRecorder.current()).isNull();
+	}
+
+	@Test
+	void acceptsStatementsWithinThreshold() throws Throwable {
+
+		when(invocation.proceed()).then(it -> {
+
+			StatementRecorder.record("select u from users u where u.id=?");
+			StatementRecorder.record("select u from users u where u.id=?");
+			StatementRecorder.record("select a from address a where a.id=?");
+			return "result";
+		});
+
+		assertThat(detector.createInterceptor(information).invoke(invocation)).isEqualTo("result");
+	}
+
+	@Test
+	void rejectsExceedingTotalStatements() throws Throwable {
+
+		detector.setStatementThreshold(1);
+
+		when(invocation.proceed()).then(it -> {
+
+			StatementRecorder.record("select u from users u");
+			StatementRecorder.record("select a from address a");
+			return null;
+		});
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> detector.createInterceptor(information).invoke(invocation))
+				.withMessageContaining("2 statements executed exceeding the threshold of 1");
+	}
+
+	@Test
+	void countsStatementsPerTransaction() throws Throwable {
+
+		detector.setScope(Scope.TRANSACTION);
+		TransactionSynchronizationManager.initSynchronization();
+
+		when(invocation.proceed()).then(it -> {
+
+			StatementRecorder.record("select u from users u");
+			return null;
+		});
+
+		detector.createInterceptor(information).invoke(invocation);
+
+		// lazy loading after the repository method returned
+		for (int i = 0; i < 3; i++) {
+			StatementRecorder.record("select a from address a where a.user_id=" + i);
+		}
+
+		TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> synchronization.beforeCommit(false))
+				.withMessageContaining("UserRepository.findAll executed 3 times");
+
+		synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(StatementRecorder.current()).isNull();
+	}
+
+	@Test
+	void attributesStatementsAfterSequentialInvocationsToLastInvocation() throws Throwable {
+
+		detector.setScope(Scope.TRANSACTION);
+		TransactionSynchronizationManager.initSynchronization();
+
+		MethodInterceptor interceptor = detector.createInterceptor(information);
+
+		interceptor.invoke(invocation);
+
+		when(invocation.getMethod()).thenReturn(ReflectionUtils.findMethod(UserRepository.class, "flush"));
+		interceptor.invoke(invocation);
+
+		// lazy loading after both repository methods returned
+		for (int i = 0; i < 3; i++) {
+			StatementRecorder.record("select a from address a where a.user_id=" + i);
+		}
+
+		TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> synchronization.beforeCommit(false))
+				.withMessageContaining("UserRepository.flush executed 3 times");
+
+		synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+	}
+
+	@Test
+	void attributesStatementsToOuterInvocationAfterNestedInvocationReturned() throws Throwable {
+
+		MethodInterceptor interceptor = detector.createInterceptor(information);
+		MethodInvocation nested = mock(MethodInvocation.class);
+
+		when(nested.getMethod()).thenReturn(ReflectionUtils.findMethod(UserRepository.class, "flush"));
+		when(invocation.proceed()).then(it -> {
+
+			interceptor.invoke(nested);
+
+			for (int i = 0; i < 3; i++) {
+				StatementRecorder.record("select a from address a where a.user_id=" + i);
+			}
+			return null;
+		});
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> interceptor.invoke(invocation))
+				.withMessageContaining("UserRepository.findAll executed 3 times");
+	}
+
+	@Test
+	void ignoresStatementsOutsideOfRecording() {
+
+		StatementRecorder.record("select u from users u");
+
+		assertThat(StatementRecorder.current()).isNull();
+	}
+
+	@Test
+	void normalizesLiterals() {
+
+		assertThat(StatementRecorder.normalize("select t1_0.id from users t1_0 where t1_0.id=42 and t1_0.name='O''Neil'"))
+				.isEqualTo("select t1_0.id from users t1_0 where t1_0.id=? and t1_0.name=?");
+		assertThat(StatementRecorder.normalize("select a from b where c in (1.5, 2)"))
+				.isEqualTo("select a from b where c in (?, ?)");
+	}
+
+	interface UserRepository extends JpaRepository<User, Integer> {}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PropertyPathAccessor}.
+ */
+class PropertyPathAccessorUnitTests {
+
+	@Test
+	void readsPropertyThroughGetter() {
+
+		Person person = new Person("Dave", null);
+
+		assertThat(PropertyPathAccessor.of(Person.class, "name").getValue(person)).isEqualTo("DAVE");
+	}
+
+	@Test
+	void readsPropertyThroughFieldIfGetterIsMissing() {
+
+		Person person = new Person("Dave", new Address("Dresden"));
+
+		assertThat(PropertyPathAccessor.of(Person.class, "address.city").getValue(person)).isEqualTo("Dresden");
+	}
+
+	@Test
+	void returnsNullForNullIntermediateProperty() {
+
+		Person person = new Person("Dave", null);
+
+		assertThat(PropertyPathAccessor.of(Person.class, "address.city").getValue(person)).isNull();
+	}
+
+	@Test
+	void readsPropertyOfSubtype() {
+
+		Person person = new Employee("Dave", null, 42);
+
+		assertThat(PropertyPathAccessor.of(Employee.class, "salary").getValue(person)).isEqualTo(42);
+		assertThat(PropertyPathAccessor.of(Employee.class, "name").getValue(person)).isEqualTo("DAVE");
+	}
+
+	static class Person {
+
+		private final String name;
+		private final Address address;
+
+		Person(String name, Address address) {
+			this.name = name;
+			this.address = address;
+		}
+
+		public String getName() {
+			return name.toUpperCase();
+		}
+	}
+
+	static class Employee extends Person {
+
+		private final int salary;
+
+		Employee(String name, Address address, int salary) {
+			super(name, address);
+			this.salary = salary;
+		}
+	}
+
+	static class Address {
+
+		private final String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+}
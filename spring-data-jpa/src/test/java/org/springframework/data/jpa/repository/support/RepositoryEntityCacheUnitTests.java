@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.EntityCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link RepositoryEntityCache}.
+ */
+class RepositoryEntityCacheUnitTests {
+
+	AtomicLong clock = new AtomicLong();
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		new ArrayList<>(TransactionSynchronizationManager.getResourceMap().keySet())
+				.forEach(TransactionSynchronizationManager::unbindResource);
+	}
+
+	@Test
+	void cachesEntitiesById() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		assertThat(cache.get(1)).isNull();
+
+		cache.put(1, user);
+
+		assertThat(cache.get(1)).isNotSameAs(user).satisfies(it -> {
+			assertThat(it.getFirstname()).isEqualTo("Dave");
+			assertThat(it.getEmailAddress()).isEqualTo("dave@dmband.com");
+		});
+		assertThat(cache.getStatistics().hits()).isOne();
+		assertThat(cache.getStatistics().misses()).isOne();
+		assertThat(cache.getStatistics().hitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 2, 0, TimeUnit.SECONDS);
+
+		cache.put(1, new User());
+		cache.put(2, new User());
+		cache.get(1);
+		cache.put(3, new User());
+
+		assertThat(cache.get(1)).isNotNull();
+		assertThat(cache.get(2)).isNull();
+		assertThat(cache.get(3)).isNotNull();
+		assertThat(cache.getStatistics().evictions()).isOne();
+	}
+
+	@Test
+	void containmentCheckDoesNotRecordStatisticsOrAccess() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 2, 0, TimeUnit.SECONDS);
+
+		cache.put(1, new User());
+		cache.put(2, new User());
+
+		assertThat(cache.contains(1)).isTrue();
+		assertThat(cache.contains(3)).isFalse();
+		assertThat(cache.getStatistics().hits()).isZero();
+		assertThat(cache.getStatistics().misses()).isZero();
+
+		cache.put(3, new User());
+
+		assertThat(cache.contains(1)).isFalse();
+		assertThat(cache.contains(2)).isTrue();
+	}
+
+	@Test
+	void expiresEntries() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 5, TimeUnit.NANOSECONDS,
+				clock::get);
+
+		cache.put(1, new User());
+		clock.addAndGet(4);
+
+		assertThat(cache.get(1)).isNotNull();
+
+		clock.addAndGet(1);
+
+		assertThat(cache.get(1)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsImmediatelyAndAfterTransactionCompletion() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+		cache.put(1, new User());
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(1);
+
+		assertThat(cache.get(1)).isNull();
+
+		cache.put(1, new User());
+
+		assertThat(cache.get(1)).describedAs("Population suspended within the evicting transaction").isNull();
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		cache.put(1, new User());
+
+		assertThat(cache.get(1)).isNotNull();
+	}
+
+	@Test
+	void evictAllClearsCache() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+		cache.put(1, new User());
+		cache.put(2, new User());
+
+		cache.evictAll();
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void returnsDetachedSnapshots() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		cache.put(1, user);
+		user.setFirstname("Changed");
+
+		User first = cache.get(1);
+		first.setLastname("Changed");
+
+		assertThat(first).isNotSameAs(cache.get(1));
+		assertThat(cache.get(1).getFirstname()).isEqualTo("Dave");
+		assertThat(cache.get(1).getLastname()).isEqualTo("Matthews");
+	}
+
+	@Test
+	void populatesCacheWithStateAfterCommit() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.put(1, user);
+		user.setFirstname("Changed");
+
+		assertThat(cache.get(1)).isNull();
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(cache.get(1).getFirstname()).isEqualTo("Changed");
+	}
+
+	@Test
+	void discardsPopulationOnRollback() {
+
+		RepositoryEntityCache<User> cache = new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.put(1, new User());
+
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(cache.get(1)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void rejectsEntitiesWithAssociations() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		ManagedType<User> type = mock(ManagedType.class);
+		Attribute<User, ?> manager = mock(Attribute.class);
+
+		when(metamodel.managedType(User.class)).thenReturn(type);
+		when(type.getJavaType()).thenReturn(User.class);
+		when(type.getAttributes()).thenReturn((Set) Set.of(manager));
+		when(manager.getName()).thenReturn("manager");
+		when(manager.isAssociation()).thenReturn(true);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RepositoryEntityCaches.getOrCreate(metamodel, User.class,
+						CachedRepository.class.getAnnotation(EntityCache.class)))
+				.withMessageContaining(User.class.getName()).withMessageContaining("manager");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void sharesCacheOfRepositoriesWithSameConfiguration() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		ManagedType<User> type = mock(ManagedType.class);
+
+		when(metamodel.managedType(User.class)).thenReturn(type);
+		when(type.getAttributes()).thenReturn(Set.of());
+
+		RepositoryEntityCache<User> cache = RepositoryEntityCaches.getOrCreate(metamodel, User.class,
+				CachedRepository.class.getAnnotation(EntityCache.class));
+
+		assertThat(RepositoryEntityCaches.getOrCreate(metamodel, User.class,
+				OtherCachedRepository.class.getAnnotation(EntityCache.class))).isSameAs(cache);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rejectsConflictingConfigurationForSameType() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		ManagedType<User> type = mock(ManagedType.class);
+
+		when(metamodel.managedType(User.class)).thenReturn(type);
+		when(type.getAttributes()).thenReturn(Set.of());
+
+		RepositoryEntityCaches.getOrCreate(metamodel, User.class, CachedRepository.class.getAnnotation(EntityCache.class));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RepositoryEntityCaches.getOrCreate(metamodel, User.class,
+						ExpiringCachedRepository.class.getAnnotation(EntityCache.class)))
+				.withMessageContaining(User.class.getName());
+	}
+
+	@EntityCache
+	interface CachedRepository {}
+
+	@EntityCache(maxSize = 1000)
+	interface OtherCachedRepository {}
+
+	@EntityCache(timeToLive = 10)
+	interface ExpiringCachedRepository {}
+
+	private static void completeTransaction(int status) {
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.afterCompletion(status));
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
@@ -32,6 +32,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -48,8 +49,10 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.SaveMode;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link SimpleJpaRepository}.
@@ -223,6 +226,138 @@ class SimpleJpaRepositoryUnitTests {
 		verify(metadata).getQueryHintsForCount();
 	}
 
+	@Test
+	void servesFindByIdFromEntityCache() {
+
+		User user = new User();
+		user.setId(23);
+
+		when(em.find(User.class, 23)).thenReturn(user);
+		repo.setEntityCache(new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS));
+
+		assertThat(repo.findById(23)).containsSame(user);
+		assertThat(repo.findById(23)).hasValueSatisfying(it -> {
+			assertThat(it).isNotSameAs(user);
+			assertThat(it.getId()).isEqualTo(23);
+		});
+		assertThat(repo.existsById(23)).isTrue();
+
+		verify(em, times(1)).find(User.class, 23);
+	}
+
+	@Test
+	void bypassesEntityCacheWithinTransaction() {
+
+		User user = new User();
+		user.setId(23);
+
+		when(em.find(User.class, 23)).thenReturn(user);
+		repo.setEntityCache(new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS));
+
+		repo.findById(23);
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+			assertThat(repo.findById(23)).containsSame(user);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		verify(em, times(2)).find(User.class, 23);
+	}
+
+	@Test
+	void bypassesEntityCacheWhileEntityManagerIsBound() {
+
+		User user = new User();
+		user.setId(23);
+
+		when(em.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+		when(em.find(User.class, 23)).thenReturn(user);
+		repo.setEntityCache(new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS));
+
+		repo.findById(23);
+
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, em);
+
+		try {
+			assertThat(repo.findById(23)).containsSame(user);
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+		}
+
+		verify(em, times(2)).find(User.class, 23);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void bypassesEntityCacheForFetchGraphs() throws Exception {
+
+		User user = new User();
+		user.setId(23);
+
+		when(em.find(User.class, 23)).thenReturn(user);
+		when(em.find(eq(User.class), eq(23), anyMap())).thenReturn(user);
+		when(metadata.getEntityGraph()).thenReturn(Optional.of(entityGraphAnnotation));
+		when(entityGraphAnnotation.type()).thenReturn(EntityGraphType.FETCH);
+		when(entityGraphAnnotation.value()).thenReturn("User.detail");
+		when(em.getEntityGraph("User.detail")).thenReturn((EntityGraph) entityGraph);
+		when(information.getEntityName()).thenReturn("User");
+		when(metadata.getMethod()).thenReturn(CrudRepository.class.getMethod("findById", Object.class));
+		repo.setEntityCache(new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS));
+
+		repo.findById(23);
+		repo.findById(23);
+
+		verify(em, times(2)).find(eq(User.class), eq(23), anyMap());
+		verify(em, never()).find(User.class, 23);
+	}
+
+	@Test
+	void saveEvictsEntityFromCache() {
+
+		User user = new User();
+		user.setId(23);
+
+		when(information.getId(user)).thenReturn(23);
+		when(em.find(User.class, 23)).thenReturn(user);
+		repo.setEntityCache(new RepositoryEntityCache<>(User.class, 10, 0, TimeUnit.SECONDS));
+
+		repo.findById(23);
+		repo.save(user);
+		repo.findById(23);
+
+		verify(em, times(2)).find(User.class, 23);
+	}
+
+	@Test
+	void saveWithUpdateModePersistsNewEntities() {
+
+		User user = new User();
+		when(information.isNew(user)).thenReturn(true);
+
+		assertThat(repo.save(user, SaveMode.UPDATE)).isSameAs(user);
+
+		verify(em).persist(user);
+		verify(em, never()).merge(any());
+	}
+
+	@Test
+	void saveWithUpsertModeFallsBackToMergeIfProviderCannotWriteDetachedEntities() {
+
+		User user = new User();
+		User merged = new User();
+		user.setId(23);
+
+		when(information.getId(user)).thenReturn(23);
+		when(em.merge(user)).thenReturn(merged);
+
+		repo.setSaveMode(SaveMode.UPSERT);
+
+		assertThat(repo.save(user)).isSameAs(merged);
+	}
+
 	@ParameterizedTest // GH-3188
 	@MethodSource("modifyingMethods")
 	void checkTransactionalAnnotation(Method method) {
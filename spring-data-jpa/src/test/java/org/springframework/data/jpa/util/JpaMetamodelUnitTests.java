@@ -85,6 +85,21 @@ class JpaMetamodelUnitTests {
 		assertThat(model.isMappedType(Inner.class)).isFalse();
 	}
 
+	@Test
+	void indexesEntityTypesOnFirstLookup() {
+
+		JpaMetamodel model = JpaMetamodel.of(metamodel);
+
+		EntityType<?> entity = getEntity(Wrapper.class);
+		doReturn(Collections.singleton(entity)).when(metamodel).getEntities();
+
+		assertThat(model.getEntityType(Wrapper.class)).isSameAs(entity);
+		assertThat(model.getEntityType(Inner.class)).isNull();
+		assertThat(model.isSingleIdAttribute(Wrapper.class, "id", Long.class)).isFalse();
+
+		verify(metamodel, times(1)).getEntities();
+	}
+
 	private EmbeddableType<?> getEmbeddable(Class<?> type) {
 
 		EmbeddableType<?> managedType = getManagedType(type, EmbeddableType.class);